@@ -0,0 +1,242 @@
+package one.axim.gradle.benchmark;
+
+import one.axim.gradle.data.APIDefinition;
+import one.axim.gradle.data.APIField;
+import one.axim.gradle.data.APIModelDefinition;
+import one.axim.gradle.data.APIParameter;
+import one.axim.gradle.data.APIParameterKind;
+import one.axim.gradle.data.DocumentModel;
+import one.axim.gradle.data.ServiceDefinition;
+import one.axim.gradle.utils.DocumentFormat;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 합성 픽스처. 모든 픽스처는 {@code size}에 비례하여 커진다.
+ */
+final class Fixtures {
+
+    static final String PACKAGE = "com.example.bench";
+    static final String CONTROLLER = PACKAGE + ".BenchController";
+
+    private Fixtures() {
+    }
+
+    /**
+     * 서비스 정의.
+     */
+    static ServiceDefinition service() {
+        ServiceDefinition sd = new ServiceDefinition();
+        sd.setServiceId("bench-service");
+        sd.setName("Bench Service");
+        sd.setVersion("v1");
+        sd.setApiServerUrl("https://api.example.com");
+        return sd;
+    }
+
+    /**
+     * {@code size}개의 API(10개씩 한 그룹)와 {@code size}개의 모델을 가진 문서 모델.
+     * 모델은 다음 모델을 참조하는 체인이고, 세 번째 모델마다 enum이다.
+     */
+    static DocumentModel document(int size) {
+        DocumentModel document = new DocumentModel();
+        for (int i = 0; i < size; i++) {
+            document.putModel(model(i), i % 3 == 2 ? enumModel(i) : objectModel(i, size));
+        }
+
+        Map<String, List<APIDefinition>> controllers = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String controller = PACKAGE + ".Controller" + (i / 10);
+            controllers.computeIfAbsent(controller, k -> new ArrayList<>()).add(api(i, size));
+        }
+        for (Map.Entry<String, List<APIDefinition>> controller : controllers.entrySet()) {
+            document.putApis(controller.getKey(), controller.getValue());
+        }
+        return document;
+    }
+
+    /**
+     * 문서 모델의 모델을 {@code docDir/model}에 JSON으로 기록한다. (디스크의 모델을 읽는 Postman 변환용)
+     */
+    static void writeModels(DocumentModel document, File docDir) throws IOException {
+        File modelDir = new File(docDir, "model");
+        modelDir.mkdirs();
+        for (Map.Entry<String, APIModelDefinition> model : document.getModels().entrySet()) {
+            DocumentFormat.JSON.write(model.getValue(), DocumentFormat.JSON.file(modelDir, model.getKey()));
+        }
+    }
+
+    /**
+     * Javadoc이 달린 필드 {@code size}개와 메서드 {@code size}개를 가진 컨트롤러 소스를 {@code sourceRoot}에 쓴다.
+     *
+     * @return 소스 파일
+     */
+    static File writeControllerSource(File sourceRoot, int size) throws IOException {
+        StringBuilder src = new StringBuilder();
+        src.append("package ").append(PACKAGE).append(";\n\n");
+        src.append("/**\n * 벤치마크 컨트롤러.\n */\n");
+        src.append("public class BenchController {\n\n");
+        for (int i = 0; i < size; i++) {
+            src.append("    /** 필드 ").append(i).append(" 설명 */\n");
+            src.append("    private String field").append(i).append(";\n\n");
+        }
+        for (int i = 0; i < size; i++) {
+            src.append("    /**\n");
+            src.append("     * 메서드 ").append(i).append(" 설명.\n");
+            src.append("     *\n");
+            src.append("     * @param id 식별자\n");
+            src.append("     * @param name 이름\n");
+            src.append("     * @return 결과\n");
+            src.append("     */\n");
+            src.append("    public String method").append(i).append("(Long id, String name) {\n");
+            src.append("        return name + id;\n");
+            src.append("    }\n\n");
+        }
+        src.append("}\n");
+
+        File file = new File(sourceRoot, CONTROLLER.replace('.', File.separatorChar) + ".java");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), src.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * 소스를 컴파일하여 {@link #CONTROLLER} 클래스를 로드한다.
+     */
+    static Class<?> compileController(File source, File classesDir) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Benchmarks require a JDK (javax.tools compiler)");
+        }
+        classesDir.mkdirs();
+        int result = compiler.run(null, null, null, "-encoding", "UTF-8", "-d", classesDir.getPath(), source.getPath());
+        if (result != 0) {
+            throw new IllegalStateException("Cannot compile " + source);
+        }
+        URLClassLoader loader = new URLClassLoader(new URL[]{classesDir.toURI().toURL()}, Fixtures.class.getClassLoader());
+        return loader.loadClass(CONTROLLER);
+    }
+
+    /**
+     * {@code size}개의 하위 프로젝트를 가진 Gradle 프로젝트 트리. 모든 프로젝트에 {@code java} 플러그인을 적용한다.
+     *
+     * @return 마지막 하위 프로젝트. {@code src/main/java}가 있으며 소스 탐색의 최악 경우가 된다.
+     */
+    static Project projectTree(File rootDir, int size) {
+        Project root = ProjectBuilder.builder().withProjectDir(rootDir).withName("bench").build();
+        root.getPluginManager().apply("java");
+        Project last = root;
+        for (int i = 0; i < size; i++) {
+            File dir = new File(rootDir, "module" + i);
+            new File(dir, "src/main/java").mkdirs();
+            last = ProjectBuilder.builder().withParent(root).withProjectDir(dir).withName("module" + i).build();
+            last.getPluginManager().apply("java");
+        }
+        return last;
+    }
+
+    static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    // --- helpers ---
+
+    private static String model(int i) {
+        return PACKAGE + ".Model" + i;
+    }
+
+    private static APIModelDefinition objectModel(int i, int size) {
+        List<APIField> fields = new ArrayList<>();
+        fields.add(field("id", "Long", "java.lang.Long"));
+        fields.add(field("name", "String", "java.lang.String"));
+        fields.add(field("createdAt", "LocalDateTime", "java.time.LocalDateTime"));
+        fields.add(field("tags", "List", "java.util.List<java.lang.String>"));
+        if (i + 1 < size) {
+            fields.add(field("next", "Object", model(i + 1)));
+        }
+
+        APIModelDefinition model = new APIModelDefinition();
+        model.setName("Model" + i);
+        model.setType("Object");
+        model.setDescription("모델 " + i);
+        model.setFields(fields);
+        return model;
+    }
+
+    private static APIModelDefinition enumModel(int i) {
+        List<APIField> fields = new ArrayList<>();
+        for (String constant : new String[]{"ACTIVE", "INACTIVE", "DELETED"}) {
+            fields.add(field(constant, "Enum", model(i)));
+        }
+
+        APIModelDefinition model = new APIModelDefinition();
+        model.setName("Model" + i);
+        model.setType("Enum");
+        model.setFields(fields);
+        return model;
+    }
+
+    private static APIDefinition api(int i, int size) {
+        APIDefinition api = new APIDefinition();
+        api.setId("operation" + i);
+        api.setName("operation" + i);
+        api.setDescription("API " + i);
+        api.setGroup("group" + (i / 10));
+        api.setClassName(PACKAGE + ".Controller" + (i / 10));
+        api.setUrlMapping("/resources" + (i / 10) + "/{id}");
+        api.setReturnClass(model(i % size));
+
+        List<APIParameter> parameters = new ArrayList<>();
+        parameters.add(parameter("id", "Long", "java.lang.Long", APIParameterKind.URL_PATH));
+        if (i % 2 == 0) {
+            api.setMethod("GET");
+            parameters.add(parameter("keyword", "String", "java.lang.String", APIParameterKind.REQUEST_PARAMETER));
+        } else {
+            api.setMethod("POST");
+            parameters.add(parameter("body", "Object", model((i + 1) % size), APIParameterKind.REQUEST_BODY));
+        }
+        api.setParameters(parameters);
+
+        Map<String, String> status = new LinkedHashMap<>();
+        status.put("200", "OK");
+        status.put("404", "Not Found");
+        api.setResponseStatus(status);
+        return api;
+    }
+
+    private static APIParameter parameter(String name, String type, String classPath, APIParameterKind kind) {
+        APIParameter parameter = new APIParameter();
+        parameter.setName(name);
+        parameter.setType(type);
+        parameter.setClassPath(classPath);
+        parameter.setParameterKind(kind);
+        return parameter;
+    }
+
+    private static APIField field(String name, String type, String classPath) {
+        APIField field = new APIField();
+        field.setName(name);
+        field.setType(type);
+        field.setClassPath(classPath);
+        return field;
+    }
+}
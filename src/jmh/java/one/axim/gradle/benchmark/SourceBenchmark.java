@@ -0,0 +1,82 @@
+package one.axim.gradle.benchmark;
+
+import one.axim.gradle.utils.ClassUtils;
+import one.axim.gradle.utils.JavaSourceParser;
+import one.axim.gradle.utils.MethodComment;
+import org.gradle.api.Project;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소스 탐색과 Javadoc 조회 벤치마크.
+ *
+ * <ul>
+ *   <li>{@code getSourceFile} — {@code size}개의 하위 프로젝트 중 마지막 프로젝트에 있는 소스 찾기</li>
+ *   <li>{@code getMethodComment}, {@code getFieldComment} — 메서드/필드가 {@code size}개인 소스에서 모든 항목 조회</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SourceBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private File workDir;
+    private ClassUtils classUtils;
+    private Class<?> controller;
+    private Method[] methods;
+    private String[] fields;
+    private JavaSourceParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("restdoc-jmh-source").toFile();
+
+        Project project = Fixtures.projectTree(new File(workDir, "project"), size);
+        File source = Fixtures.writeControllerSource(new File(project.getProjectDir(), "src/main/java"), size);
+        controller = Fixtures.compileController(source, new File(workDir, "classes"));
+        classUtils = new ClassUtils(project);
+
+        methods = controller.getDeclaredMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        fields = new String[size];
+        for (int i = 0; i < size; i++) {
+            fields[i] = "field" + i;
+        }
+        parser = JavaSourceParser.parse(source);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Fixtures.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public File getSourceFile() {
+        return classUtils.getSourceFile(controller);
+    }
+
+    @Benchmark
+    public void getMethodComment(Blackhole bh) {
+        for (Method method : methods) {
+            MethodComment comment = parser.getMethodComment(method);
+            bh.consume(comment);
+        }
+    }
+
+    @Benchmark
+    public void getFieldComment(Blackhole bh) {
+        for (String field : fields) {
+            bh.consume(parser.getFieldComment(field));
+        }
+    }
+}
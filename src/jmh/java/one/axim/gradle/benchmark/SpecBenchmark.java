@@ -0,0 +1,70 @@
+package one.axim.gradle.benchmark;
+
+import one.axim.gradle.OpenApiSpecConverter;
+import one.axim.gradle.PostmanSpecConverter;
+import one.axim.gradle.SampleGenerator;
+import one.axim.gradle.data.APIDefinition;
+import one.axim.gradle.data.DocumentModel;
+import one.axim.gradle.data.ServiceDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 문서 모델에서 출력을 만드는 단계의 벤치마크. API {@code size}개와 모델 {@code size}개의 합성 문서를 사용한다.
+ *
+ * <ul>
+ *   <li>{@code openApi} — {@link OpenApiSpecConverter#build()} (paths와 components 스트리밍 포함)</li>
+ *   <li>{@code generateSamples} — 모든 API의 요청/응답 JSON 샘플 생성</li>
+ *   <li>{@code postmanApiObject} — Postman 컬렉션 항목 생성 (HTTP 호출 없음)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpecBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private File docDir;
+    private ServiceDefinition service;
+    private DocumentModel document;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        docDir = Files.createTempDirectory("restdoc-jmh-spec").toFile();
+        service = Fixtures.service();
+        document = Fixtures.document(size);
+        Fixtures.writeModels(document, docDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Fixtures.deleteRecursively(docDir);
+    }
+
+    @Benchmark
+    public void openApi() throws Exception {
+        new OpenApiSpecConverter(service, docDir.getPath(), document).build();
+    }
+
+    @Benchmark
+    public int generateSamples() {
+        SampleGenerator generator = new SampleGenerator(document.getModels(), (ClassLoader) null);
+        int length = 0;
+        for (APIDefinition api : document.getApis()) {
+            generator.generateSamples(api);
+            if (api.getResponseSample() != null) length += api.getResponseSample().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public List<?> postmanApiObject() {
+        return new PostmanSpecConverter("", "", service, docDir.getPath(), document).generateApiObject();
+    }
+}
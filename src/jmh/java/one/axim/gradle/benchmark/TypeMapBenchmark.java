@@ -0,0 +1,51 @@
+package one.axim.gradle.benchmark;
+
+import one.axim.gradle.generator.utils.TypeMapUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델 그래프 순회에서 타입마다 호출되는 {@link TypeMapUtils#isNormalDataType} 벤치마크.
+ * JDK 값 타입, 컬렉션, 제네릭, 사용자 모델 이름을 섞은 {@code size}개의 타입 이름을 판별한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeMapBenchmark {
+
+    private static final String[] SAMPLES = {
+            "java.lang.String",
+            "java.lang.Long",
+            "java.math.BigDecimal",
+            "java.time.LocalDateTime",
+            "java.util.Date",
+            "java.util.List<com.example.bench.Model%d>",
+            "java.util.Map<java.lang.String, com.example.bench.Model%d>",
+            "org.springframework.http.ResponseEntity<com.example.bench.Model%d>",
+            "int",
+            "com.example.bench.Model%d",
+    };
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private String[] types;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        types = new String[size];
+        for (int i = 0; i < size; i++) {
+            types[i] = String.format(SAMPLES[i % SAMPLES.length], i);
+        }
+    }
+
+    @Benchmark
+    public int isNormalDataType() {
+        int normal = 0;
+        for (String type : types) {
+            if (TypeMapUtils.isNormalDataType(type)) normal++;
+        }
+        return normal;
+    }
+}
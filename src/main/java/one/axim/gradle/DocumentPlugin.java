@@ -1,12 +1,19 @@
 package one.axim.gradle;
 
+import one.axim.gradle.processor.ClassDocs;
+import one.axim.gradle.processor.RestDocIndex;
+import one.axim.gradle.processor.RestDocIndexProcessor;
+import one.axim.gradle.utils.Log;
 import org.gradle.api.Action;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
+import org.gradle.api.plugins.ExtraPropertiesExtension;
 import org.gradle.api.plugins.JavaPlugin;
 import org.gradle.api.plugins.JavaPluginExtension;
 import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.bundling.Jar;
+import org.gradle.api.tasks.compile.JavaCompile;
 
 import java.io.File;
 import java.util.Arrays;
@@ -34,6 +41,12 @@ import java.util.Arrays;
  * @see RestMetaGeneratorTask
  */
 public class DocumentPlugin implements Plugin<Project> {
+
+    private static final String TAG = DocumentPlugin.class.getSimpleName();
+
+    /** 인덱스 프로세서를 등록한 프로젝트에 남기는 표시. 값은 등록한 {@code errorCodeClass} */
+    private static final String INDEX_PROCESSOR_PROPERTY = "restdocIndexProcessor";
+
     @Override
     public void apply(Project project) {
         project.getPlugins().withType(JavaPlugin.class, new Action<JavaPlugin>() {
@@ -48,18 +61,59 @@ public class DocumentPlugin implements Plugin<Project> {
             }
         });
 
+        File pluginJar = new File(getClass().getProtectionDomain().getCodeSource().getLocation().getPath());
+
         // @XApiIgnore 어노테이션 사용을 위해 플러그인 JAR을 implementation에 자동 추가
         // (compileOnly는 런타임 클래스로더에 포함되지 않아 리플렉션으로 어노테이션 감지 불가)
-        project.getDependencies().add("implementation", project.files(
-                new File(getClass().getProtectionDomain().getCodeSource().getLocation().getPath())
-        ));
+        project.getDependencies().add("implementation", project.files(pluginJar));
 
         Task javaCompile = project.getTasks().getByName(JavaPlugin.COMPILE_JAVA_TASK_NAME);
 
-        Task restMetaGenerateTask = project.getTasks().create(RestMetaGeneratorTask.TASK_NAME, RestMetaGeneratorTask.class);
+        RestMetaGeneratorTask restMetaGenerateTask = project.getTasks().create(RestMetaGeneratorTask.TASK_NAME, RestMetaGeneratorTask.class);
         restMetaGenerateTask.dependsOn(javaCompile);
 
+        // compileIndex = true 이면 플러그인 JAR의 어노테이션 프로세서로 컴파일 시점 인덱스를 생성한다.
+        // 태스크는 루트 프로젝트의 모든 프로젝트 클래스를 읽으므로 Java 프로젝트마다 프로세서를 등록한다
+        project.getGradle().projectsEvaluated(gradle -> {
+            if (!restMetaGenerateTask.getCompileIndex()) return;
+
+            for (Project p : project.getRootProject().getAllprojects()) {
+                if (p.getPlugins().hasPlugin(JavaPlugin.class)) {
+                    registerIndexProcessor(p, pluginJar, restMetaGenerateTask.getErrorCodeClass());
+                }
+            }
+        });
+
 //		Task restMetaDeployTask = project.getTasks().create(RestMetaDeployTask.TASK_NAME, RestMetaDeployTask.class);
 //		restMetaDeployTask.dependsOn(javaCompile);
     }
+
+    /**
+     * 프로젝트에 인덱스 프로세서를 등록한다. 플러그인을 적용한 프로젝트가 여럿이어도 대상 프로젝트마다 한 번만 등록하며,
+     * 먼저 등록한 {@code errorCodeClass}와 다른 값이 오면 경고하고 먼저 등록한 값을 유지한다.
+     * 인덱스와 사이드카는 문서 생성에만 쓰이므로 프로젝트의 JAR에서는 제외한다.
+     */
+    private static void registerIndexProcessor(Project p, File pluginJar, String errorCodeClass) {
+        String option = errorCodeClass != null ? errorCodeClass : "";
+        ExtraPropertiesExtension extra = p.getExtensions().getExtraProperties();
+        if (extra.has(INDEX_PROCESSOR_PROPERTY)) {
+            Object registered = extra.get(INDEX_PROCESSOR_PROPERTY);
+            if (!option.equals(registered)) {
+                Log.w(TAG, String.format("%s: index processor already registered with errorCodeClass '%s', ignoring '%s'",
+                        p.getPath(), registered, option));
+            }
+            return;
+        }
+        extra.set(INDEX_PROCESSOR_PROPERTY, option);
+
+        p.getDependencies().add(JavaPlugin.ANNOTATION_PROCESSOR_CONFIGURATION_NAME, p.files(pluginJar));
+        p.getTasks().withType(Jar.class).configureEach(jar ->
+                jar.exclude("**/*" + ClassDocs.SUFFIX, RestDocIndex.RESOURCE_PATH));
+
+        if (!option.isEmpty()) {
+            JavaCompile compile = (JavaCompile) p.getTasks().getByName(JavaPlugin.COMPILE_JAVA_TASK_NAME);
+            compile.getOptions().getCompilerArgs().add(
+                    "-A" + RestDocIndexProcessor.OPTION_ERROR_CODE_CLASS + "=" + option);
+        }
+    }
 }
@@ -1,22 +1,24 @@
 package one.axim.gradle;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.IntegerLiteralExpr;
 import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.reflect.ClassPath;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import one.axim.gradle.data.APIField;
 import one.axim.gradle.data.APIModelDefinition;
 import one.axim.gradle.data.ErrorCodeEntry;
 import one.axim.gradle.data.ErrorGroupDefinition;
+import one.axim.gradle.utils.ClassFileInfo;
 import one.axim.gradle.utils.ClassUtils;
+import one.axim.gradle.utils.ClasspathIndex;
+import one.axim.gradle.utils.JavaSourceParser;
 import one.axim.gradle.utils.Log;
+import one.axim.gradle.utils.OutputFiles;
+import one.axim.gradle.utils.PackagePrefixTrie;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -24,8 +26,6 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 /**
@@ -73,7 +73,7 @@ public class ErrorCodeScanner {
 
     /** Default ErrorCode class from axim framework. */
     private static final String DEFAULT_ERROR_CODE_CLASS = "one.axim.framework.rest.exception.ErrorCode";
-    private static final String DEFAULT_FRAMEWORK_EXCEPTION_PACKAGE = "one.axim.framework.rest.exception";
+    static final String DEFAULT_FRAMEWORK_EXCEPTION_PACKAGE = "one.axim.framework.rest.exception";
     /** Default error response model class from axim framework. */
     private static final String API_ERROR_CLASS = "one.axim.framework.rest.model.ApiError";
 
@@ -112,6 +112,10 @@ public class ErrorCodeScanner {
     private final String documentPath;
     private final String errorCodeClassName;
     private final String errorResponseClassName;
+    private ClasspathIndex classpathIndex;
+    private APIModelDefinition errorResponseModel;
+    private boolean errorResponseResolved;
+    private OutputFiles outputFiles = new OutputFiles();
 
     /**
      * Creates a new ErrorCodeScanner.
@@ -134,6 +138,33 @@ public class ErrorCodeScanner {
         this.errorResponseClassName = errorResponseClassName;
     }
 
+    /**
+     * 태스크에서 공유하는 클래스패스 인덱스를 지정한다. 지정하지 않으면 클래스로더의 전체 클래스패스로 직접 만든다.
+     * 인덱스는 {@link #scanPackages(String)}의 패키지를 포함해야 한다.
+     */
+    public void setClasspathIndex(ClasspathIndex classpathIndex) {
+        this.classpathIndex = classpathIndex;
+    }
+
+    /**
+     * 태스크에서 공유하는 출력 파일 기록기를 지정한다. 내용이 같은 에러 파일은 다시 쓰지 않는다.
+     */
+    public void setOutputFiles(OutputFiles outputFiles) {
+        this.outputFiles = outputFiles;
+    }
+
+    /**
+     * 예외 클래스 스캔 대상 패키지 — basePackage 목록과 프레임워크 예외 패키지.
+     */
+    static Set<String> scanPackages(String basePackage) {
+        Set<String> packages = new HashSet<>();
+        for (String pkg : basePackage.split(",")) {
+            packages.add(pkg.trim());
+        }
+        packages.add(DEFAULT_FRAMEWORK_EXCEPTION_PACKAGE);
+        return packages;
+    }
+
     public void scan() {
         List<ErrorGroupDefinition> groups = scanAndReturn();
         writeResults(groups);
@@ -256,30 +287,19 @@ public class ErrorCodeScanner {
         Set<String> processedClasses = new HashSet<>();
 
         // 스캔 대상 패키지 목록
-        Set<String> scanPackages = new HashSet<>();
-        if (basePackage.contains(",")) {
-            for (String pkg : basePackage.split(",")) {
-                scanPackages.add(pkg.trim());
-            }
-        } else {
-            scanPackages.add(basePackage);
-        }
-        scanPackages.add(DEFAULT_FRAMEWORK_EXCEPTION_PACKAGE);
+        PackagePrefixTrie scanTrie = PackagePrefixTrie.of(scanPackages(basePackage));
 
-        ImmutableSet<ClassPath.ClassInfo> allClasses = ClassPath.from(classLoader).getAllClasses();
-
-        for (ClassPath.ClassInfo classInfo : allClasses) {
-            boolean match = false;
-            for (String pkg : scanPackages) {
-                if (classInfo.getPackageName().startsWith(pkg)) {
-                    match = true;
-                    break;
-                }
-            }
-            if (!match) continue;
+        ClasspathIndex index = classpathIndex != null
+                ? classpathIndex
+                : ClasspathIndex.build(classLoader, null, scanTrie);
 
+        for (String className : index.getClassNames(scanTrie)) {
             try {
-                Class<?> cls = classInfo.load();
+                // public static final 참조 타입 필드가 없는 클래스는 로드하지 않는다
+                ClassFileInfo classFile = index.getClassFile(className);
+                if (classFile != null && !hasConstantReferenceField(classFile)) continue;
+
+                Class<?> cls = classLoader.loadClass(className);
                 if (processedClasses.contains(cls.getName())) continue;
                 processedClasses.add(cls.getName());
 
@@ -326,6 +346,16 @@ public class ErrorCodeScanner {
         return groups;
     }
 
+    private static boolean hasConstantReferenceField(ClassFileInfo classFile) {
+        int constant = Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL;
+        for (ClassFileInfo.Member field : classFile.getFields()) {
+            if ((field.getAccessFlags() & constant) == constant && field.getTypeClassName() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private List<Field> getErrorCodeFields(Class<?> cls, Class<?> errorCodeClass) {
         List<Field> result = new ArrayList<>();
         for (Field field : cls.getDeclaredFields()) {
@@ -367,9 +397,7 @@ public class ErrorCodeScanner {
         if (sourceFile == null) return -1;
 
         try {
-            JavaParser parser = new JavaParser();
-            CompilationUnit cu = parser.parse(sourceFile).getResult().orElse(null);
-            if (cu == null) return -1;
+            CompilationUnit cu = JavaSourceParser.parse(sourceFile).getCompilationUnit();
 
             // 클래스 선언 탐색
             Optional<ClassOrInterfaceDeclaration> classDecl = cu.findFirst(ClassOrInterfaceDeclaration.class);
@@ -448,7 +476,7 @@ public class ErrorCodeScanner {
 
         File outputFile = new File(errorDir, "errors.json");
         String json = gson.toJson(groups);
-        Files.write(outputFile.toPath(), json.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        outputFiles.write(outputFile, json.getBytes());
         Log.i(TAG, "Error codes written to: " + outputFile.getAbsolutePath());
     }
 
@@ -475,35 +503,53 @@ public class ErrorCodeScanner {
         }
     }
 
+    /**
+     * 에러 응답 클래스의 모델 정의 ({@code error/error-response.json}의 내용). 클래스를 찾지 못하면 {@code null}.
+     * 한 번 만든 결과를 재사용한다.
+     */
+    public APIModelDefinition getErrorResponseModel() {
+        if (errorResponseResolved) {
+            return errorResponseModel;
+        }
+        errorResponseResolved = true;
+
+        Class<?> apiErrorClass = loadErrorResponseClass();
+        if (apiErrorClass == null) {
+            return null;
+        }
+
+        APIModelDefinition model = new APIModelDefinition();
+        model.setName(apiErrorClass.getSimpleName());
+        model.setType("Object");
+
+        List<APIField> fields = new ArrayList<>();
+        for (Field field : apiErrorClass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+
+            APIField apiField = new APIField();
+            apiField.setName(field.getName());
+            apiField.setType(field.getType().getSimpleName());
+            fields.add(apiField);
+        }
+        model.setFields(fields);
+        errorResponseModel = model;
+        return model;
+    }
+
     private void writeApiErrorModel() {
         try {
-            Class<?> apiErrorClass = loadErrorResponseClass();
-            if (apiErrorClass == null) {
+            APIModelDefinition model = getErrorResponseModel();
+            if (model == null) {
                 Log.i(TAG, "Error response class not found, skipping");
                 return;
             }
 
-            APIModelDefinition model = new APIModelDefinition();
-            model.setName(apiErrorClass.getSimpleName());
-            model.setType("Object");
-
-            List<APIField> fields = new ArrayList<>();
-            for (Field field : apiErrorClass.getDeclaredFields()) {
-                if (Modifier.isStatic(field.getModifiers())) continue;
-
-                APIField apiField = new APIField();
-                apiField.setName(field.getName());
-                apiField.setType(field.getType().getSimpleName());
-                fields.add(apiField);
-            }
-            model.setFields(fields);
-
             File errorDir = new File(documentPath, "error");
             if (!errorDir.exists()) errorDir.mkdirs();
 
             File outputFile = new File(errorDir, "error-response.json");
             String json = gson.toJson(model);
-            Files.write(outputFile.toPath(), json.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            outputFiles.write(outputFile, json.getBytes());
             Log.i(TAG, "Error response model written to: " + outputFile.getAbsolutePath());
         } catch (Exception e) {
             Log.w(TAG, "Failed to write error response model: " + e.getMessage());
@@ -1,91 +1,96 @@
 package one.axim.gradle;
 
 import one.axim.gradle.data.*;
+import one.axim.gradle.utils.DocumentFormat;
+import one.axim.gradle.utils.JsonOutput;
+import one.axim.gradle.utils.ModelRepository;
+import one.axim.gradle.utils.OutputFiles;
 import one.axim.gradle.utils.SpringPageSchema;
 import one.axim.gradle.utils.SpringPageSortSchema;
 import one.axim.gradle.utils.XPageSchema;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.google.gson.Gson;
-import org.apache.commons.io.FileUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 public class OpenApiSpecConverter {
 
-    private static final Gson gson = new Gson();
-    private static final ObjectMapper objectMapper = new ObjectMapper() {{
-        enable(SerializationFeature.INDENT_OUTPUT);
-        configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-    }};
-
     private final String documentPath;
     private final ServiceDefinition serviceDefinition;
-    private final ArrayList<APIDefinition> apiList;
+    private final List<APIDefinition> apiList;
+    private final ModelRepository models;
+    private OutputFiles outputFiles = new OutputFiles();
 
+    /**
+     * 문서 디렉터리의 api JSON을 읽고, 모델은 {@code model/} 디렉터리 색인과 LRU 캐시로 필요할 때 읽는다.
+     */
     public OpenApiSpecConverter(ServiceDefinition serviceDefinition, String docPath) {
+        this(serviceDefinition, docPath, DocumentModel.load(new File(docPath), false).getApis(),
+                ModelRepository.forDirectory(new File(docPath, "model"), ModelRepository.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * 생성 단계의 메모리 문서 모델을 그대로 사용한다. (api/model JSON을 다시 읽지 않음)
+     */
+    public OpenApiSpecConverter(ServiceDefinition serviceDefinition, String docPath, DocumentModel document) {
+        this(serviceDefinition, docPath, document.getApis(), ModelRepository.of(document));
+    }
+
+    private OpenApiSpecConverter(ServiceDefinition serviceDefinition, String docPath, List<APIDefinition> apis,
+                                 ModelRepository models) {
         this.serviceDefinition = serviceDefinition;
         this.documentPath = docPath;
-        this.apiList = new ArrayList<>();
-        loadApiJson(docPath);
+        this.apiList = apis;
+        this.models = models;
     }
 
-    private void loadApiJson(String docPath) {
-        File file = new File(docPath + File.separator + "api");
-        File[] files = file.listFiles();
-        if (files == null) return;
-
-        for (File json : files) {
-            try {
-                APIDefinition[] api = gson.fromJson(FileUtils.readFileToString(json, "UTF-8"), APIDefinition[].class);
-                if (api != null) {
-                    Collections.addAll(this.apiList, api);
-                }
-            } catch (IOException io) {
-                // skip unreadable files
-            }
-        }
+    /**
+     * 태스크에서 공유하는 출력 파일 기록기. 내용이 같으면 {@code openapi.json}을 다시 쓰지 않는다.
+     */
+    public void setOutputFiles(OutputFiles outputFiles) {
+        this.outputFiles = outputFiles;
     }
 
     private APIModelDefinition loadModel(String path) {
-        try {
-            File modelFile = new File(this.documentPath + File.separator + "model" + File.separator + path + ".json");
-            return gson.fromJson(FileUtils.readFileToString(modelFile, "UTF-8"), APIModelDefinition.class);
-        } catch (IOException io) {
-            return null;
-        }
+        return models.get(path);
     }
 
+    /**
+     * {@code openapi.json}을 스트리밍으로 기록한다. paths의 operation과 components의 스키마는
+     * 하나씩 만들어 곧바로 내보내므로 문서 전체 트리를 메모리에 올리지 않는다.
+     */
     public void build() throws IOException {
-        Map<String, Object> root = new LinkedHashMap<>();
-        root.put("openapi", "3.0.3");
-        root.put("info", buildInfo());
-        root.put("servers", buildServers());
+        File outputFile = new File(this.documentPath, "openapi.json");
 
-        List<Map<String, String>> tags = buildTags();
-        if (!tags.isEmpty()) {
-            root.put("tags", tags);
-        }
+        JsonOutput.write(outputFile, DocumentFormat.JSON, outputFiles, gen -> {
+            gen.writeStartObject();
 
-        root.put("paths", buildPaths());
-        root.put("components", buildComponents());
+            gen.writeStringField("openapi", "3.0.3");
+            JsonOutput.writeField(gen, "info", buildInfo());
+            JsonOutput.writeField(gen, "servers", buildServers());
 
-        // Global security: all endpoints require auth by default when auth is configured
-        String globalSchemeName = getSecuritySchemeName(serviceDefinition.getAuth());
-        if (globalSchemeName != null) {
-            root.put("security", Collections.singletonList(
-                    Collections.singletonMap(globalSchemeName, Collections.emptyList())));
-        }
+            List<Map<String, String>> tags = buildTags();
+            if (!tags.isEmpty()) {
+                JsonOutput.writeField(gen, "tags", tags);
+            }
 
-        File outputFile = new File(this.documentPath, "openapi.json");
-        String json = objectMapper.writeValueAsString(root);
-        Files.write(outputFile.toPath(), json.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            gen.writeFieldName("paths");
+            writePaths(gen);
+            gen.writeFieldName("components");
+            writeComponents(gen);
+
+            // Global security: all endpoints require auth by default when auth is configured
+            String globalSchemeName = getSecuritySchemeName(serviceDefinition.getAuth());
+            if (globalSchemeName != null) {
+                JsonOutput.writeField(gen, "security", Collections.singletonList(
+                        Collections.singletonMap(globalSchemeName, Collections.emptyList())));
+            }
+
+            gen.writeEndObject();
+        });
 
         System.out.println("OpenAPI spec generated: " + outputFile.getAbsolutePath());
     }
@@ -126,8 +131,12 @@ public class OpenApiSpecConverter {
         return tags;
     }
 
-    private Map<String, Object> buildPaths() {
-        Map<String, Object> paths = new LinkedHashMap<>();
+    /**
+     * 경로별로 API를 묶은 뒤 operation을 하나씩 만들어 기록한다. 경로 순서는 처음 등장한 순서이며,
+     * 같은 경로/메서드가 중복되면 마지막 API가 사용된다.
+     */
+    private void writePaths(JsonGenerator gen) throws IOException {
+        Map<String, Map<String, APIDefinition>> paths = new LinkedHashMap<>();
 
         for (APIDefinition api : this.apiList) {
             // Convert URL to OpenAPI path format: /v1.0/users/{id}
@@ -136,14 +145,20 @@ public class OpenApiSpecConverter {
                     ? "/" + version + api.getUrlMapping()
                     : api.getUrlMapping();
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> pathItem = (Map<String, Object>) paths.computeIfAbsent(path, k -> new LinkedHashMap<>());
-
             String method = api.getMethod().toLowerCase();
-            pathItem.put(method, buildOperation(api));
+            paths.computeIfAbsent(path, k -> new LinkedHashMap<>()).put(method, api);
         }
 
-        return paths;
+        gen.writeStartObject();
+        for (Map.Entry<String, Map<String, APIDefinition>> pathItem : paths.entrySet()) {
+            gen.writeFieldName(pathItem.getKey());
+            gen.writeStartObject();
+            for (Map.Entry<String, APIDefinition> operation : pathItem.getValue().entrySet()) {
+                JsonOutput.writeField(gen, operation.getKey(), buildOperation(operation.getValue()));
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
     }
 
     private Map<String, Object> buildOperation(APIDefinition api) {
@@ -380,10 +395,15 @@ public class OpenApiSpecConverter {
         }
     }
 
-    private Map<String, Object> buildComponents() {
-        Map<String, Object> components = new LinkedHashMap<>();
+    /**
+     * components를 기록한다. 스키마는 발견되는 즉시 기록하며, 이미 기록한 이름은 건너뛴다.
+     */
+    private void writeComponents(JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName("schemas");
+        gen.writeStartObject();
 
-        Map<String, Object> schemas = new LinkedHashMap<>();
+        SchemaWriter schemas = new SchemaWriter(gen);
         Set<String> processedSet = new HashSet<>();
 
         // Collect all referenced models
@@ -407,13 +427,13 @@ public class OpenApiSpecConverter {
 
                 if (PagingType.SPRING.equals(pagingType)) {
                     String wrapperName = "SpringPage_" + schemaName;
-                    if (!schemas.containsKey(wrapperName)) {
-                        schemas.put(wrapperName, buildSpringPageSchema(api.getReturnClass()));
+                    if (!schemas.contains(wrapperName)) {
+                        schemas.write(wrapperName, buildSpringPageSchema(api.getReturnClass()));
                     }
                 } else if (PagingType.XPAGE.equals(pagingType)) {
                     String wrapperName = "XPage_" + schemaName;
-                    if (!schemas.containsKey(wrapperName)) {
-                        schemas.put(wrapperName, buildXPageSchema(api.getReturnClass()));
+                    if (!schemas.contains(wrapperName)) {
+                        schemas.write(wrapperName, buildXPageSchema(api.getReturnClass()));
                     }
                 }
             }
@@ -433,21 +453,21 @@ public class OpenApiSpecConverter {
                 api.getResponseStatus() != null && api.getResponseStatus().keySet().stream()
                         .anyMatch(code -> code.startsWith("4") || code.startsWith("5")));
         if (hasErrorResponse) {
-            schemas.put("ApiError", buildApiErrorSchema());
+            schemas.write("ApiError", buildApiErrorSchema());
         }
 
-        components.put("schemas", schemas);
+        gen.writeEndObject();
 
         // Security schemes
         Map<String, Object> securitySchemes = buildSecuritySchemes();
         if (!securitySchemes.isEmpty()) {
-            components.put("securitySchemes", securitySchemes);
+            JsonOutput.writeField(gen, "securitySchemes", securitySchemes);
         }
 
-        return components;
+        gen.writeEndObject();
     }
 
-    private void collectSchema(String classPath, Map<String, Object> schemas, Set<String> processedSet) {
+    private void collectSchema(String classPath, SchemaWriter schemas, Set<String> processedSet) throws IOException {
         if (classPath == null || processedSet.contains(classPath)) return;
         // 알려진 인라인 타입은 별도 스키마로 등록하지 않음
         if (isKnownInlineType(classPath)) return;
@@ -459,9 +479,9 @@ public class OpenApiSpecConverter {
         String schemaName = toSchemaName(classPath);
 
         if ("Enum".equals(model.getType())) {
-            schemas.put(schemaName, buildEnumSchemaFromModel(model));
+            schemas.write(schemaName, buildEnumSchemaFromModel(model));
         } else {
-            schemas.put(schemaName, buildSchemaForModel(model));
+            schemas.write(schemaName, buildSchemaForModel(model));
 
             // Recurse into Object/Array/Enum fields
             if (model.getFields() != null) {
@@ -474,6 +494,28 @@ public class OpenApiSpecConverter {
         }
     }
 
+    /**
+     * components.schemas 객체에 스키마를 하나씩 기록한다. 기록한 이름만 보관한다.
+     */
+    private static final class SchemaWriter {
+        private final JsonGenerator gen;
+        private final Set<String> names = new HashSet<>();
+
+        SchemaWriter(JsonGenerator gen) {
+            this.gen = gen;
+        }
+
+        boolean contains(String name) {
+            return names.contains(name);
+        }
+
+        void write(String name, Map<String, Object> schema) throws IOException {
+            if (names.add(name)) {
+                JsonOutput.writeField(gen, name, schema);
+            }
+        }
+    }
+
     private Map<String, Object> buildSchemaForModel(APIModelDefinition model) {
         Map<String, Object> schema = new LinkedHashMap<>();
         schema.put("type", "object");
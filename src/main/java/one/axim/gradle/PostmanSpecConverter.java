@@ -1,8 +1,10 @@
 package one.axim.gradle;
 
 import one.axim.gradle.data.*;
+import one.axim.gradle.utils.GenerationMetrics;
 import one.axim.gradle.utils.SpringPageSchema;
 import one.axim.gradle.utils.SpringPageSortSchema;
+import one.axim.gradle.utils.ModelRepository;
 import one.axim.gradle.utils.TextEscapeUtils;
 import one.axim.gradle.utils.XPageSchema;
 import one.axim.gradle.generator.LanguageType;
@@ -17,11 +19,9 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.google.gson.Gson;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.Version;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.fluent.Request;
@@ -47,7 +47,6 @@ public class PostmanSpecConverter {
     private final static String POSTMAN_SPEC_SCHEMA =
             "https://schema.getpostman.com/json/collection/v2.1.0/collection.json";
 
-    private static final Gson gson = new Gson();
     private static final ObjectMapper objectMapper = new ObjectMapper() {{
         configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
     }};
@@ -58,45 +57,47 @@ public class PostmanSpecConverter {
     private final String postmanApiKey;
 
     private final ServiceDefinition serviceDefinition;
-    private final ArrayList<APIDefinition> apiList;
+    private final List<APIDefinition> apiList;
+    private final ModelRepository models;
 
     private final HashMap<String, ItemData> savedItemData;
+    private GenerationMetrics metrics = new GenerationMetrics();
 
     public PostmanSpecConverter(String apiKey, String workSpaceId, ServiceDefinition serviceDefinition, String docPath) {
+        this(apiKey, workSpaceId, serviceDefinition, docPath, loadApis(docPath),
+                ModelRepository.forDirectory(new File(docPath, "model"), ModelRepository.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * 생성 단계의 메모리 문서 모델을 그대로 사용한다. (api/model JSON을 다시 읽지 않음)
+     */
+    public PostmanSpecConverter(String apiKey, String workSpaceId, ServiceDefinition serviceDefinition, String docPath,
+                                DocumentModel document) {
+        this(apiKey, workSpaceId, serviceDefinition, docPath, document.getApis(), ModelRepository.of(document));
+    }
+
+    private PostmanSpecConverter(String apiKey, String workSpaceId, ServiceDefinition serviceDefinition, String docPath,
+                                 List<APIDefinition> apis, ModelRepository models) {
 
         this.postmanApiKey = apiKey;
         this.postmanWorkSpaceId = workSpaceId;
         this.serviceDefinition = serviceDefinition;
         this.documentPath = docPath;
-        this.apiList = new ArrayList<>();
+        this.apiList = apis;
+        this.models = models;
         this.savedItemData = new HashMap<>();
-
-        System.out.println("Api Definition Json Load .. " + docPath);
-        loadApiJson(docPath);
     }
 
-    private void loadApiJson(String docPath) {
-
-        File file = new File(docPath + File.separator + "api");
-
-        File[] files = file.listFiles();
-        if (files == null) return;
-
-        for (File json : files) {
-
-            try {
-                APIDefinition[] api = gson.fromJson(FileUtils.readFileToString(json, "UTF-8"), APIDefinition[].class);
-
-                if (api != null) {
-                    for (APIDefinition apiDefinition : api) {
-                        this.apiList.add(apiDefinition);
-                    }
-                }
-            } catch (IOException io) {
-                // TODO ::
-            }
-        }
+    /**
+     * 태스크에서 공유하는 측정기. Postman API 호출 수를 {@link GenerationMetrics#HTTP_CALLS}에 기록한다.
+     */
+    public void setMetrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
 
+    private static List<APIDefinition> loadApis(String docPath) {
+        System.out.println("Api Definition Json Load .. " + docPath);
+        return DocumentModel.load(new File(docPath), false).getApis();
     }
 
     public void build() {
@@ -373,7 +374,8 @@ public class PostmanSpecConverter {
 
         try {
 
-            ModelGenerator generator = new ModelGenerator();
+            // 모델은 파일 대신 같은 조회소(메모리 문서 모델 또는 model/ 색인)에서 찾는다
+            ModelGenerator generator = new ModelGenerator(this.models);
             ModelDefinition requestModelObject =
                     generator.generatorRequestModelObject(apiDefinition, this.documentPath + File.separator + "model",
                             LanguageType.JAVA);
@@ -915,22 +917,13 @@ public class PostmanSpecConverter {
     }
 
     private APIModelDefinition loadModel(String path) {
-        try {
-
-            File modelFile = new File(this.documentPath + File.separator + "model" + File.separator + path + ".json");
-
-            APIModelDefinition apiModel =
-                    gson.fromJson(FileUtils.readFileToString(modelFile, "UTF-8"), APIModelDefinition.class);
-            return apiModel;
-        } catch (IOException io) {
-        }
-
-        return null;
+        return models.get(path);
     }
 
     private <T> ResponseEnvData findPostmanResourceByName(String url, Class<T> responseType,
                                                           Function<T, List<ResponseEnvData>> extractor, String name) {
         try {
+            metrics.increment(GenerationMetrics.HTTP_CALLS);
             Response response = Request.Get(url).addHeader("X-API-Key", this.postmanApiKey).execute();
 
             T res = objectMapper.readValue(response.returnContent().asString(), responseType);
@@ -978,6 +971,7 @@ public class PostmanSpecConverter {
 
             System.out.println(json);
 
+            metrics.increment(GenerationMetrics.HTTP_CALLS);
             Response response = Request.Post(url).addHeader("X-API-Key", this.postmanApiKey).bodyString(json, ContentType.APPLICATION_JSON).execute();
             res = response.returnContent().asString();
 
@@ -1006,6 +1000,7 @@ public class PostmanSpecConverter {
             if (json != null)
                 httpPut.setEntity(new StringEntity(json, ContentType.APPLICATION_JSON));
 
+            metrics.increment(GenerationMetrics.HTTP_CALLS);
             CloseableHttpResponse httpresponse = client.execute(httpPut);
 
             StringBuilder result = new StringBuilder();
@@ -1027,6 +1022,7 @@ public class PostmanSpecConverter {
     public CollectionResponse getPostmanCollection(String url) {
 
         try {
+            metrics.increment(GenerationMetrics.HTTP_CALLS);
             Response response = Request.Get(url).addHeader("X-API-Key", this.postmanApiKey).execute();
 
             ObjectMapper collectionMapper = JsonMapper
@@ -4,8 +4,6 @@ import one.axim.gradle.data.*;
 import one.axim.gradle.generator.utils.TypeMapUtils;
 import one.axim.gradle.utils.*;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.reflect.ClassPath;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.apache.commons.lang3.StringUtils;
@@ -15,9 +13,12 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import one.axim.gradle.data.ErrorGroupDefinition;
 
@@ -33,6 +34,7 @@ public class RestApiDocGenerator {
     private String basePackage;
     private List<ClassUtils> classUtils;
     private ClassUtils baseClassUtil;
+    private ClasspathIndex classpathIndex;
 
     private Set<String> basePaths;
 
@@ -40,9 +42,51 @@ public class RestApiDocGenerator {
 
     private static final String XAPI_IGNORE = "one.axim.gradle.annotation.XApiIgnore";
 
+    private static final String REST_CONTROLLER = "org.springframework.web.bind.annotation.RestController";
+
+    /** API 메서드로 인식하는 Spring 매핑 어노테이션 */
+    private static final Set<String> MAPPING_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.web.bind.annotation.GetMapping",
+            "org.springframework.web.bind.annotation.PostMapping",
+            "org.springframework.web.bind.annotation.PutMapping",
+            "org.springframework.web.bind.annotation.DeleteMapping",
+            "org.springframework.web.bind.annotation.RequestMapping",
+            "org.springframework.web.bind.annotation.PatchMapping"
+    ));
+
+    /** 증분 생성: 직전 실행 매니페스트, 이번 실행 매니페스트, 입력 지문 */
+    private boolean incremental;
+    private GenerationManifest previousManifest;
+    private final GenerationManifest manifest = new GenerationManifest();
+    private final DocumentModel document = new DocumentModel();
+    private boolean reusable;
+    private int skippedModels;
+
+    /** 이번 실행에서 큐에 들어간 모델 (전역 방문 집합) */
+    private final Set<String> visitedModels = new HashSet<>();
+    private int duplicateModelVisits;
+    private final ClassFingerprint fingerprint;
+
     /** operationId 중복 방지를 위한 사용된 ID 집합 */
     private Set<String> usedOperationIds = new HashSet<>();
 
+    private int parallelism = 1;
+
+    /** api/model 파일 인코딩 */
+    private DocumentFormat documentFormat = DocumentFormat.JSON;
+
+    /** 내용이 같은 파일은 건드리지 않는 기록기 (실행 단위로 공유) */
+    private OutputFiles outputFiles = new OutputFiles();
+
+    /** 단계별 측정과 카운터 (실행 단위로 공유) */
+    private GenerationMetrics metrics = new GenerationMetrics();
+
+    /** 컨트롤러/메서드/모델/소스 파싱 구간 추적 (opt-in) */
+    private GenerationTracer tracer = GenerationTracer.OFF;
+
+    /** 소스 파일을 AST 대신 Javadoc 스캐너로 읽을지 여부 */
+    private boolean javadocLexer = false;
+
     /** DSL에서 설정된 제외 패키지 목록 */
     private List<String> excludePackages = Collections.emptyList();
 
@@ -57,10 +101,20 @@ public class RestApiDocGenerator {
     });
 
     public RestApiDocGenerator(ClassUtils baseClassUtil, List<ClassUtils> classUtils, File docDir, String basePackage) {
+        this(baseClassUtil, classUtils, docDir, basePackage, null);
+    }
+
+    /**
+     * @param classpathIndex 태스크에서 공유하는 클래스패스 인덱스. {@code null}이면 전체 런타임 클래스패스로 직접 만든다.
+     */
+    public RestApiDocGenerator(ClassUtils baseClassUtil, List<ClassUtils> classUtils, File docDir, String basePackage,
+                               ClasspathIndex classpathIndex) {
         this.docDir = docDir;
         this.basePackage = basePackage;
         this.classUtils = classUtils;
         this.baseClassUtil = baseClassUtil;
+        this.classpathIndex = classpathIndex;
+        this.fingerprint = new ClassFingerprint(baseClassUtil);
 
         this.basePaths = new HashSet<>();
 
@@ -95,19 +149,10 @@ public class RestApiDocGenerator {
             }
         }
 
-        String basePath = basePackage;
-
         Set<String> paths = new HashSet<>();
         if (basePackage.contains(",")) {
-            String[] pkgs = basePackage.split(",");
-            if (pkgs != null) {
-                for (int i = 0; i < pkgs.length; i++) {
-                    String pkg = pkgs[i];
-                    if (i == 0) {
-                        basePath = pkg;
-                    }
-                    paths.add(pkg.trim());
-                }
+            for (String pkg : basePackage.split(",")) {
+                paths.add(pkg.trim());
             }
         } else {
             paths.add(basePackage);
@@ -121,30 +166,32 @@ public class RestApiDocGenerator {
 
             List<Method> apiMethods = new ArrayList<>();
 
+            PackagePrefixTrie baseTrie = PackagePrefixTrie.of(basePaths);
+            ClasspathIndex index = this.classpathIndex != null
+                    ? this.classpathIndex
+                    : ClasspathIndex.build(this.baseClassUtil.getAllClassLoader(), null, baseTrie);
 
-            ImmutableSet<ClassPath.ClassInfo> clsSets = ClassPath.from(this.baseClassUtil.getAllClassLoader()).getAllClasses();
-
-            System.out.println("package find class size :: " + clsSets.size());
+            int scannedCount = index.getClassNames(baseTrie).size();
+            int loadedCount = 0;
 
-            for (ClassPath.ClassInfo clsInfo : clsSets) {
+            System.out.println("package find class size :: " + scannedCount);
 
-                System.out.println("load class load :: " + clsInfo.getName());
-
-                if (!clsInfo.getPackageName().startsWith(basePath)) {
-                    continue;
-                }
+            // 인덱스에서 @RestController 클래스만 골라 바이트코드로 매핑 메서드 여부를 확인한 뒤 로드한다.
+            // (컨트롤러가 아닌 클래스의 로딩/링킹/static 초기화를 피한다)
+            for (String className : findControllerCandidates(index, baseTrie)) {
 
                 try {
 
-                    System.out.println("find class load :: " + clsInfo.getName());
+                    System.out.println("find class load :: " + className);
 
-                    Class<?> cls = clsInfo.load();
+                    Class<?> cls = index.getClassLoader().loadClass(className);
+                    loadedCount++;
 
                     boolean isApiController = false;
                     Annotation[] annotations = cls.getDeclaredAnnotations();
                     for (Annotation annotation : annotations) {
 
-                        if (annotation.annotationType().getName().equals("org.springframework.web.bind.annotation.RestController")) {
+                        if (annotation.annotationType().getName().equals(REST_CONTROLLER)) {
 
                             isApiController = true;
                             break;
@@ -178,12 +225,7 @@ public class RestApiDocGenerator {
 
                             for (Annotation annotation : annotations) {
 
-                                if (annotation.annotationType().getName().equals("org.springframework.web.bind.annotation.GetMapping") ||
-                                        annotation.annotationType().getName().equals("org.springframework.web.bind.annotation.PostMapping") ||
-                                        annotation.annotationType().getName().equals("org.springframework.web.bind.annotation.PutMapping") ||
-                                        annotation.annotationType().getName().equals("org.springframework.web.bind.annotation.DeleteMapping") ||
-                                        annotation.annotationType().getName().equals("org.springframework.web.bind.annotation.RequestMapping") ||
-                                        annotation.annotationType().getName().equals("org.springframework.web.bind.annotation.PatchMapping")) {
+                                if (MAPPING_ANNOTATIONS.contains(annotation.annotationType().getName())) {
 
                                     apiMethods.add(method);
                                     break;
@@ -193,10 +235,12 @@ public class RestApiDocGenerator {
                     }
 
                 } catch (Throwable e) {
-                    System.out.println("cls load exception :: " + clsInfo.getName() + " " + e.getMessage());
+                    System.out.println("cls load exception :: " + className + " " + e.getMessage());
                 }
             }
 
+            Log.i("SCAN", String.format("classes scanned: %d, controllers loaded: %d", scannedCount, loadedCount));
+
             for (Method method : apiMethods) {
 
                 Class<?> clazz = method.getDeclaringClass();
@@ -220,39 +264,300 @@ public class RestApiDocGenerator {
         }
     }
 
+    /**
+     * 인덱스에서 basePackage 목록 중 하나에 속하는 컨트롤러 후보 클래스 이름을 이름 순으로 찾는다.
+     * 쉼표로 구분한 모든 패키지를 패키지 세그먼트 단위로 비교하므로 {@code com.foo}는 {@code com.foobar}와 일치하지 않는다.
+     */
+    static List<String> findControllerCandidates(ClasspathIndex index, PackagePrefixTrie basePackages) {
+        List<String> result = new ArrayList<>();
+        for (String className : index.getAnnotatedClasses(REST_CONTROLLER)) {
+            if (!basePackages.matches(packageOf(className))) continue;
+
+            ClassFileInfo classFile = index.getClassFile(className);
+            if (classFile != null && isControllerCandidate(classFile)) {
+                result.add(className);
+            }
+        }
+        return result;
+    }
+
+    private static String packageOf(String className) {
+        int dot = className.lastIndexOf('.');
+        return dot < 0 ? "" : className.substring(0, dot);
+    }
+
+    /**
+     * 바이트코드 정보만으로 API 컨트롤러 후보인지 판단한다.
+     * {@code @RestController}가 붙어 있고 매핑 어노테이션이 붙은 메서드가 하나 이상 있어야 한다.
+     */
+    static boolean isControllerCandidate(ClassFileInfo classFile) {
+        return classFile.hasAnnotation(REST_CONTROLLER)
+                && classFile.hasMethodAnnotatedWithAny(MAPPING_ANNOTATIONS);
+    }
+
+    /**
+     * 증분 생성을 켠다. 컨트롤러/모델마다 입력 지문을 매니페스트에 기록하고, 직전 실행의 매니페스트가 있으면
+     * 지문이 같은 컨트롤러/모델의 생성을 건너뛴다.
+     *
+     * @param previousManifest 직전 실행의 매니페스트. 첫 실행이면 {@code null}.
+     */
+    public void setIncremental(GenerationManifest previousManifest) {
+        this.incremental = true;
+        this.previousManifest = previousManifest;
+    }
+
+    /**
+     * 이번 실행에서 생성하거나 재사용한 컨트롤러/모델의 매니페스트.
+     */
+    public GenerationManifest getManifest() {
+        return manifest;
+    }
+
+    /**
+     * 이번 실행에서 생성하거나 재사용한 API 정의와 모델. OpenAPI/Spec Bundle/Postman 단계에 그대로 전달한다.
+     */
+    public DocumentModel getDocumentModel() {
+        return document;
+    }
+
+    /**
+     * 컨트롤러를 동시에 처리할 스레드 수. 1 이하이면 순차 처리, 0이면 사용 가능한 프로세서 수.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : Math.max(1, parallelism);
+    }
+
+    /**
+     * api/model 파일을 쓸 형식. 기본값은 JSON.
+     */
+    public void setDocumentFormat(DocumentFormat documentFormat) {
+        this.documentFormat = documentFormat;
+    }
+
+    /**
+     * 출력 파일 기록기. 태스크가 실행 단위로 공유하여 변경된 파일 수를 집계한다.
+     */
+    public void setOutputFiles(OutputFiles outputFiles) {
+        this.outputFiles = outputFiles;
+    }
+
+    /**
+     * 소스 파일의 Javadoc을 {@link JavaSourceParser#scan(File)}으로 읽을지 여부. {@code false}이면 항상 JavaParser로 파싱한다.
+     */
+    public void setJavadocLexer(boolean javadocLexer) {
+        this.javadocLexer = javadocLexer;
+    }
+
+    /**
+     * 측정기. 파싱한 소스 파일과 새로 기록한 모델 수를 집계한다.
+     */
+    public void setMetrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 구간 추적기. 컨트롤러, API 메서드, 모델, 소스 파싱마다 구간을 기록한다.
+     */
+    public void setTracer(GenerationTracer tracer) {
+        this.tracer = tracer;
+    }
+
     // Generator 메인
     public void generate() throws Exception {
+        if (incremental) {
+            manifest.setSettingsHash(computeSettingsHash());
+            reusable = previousManifest != null
+                    && manifest.getSettingsHash().equals(previousManifest.getSettingsHash());
+        }
+
+        // 1단계: 컨트롤러별 소스 파싱과 API 정의 생성 (병렬 가능, 공유 상태 없음)
+        List<Callable<ControllerResult>> tasks = new ArrayList<>();
+        for (Map.Entry<Class<?>, Set<Method>> entry : methodMap.entrySet()) {
+            tasks.add(() -> buildController(entry.getKey(), entry.getValue()));
+        }
+        List<ControllerResult> results = runAll(tasks);
+
+        // 2단계: 클래스 이름 순으로 operationId를 결정한다. 처리 순서와 무관하게 순차 실행과 같은 결과가 나온다.
         Set<String> referenceClassSet = new HashSet<>();
-        Iterator<Class<?>> iter = methodMap.keySet().iterator();
-        while (iter.hasNext()) {
-            Class<?> clazz = iter.next();
-            Set<Method> methods = methodMap.get(clazz);
+        List<ControllerResult> pending = new ArrayList<>();
+        int skippedControllers = 0;
+        for (ControllerResult result : results) {
+            if (result == null) continue;
+            Class<?> clazz = result.clazz;
             try {
-                processClassMethods(clazz, methods, referenceClassSet);
+                if (result.apis == null && result.reuse != null) {
+                    // 지문이 같고 operationId도 전체 생성과 동일하게 재현되면 기존 api JSON을 재사용
+                    List<APIDefinition> storedApis = replayOperationIds(clazz, methodMap.get(clazz));
+                    if (storedApis != null) {
+                        document.putApis(clazz.getName(), storedApis);
+                        manifest.putController(clazz.getName(), result.hash, result.reuse.getRefs());
+                        referenceClassSet.addAll(result.reuse.getRefs());
+                        skippedControllers++;
+                        continue;
+                    }
+                    result.apis = buildClassApis(clazz, methodMap.get(clazz), result.refs);
+                }
+
+                if (result.apis != null) {
+                    assignOperationIds(clazz, result.apis);
+                    document.putApis(clazz.getName(), result.apis);
+                    pending.add(result);
+                }
+                manifest.putController(clazz.getName(), result.hash, result.refs);
+                referenceClassSet.addAll(result.refs);
             } catch (Exception e) {
                 System.err.println("[WARN] Failed to process controller: " + clazz.getName() + " — " + e.getMessage());
                 e.printStackTrace();
             }
         }
+
+        // 3단계: api JSON 쓰기 (병렬 가능)
+        List<Callable<ControllerResult>> writes = new ArrayList<>();
+        for (ControllerResult result : pending) {
+            writes.add(() -> {
+                writeClassApis(result.clazz, result.apis);
+                return result;
+            });
+        }
+        runAll(writes);
+
         if (!referenceClassSet.isEmpty()) {
             generationReferenceClassJson(referenceClassSet);
         }
+
+        if (reusable) {
+            Log.i("INCREMENTAL", String.format("controllers: %d reused, %d generated / models: %d reused, %d generated",
+                    skippedControllers, methodMap.size() - skippedControllers,
+                    skippedModels, manifest.getModels().size() - skippedModels));
+        }
+    }
+
+    /**
+     * 한 컨트롤러의 지문을 계산하고, 재사용할 수 없으면 API 정의를 만든다. 실패하면 경고를 남기고 {@code null}.
+     */
+    private ControllerResult buildController(Class<?> clazz, Set<Method> methods) {
+        try (GenerationTracer.Span span = tracer.span(GenerationTracer.CONTROLLER, clazz.getName())) {
+            ControllerResult result = new ControllerResult(clazz);
+            result.hash = incremental ? fingerprint.ofController(clazz, methods) : null;
+
+            GenerationManifest.Entry previous = reusable ? previousManifest.getControllers().get(clazz.getName()) : null;
+            if (previous != null && previous.getHash().equals(result.hash)) {
+                // operationId 재현 여부는 2단계에서 순서대로 확인한다
+                result.reuse = previous;
+                return result;
+            }
+
+            result.apis = buildClassApis(clazz, methods, result.refs);
+            return result;
+        } catch (Exception e) {
+            System.err.println("[WARN] Failed to process controller: " + clazz.getName() + " — " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 작업을 {@code parallelism} 크기의 {@link ForkJoinPool}에서 실행하고 결과를 작업 순서대로 반환한다.
+     * 순차 모드이면 현재 스레드에서 실행한다.
+     */
+    private <T> List<T> runAll(List<Callable<T>> tasks) throws Exception {
+        List<T> results = new ArrayList<>(tasks.size());
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            for (Callable<T> task : tasks) {
+                results.add(task.call());
+            }
+            return results;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, tasks.size()));
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+
+    /**
+     * DSL 설정 등 모든 출력에 영향을 주는 입력의 지문. 바뀌면 전체를 다시 생성한다.
+     */
+    private String computeSettingsHash() {
+        List<String> values = new ArrayList<>();
+        values.add(String.valueOf(RestApiDocGenerator.class.getPackage().getImplementationVersion()));
+        values.add(basePackage);
+        values.add(String.valueOf(new TreeSet<>(excludePackages)));
+        values.add(String.valueOf(new TreeSet<>(excludeClasses)));
+        values.add(gson.toJson(new TreeMap<>(errorGroupMap)));
+        values.add(documentFormat.getName());
+        values.add(String.valueOf(javadocLexer));
+        return ClassFingerprint.ofStrings(values);
+    }
+
+    /**
+     * 재사용할 컨트롤러의 기존 api JSON에 기록된 operationId가 이번 실행 순서에서 다시 계산한 값과 같은지 확인하고,
+     * 같으면 사용된 operationId로 등록하고 기존 API 정의를 반환한다. 다르면(다른 컨트롤러 변경으로 충돌 상황이 바뀐 경우)
+     * 다시 생성해야 하므로 {@code null}.
+     */
+    private List<APIDefinition> replayOperationIds(Class<?> clazz, Set<Method> methods) {
+        File file = documentFormat.file(new File(docDir, "api"), clazz.getName());
+        if (!file.isFile()) return null;
+
+        List<APIDefinition> storedApis;
+        List<String> storedIds = new ArrayList<>();
+        try {
+            APIDefinition[] apis = DocumentFormat.read(file, APIDefinition[].class);
+            if (apis == null) return null;
+            storedApis = new ArrayList<>(Arrays.asList(apis));
+            for (APIDefinition api : apis) {
+                storedIds.add(api.getId());
+            }
+        } catch (Exception e) {
+            return null;
+        }
+
+        Set<String> replayed = new HashSet<>(usedOperationIds);
+        List<String> expectedIds = new ArrayList<>();
+        for (Method method : methods) {
+            String operationId = resolveOperationId(clazz, method.getName(), replayed);
+            replayed.add(operationId);
+            expectedIds.add(operationId);
+        }
+
+        if (!expectedIds.equals(storedIds)) return null;
+        usedOperationIds.addAll(expectedIds);
+        outputFiles.markKept(file);
+        return storedApis;
     }
 
     /**
      * 한 클래스의 메서드 모두 처리 (한클래스에 하나의 API 문서 파일을 쓴다.)
      */
     public void processClassMethods(Class<?> clazz, Set<Method> methods, Set<String> referenceClassSet) throws Exception {
-        List<APIDefinition> apiDefinitionArrayList = new ArrayList<>();
+        List<APIDefinition> apis = buildClassApis(clazz, methods, referenceClassSet);
+        if (apis != null) {
+            assignOperationIds(clazz, apis);
+            document.putApis(clazz.getName(), apis);
+            writeClassApis(clazz, apis);
+        }
+    }
 
-        // 클래스의 소스파일 찾기
-        File srcFile = this.baseClassUtil.getSourceFile(clazz);
+    /**
+     * 한 클래스의 API 정의 목록을 만든다. 각 정의의 id는 임시로 메서드명이며 {@link #assignOperationIds}에서 확정한다.
+     * 공유 상태를 바꾸지 않으므로 여러 컨트롤러를 동시에 처리할 수 있다. 소스/사이드카가 없으면 {@code null}.
+     */
+    private List<APIDefinition> buildClassApis(Class<?> clazz, Set<Method> methods, Set<String> referenceClassSet) throws Exception {
+        List<APIDefinition> apiDefinitionArrayList = new ArrayList<>();
 
-        if (srcFile != null) {
+        // 클래스의 Javadoc 사이드카 또는 소스파일 파싱
+        JavaSourceParser srcParser = loadSourceParser(clazz);
 
-            // 위에서 찾은 소스파일 파싱
-            System.out.println("source file :: " + srcFile.toURI() + " parse ... ");
-            JavaSourceParser srcParser = JavaSourceParser.parse(srcFile);
+        if (srcParser != null) {
 
             // 메서드들의 API 문서 준비
             for (Method method : methods) {
@@ -262,23 +567,39 @@ public class RestApiDocGenerator {
                             System.out.println("method :: " + method.getName() + " annotation :: " + annotation.annotationType() + " name :: " + SuperRequestMappingUtil.name(method));
                         }
 
-                    processSingleMethod(clazz, method, apiDefinitionArrayList, referenceClassSet, srcParser);
+                    try (GenerationTracer.Span span = tracer.span(GenerationTracer.METHOD,
+                            clazz.getName() + "#" + method.getName())) {
+                        processSingleMethod(clazz, method, apiDefinitionArrayList, referenceClassSet, srcParser);
+                    }
                 } catch (Exception e) {
                     System.err.println("[WARN] Failed to process method: " + clazz.getName() + "." + method.getName() + " — " + e.getMessage());
                     e.printStackTrace();
                 }
             }
 
-            // 하나의 클래스와 이 클래스가 갖는 메서드들의 문서를 JSON 파일로 쓰기
-            File dir = new File(docDir, "api");
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
-            File file = new File(dir, clazz.getName() + ".json");
-            String json = gson.toJson(apiDefinitionArrayList);
-            writeTo(json, file);
+            return apiDefinitionArrayList;
         }
 
+        return null;
+    }
+
+    /**
+     * 메서드명으로 된 임시 id를 operationId로 확정한다. 컨트롤러 이름 순으로 호출해야 결과가 결정적이다.
+     */
+    private void assignOperationIds(Class<?> clazz, List<APIDefinition> apis) {
+        for (APIDefinition api : apis) {
+            String operationId = resolveOperationId(clazz, api.getId(), usedOperationIds);
+            usedOperationIds.add(operationId);
+            api.setId(operationId);
+        }
+    }
+
+    /**
+     * 하나의 클래스와 이 클래스가 갖는 메서드들의 문서를 JSON 파일로 쓰기
+     */
+    private void writeClassApis(Class<?> clazz, List<APIDefinition> apis) throws Exception {
+        File file = documentFormat.file(new File(docDir, "api"), clazz.getName());
+        writeTo(apis, file);
     }
 
     public File getClassFile(Class<?> cls) {
@@ -296,6 +617,38 @@ public class RestApiDocGenerator {
         return null;
     }
 
+    /**
+     * 클래스의 코멘트 파서를 만든다. 컴파일 시점에 생성된 Javadoc 사이드카가 있으면 소스 파싱 없이 사용하고,
+     * 없으면 소스 파일을 찾아 읽는다. 멤버 클래스는 최상위 클래스의 소스에서 찾는다. 둘 다 없으면 {@code null}.
+     */
+    private JavaSourceParser loadSourceParser(Class<?> cls) throws Exception {
+        JavaSourceParser sidecar = JavaSourceParser.fromSidecar(cls);
+        if (sidecar != null) {
+            metrics.increment(GenerationMetrics.SIDECARS_READ);
+            return sidecar;
+        }
+
+        Class<?> topLevel = cls;
+        while (topLevel.getDeclaringClass() != null) {
+            topLevel = topLevel.getDeclaringClass();
+        }
+        File srcFile = this.baseClassUtil.getSourceFile(topLevel);
+        if (srcFile == null) {
+            return null;
+        }
+
+        System.out.println("source file :: " + srcFile.toURI() + " parse ... ");
+        try (GenerationTracer.Span span = tracer.span(GenerationTracer.PARSE, srcFile.getPath())) {
+            if (topLevel != cls) {
+                // 스캐너는 최상위 타입만 읽으므로 중첩 타입은 AST의 선언 조회표에서 찾는다
+                String packageName = topLevel.getPackageName();
+                String path = cls.getCanonicalName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+                return JavaSourceParser.parse(srcFile).nested(path);
+            }
+            return javadocLexer ? JavaSourceParser.scan(srcFile) : JavaSourceParser.parse(srcFile);
+        }
+    }
+
     /**
      * 하나의 메서드에 대한 처리
      */
@@ -335,6 +688,10 @@ public class RestApiDocGenerator {
 
             Parameter parameter = parameters[i];
             String parameterName = srcParser.getMethodParameterName(method, i);
+            if (parameterName == null) {
+                // 소스에 선언이 없는 메서드(상속 등)는 리플렉션 이름을 사용한다 (-parameters 없이 컴파일되면 argN)
+                parameterName = parameter.getName();
+            }
             String parameterType = parameter.getType().getCanonicalName();
             String tempParameterType;
 
@@ -634,18 +991,8 @@ public class RestApiDocGenerator {
         }
         apiDefinition.setGroup(group);
 
-        // operationId: 컨트롤러 메서드명 사용 (중복 시 컨트롤러 prefix 추가)
-        String operationId = method.getName();
-        if (usedOperationIds.contains(operationId)) {
-            String prefix = clazz.getSimpleName();
-            if (prefix.endsWith("Controller")) {
-                prefix = prefix.substring(0, prefix.length() - "Controller".length());
-            }
-            prefix = Character.toLowerCase(prefix.charAt(0)) + prefix.substring(1);
-            operationId = prefix + "_" + method.getName();
-        }
-        usedOperationIds.add(operationId);
-        apiDefinition.setId(operationId);
+        // operationId: 컨트롤러 메서드명 사용 (중복 시 컨트롤러 prefix 추가는 assignOperationIds에서)
+        apiDefinition.setId(method.getName());
 
         if (method.getReturnType() instanceof Class) {
             Class<?> returnType = method.getReturnType();
@@ -740,270 +1087,332 @@ public class RestApiDocGenerator {
         }
     }
 
+    /**
+     * operationId를 결정한다. 메서드명이 이미 사용되었으면 컨트롤러 이름 prefix를 붙인다.
+     */
+    private static String resolveOperationId(Class<?> clazz, String methodName, Set<String> usedIds) {
+        String operationId = methodName;
+        if (usedIds.contains(operationId)) {
+            String prefix = clazz.getSimpleName();
+            if (prefix.endsWith("Controller")) {
+                prefix = prefix.substring(0, prefix.length() - "Controller".length());
+            }
+            prefix = Character.toLowerCase(prefix.charAt(0)) + prefix.substring(1);
+            operationId = prefix + "_" + methodName;
+        }
+        return operationId;
+    }
+
     /**
      * json을 파일로 쓰기
      */
-    private void writeTo(String json, File file) throws Exception {
+    private void writeTo(Object value, File file) throws Exception {
         if (!file.getParentFile().exists()) {
             file.getParentFile().mkdirs();
         }
 
-        Files.write(file.toPath(), json.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        documentFormat.write(value, file, outputFiles);
     }
 
     /**
      * 참조 클래스 문서 생성
+     *
+     * <p>작업 큐 기반으로 모델 그래프를 순회한다. 실행 전체에서 한 번 큐에 들어간 모델은 다시 처리하지 않으므로
+     * 여러 경로로 도달하는 모델도 한 번만 로드/파싱/기록되고, 순환 참조에서도 종료된다.
      */
     private void generationReferenceClassJson(final Set<String> refClss) throws Exception {
-        refClss.forEach(s -> {
-            Class<?> cls = null;
+        Deque<String> queue = new ArrayDeque<>();
+        enqueueModels(refClss, queue);
 
-            if (s.equals("T")) {
-                return;
+        while (!queue.isEmpty()) {
+            String model = queue.poll();
+            try (GenerationTracer.Span span = tracer.span(GenerationTracer.MODEL, model)) {
+                enqueueModels(generateModelJson(model), queue);
             }
+        }
 
-            // 참조 모델 생성: JDK/프레임워크 클래스만 제외, basePackage 필터 적용하지 않음
-            // (컨트롤러 스캔은 basePackage로 제한하지만, 참조된 DTO/Entity는 패키지 무관하게 생성)
-            if (isFrameworkOrLibraryClass(s)) return;
-
-            try {
-                cls = loadClassWithFallback(this.baseClassUtil.getClassLoader(), s);
-            } catch (ClassNotFoundException e1) {
-                e1.printStackTrace();
-                return;
-            }
+        Log.i("MODEL", String.format("%d models visited, %d duplicate visits skipped",
+                visitedModels.size(), duplicateModelVisits));
+    }
 
-            String clsName = cls.getName();
-            if (clsName.startsWith(XPAGE_PREFIX) ||
-                clsName.equals("one.axim.framework.core.data.XPageNation") ||
-                clsName.equals("one.axim.framework.core.data.XOrder") ||
-                clsName.equals(SPRING_PAGE) ||
-                clsName.equals(SPRING_PAGEABLE) ||
-                clsName.equals(SPRING_SORT) ||
-                cls.isAssignableFrom(List.class) || cls.isAssignableFrom(ArrayList.class)) {
-                return;
+    /**
+     * 처음 보는 모델만 큐에 넣는다. 이름 순으로 넣어 순회 순서를 결정적으로 유지한다.
+     */
+    private void enqueueModels(Collection<String> refs, Deque<String> queue) {
+        Set<String> sorted = new TreeSet<>();
+        for (String ref : refs) {
+            if (ref != null) sorted.add(ref);
+        }
+        for (String ref : sorted) {
+            if (visitedModels.add(ref)) {
+                queue.add(ref);
+            } else {
+                duplicateModelVisits++;
             }
+        }
+    }
 
-            APIModelDefinition modelDefinition = new APIModelDefinition();
+    /**
+     * 모델 하나의 JSON을 생성하고 이 모델이 참조하는 모델 이름을 반환한다. 생성 대상이 아니면 빈 집합.
+     */
+    private Collection<String> generateModelJson(String s) {
+        Class<?> cls = null;
 
-            List<APIField> apiFields = new ArrayList<>();
-            Set<String> referenceClassSet = new HashSet<>();
+        if (s.equals("T")) {
+            return Collections.emptySet();
+        }
 
-            modelDefinition.setName(cls.getName());
-            modelDefinition.setType("Object");
+        // 참조 모델 생성: JDK/프레임워크 클래스만 제외, basePackage 필터 적용하지 않음
+        // (컨트롤러 스캔은 basePackage로 제한하지만, 참조된 DTO/Entity는 패키지 무관하게 생성)
+        if (isFrameworkOrLibraryClass(s)) return Collections.emptySet();
 
-            boolean isEnum = cls.isEnum();
+        try {
+            cls = loadClassWithFallback(this.baseClassUtil.getClassLoader(), s);
+        } catch (ClassNotFoundException e1) {
+            e1.printStackTrace();
+            return Collections.emptySet();
+        }
 
-            JavaSourceParser srcParser = null;
+        String clsName = cls.getName();
+        if (clsName.startsWith(XPAGE_PREFIX) ||
+            clsName.equals("one.axim.framework.core.data.XPageNation") ||
+            clsName.equals("one.axim.framework.core.data.XOrder") ||
+            clsName.equals(SPRING_PAGE) ||
+            clsName.equals(SPRING_PAGEABLE) ||
+            clsName.equals(SPRING_SORT) ||
+            cls.isAssignableFrom(List.class) || cls.isAssignableFrom(ArrayList.class)) {
+            return Collections.emptySet();
+        }
 
-            if (isEnum) {
-                modelDefinition.setType("Enum");
-            }
+        // 증분 생성: 지문이 같고 출력이 남아 있으면 기존 모델 JSON을 재사용하고 참조 모델만 따라간다
+        String modelHash = incremental ? fingerprint.of(cls) : null;
+        GenerationManifest.Entry previousModel = reusable ? previousManifest.getModels().get(s) : null;
+        File storedModelFile = documentFormat.file(new File(docDir, "model"), s);
+        APIModelDefinition storedModel = previousModel != null && previousModel.getHash().equals(modelHash)
+                ? readModelJson(storedModelFile) : null;
+        if (storedModel != null) {
+            outputFiles.markKept(storedModelFile);
+            document.putModel(s, storedModel);
+            manifest.putModel(s, modelHash, previousModel.getRefs());
+            skippedModels++;
+            return previousModel.getRefs();
+        }
 
-            System.out.println("source find :: " + cls.getName());
+        APIModelDefinition modelDefinition = new APIModelDefinition();
 
-            // 파서 캐시: 선언 클래스별로 JavaSourceParser를 캐싱하여 부모 필드 코멘트도 조회
-            Map<Class<?>, JavaSourceParser> parserCache = new HashMap<>();
+        List<APIField> apiFields = new ArrayList<>();
+        Set<String> referenceClassSet = new HashSet<>();
 
-            for (ClassUtils classUtil : classUtils) {
-                try {
+        modelDefinition.setName(cls.getName());
+        modelDefinition.setType("Object");
 
-                    File srcFile = classUtil.getSourceFile(cls);
+        boolean isEnum = cls.isEnum();
 
-                    if (srcFile != null) {
+        JavaSourceParser srcParser = null;
 
-                        System.out.println("source path :: " + srcFile.getPath());
+        if (isEnum) {
+            modelDefinition.setType("Enum");
+        }
 
-                        srcParser = JavaSourceParser.parse(srcFile);
+        System.out.println("source find :: " + cls.getName());
 
-                        if (srcParser != null) {
-                            parserCache.put(cls, srcParser);
-                            break;
-                        }
-                    }
+        // 파서 캐시: 선언 클래스별로 JavaSourceParser를 캐싱하여 부모 필드 코멘트도 조회
+        Map<Class<?>, JavaSourceParser> parserCache = new HashMap<>();
 
-                } catch (Exception e) {
-                }
+        try {
+            srcParser = loadSourceParser(cls);
+            if (srcParser != null) {
+                parserCache.put(cls, srcParser);
             }
+        } catch (Exception e) {
+        }
 
-            if (srcParser != null) {
-                String classComment = srcParser.getClassComment();
-                if (classComment != null) {
-                    modelDefinition.setDescription(classComment);
-                }
+        if (srcParser != null) {
+            String classComment = srcParser.getClassComment();
+            if (classComment != null) {
+                modelDefinition.setDescription(classComment);
             }
+        }
 
 
-            List<Field> fields = getAllFields(cls);
+        List<Field> fields = getAllFields(cls);
 
-            for (Field field : fields) {
+        for (Field field : fields) {
 
-                if (field.isAnnotationPresent(JsonIgnore.class)) continue;
+            if (field.isAnnotationPresent(JsonIgnore.class)) continue;
 
-                // static 필드는 모델의 인스턴스 필드가 아니므로 스킵 (enum 상수 제외)
-                if (!isEnum && java.lang.reflect.Modifier.isStatic(field.getModifiers())) continue;
-                if (field.isSynthetic()) continue;
+            // static 필드는 모델의 인스턴스 필드가 아니므로 스킵 (enum 상수 제외)
+            if (!isEnum && java.lang.reflect.Modifier.isStatic(field.getModifiers())) continue;
+            if (field.isSynthetic()) continue;
 
-                if (isEnum) {
-                    if (field.getName().equals("name") || field.getName().equals("ordinal") || field.getName().startsWith("$")) {
-                        continue;
-                    }
+            if (isEnum) {
+                if (field.getName().equals("name") || field.getName().equals("ordinal") || field.getName().startsWith("$")) {
+                    continue;
                 }
+            }
 
-                APIField apiField = new APIField();
-                apiField.setName(field.getName());
-
-                boolean isOptional = !field.getType().isPrimitive()
-                        && !isHasAnnotation(field.getAnnotations(), "javax.validation.constraints.NotNull")
-                        && !isHasAnnotation(field.getAnnotations(), "jakarta.validation.constraints.NotNull")
-                        && !isHasAnnotation(field.getAnnotations(), "javax.validation.constraints.NotBlank")
-                        && !isHasAnnotation(field.getAnnotations(), "jakarta.validation.constraints.NotBlank")
-                        && !isHasAnnotation(field.getAnnotations(), "javax.validation.constraints.NotEmpty")
-                        && !isHasAnnotation(field.getAnnotations(), "jakarta.validation.constraints.NotEmpty")
-                        && !hasSizeMinAnnotation(field.getAnnotations());
-                apiField.setOptional(isOptional);
+            APIField apiField = new APIField();
+            apiField.setName(field.getName());
 
-                // 상속 필드인 경우 부모 클래스의 소스에서 코멘트를 조회
-                JavaSourceParser fieldParser = null;
-                Class<?> declaringClass = field.getDeclaringClass();
-                if (parserCache.containsKey(declaringClass)) {
-                    fieldParser = parserCache.get(declaringClass);
-                } else {
-                    // 부모 클래스의 소스 파일을 찾아 파서 생성
-                    File parentSrcFile = getClassFile(declaringClass);
-                    if (parentSrcFile != null) {
-                        try {
-                            fieldParser = JavaSourceParser.parse(parentSrcFile);
-                        } catch (Exception e) {
-                            // 파싱 실패 시 무시
-                        }
-                    }
-                    parserCache.put(declaringClass, fieldParser);
+            boolean isOptional = !field.getType().isPrimitive()
+                    && !isHasAnnotation(field.getAnnotations(), "javax.validation.constraints.NotNull")
+                    && !isHasAnnotation(field.getAnnotations(), "jakarta.validation.constraints.NotNull")
+                    && !isHasAnnotation(field.getAnnotations(), "javax.validation.constraints.NotBlank")
+                    && !isHasAnnotation(field.getAnnotations(), "jakarta.validation.constraints.NotBlank")
+                    && !isHasAnnotation(field.getAnnotations(), "javax.validation.constraints.NotEmpty")
+                    && !isHasAnnotation(field.getAnnotations(), "jakarta.validation.constraints.NotEmpty")
+                    && !hasSizeMinAnnotation(field.getAnnotations());
+            apiField.setOptional(isOptional);
+
+            // 상속 필드인 경우 부모 클래스의 소스에서 코멘트를 조회
+            JavaSourceParser fieldParser = null;
+            Class<?> declaringClass = field.getDeclaringClass();
+            if (parserCache.containsKey(declaringClass)) {
+                fieldParser = parserCache.get(declaringClass);
+            } else {
+                // 부모 클래스의 사이드카/소스 파일로 파서 생성
+                try {
+                    fieldParser = loadSourceParser(declaringClass);
+                } catch (Exception e) {
+                    // 파싱 실패 시 무시
                 }
+                parserCache.put(declaringClass, fieldParser);
+            }
 
-                if (fieldParser != null) {
-                    String fieldComment = fieldParser.getFieldComment(field.getName());
-                    if (fieldComment != null) {
-                        apiField.setDescription(fieldComment);
-                    }
+            if (fieldParser != null) {
+                String fieldComment = fieldParser.getFieldComment(field.getName());
+                if (fieldComment != null) {
+                    apiField.setDescription(fieldComment);
                 }
+            }
 
-                // enum 필드 직접 감지 (getSuperClasses 실패에 의존하지 않도록)
-                if (!isEnum && field.getType().isEnum()) {
-                    apiField.setType("Enum");
-                    apiField.setClassPath(field.getType().getCanonicalName());
-                    referenceClassSet.add(field.getType().getCanonicalName());
-                    apiFields.add(apiField);
-                    continue;
-                }
+            // enum 필드 직접 감지 (getSuperClasses 실패에 의존하지 않도록)
+            if (!isEnum && field.getType().isEnum()) {
+                apiField.setType("Enum");
+                apiField.setClassPath(field.getType().getCanonicalName());
+                referenceClassSet.add(field.getType().getCanonicalName());
+                apiFields.add(apiField);
+                continue;
+            }
 
-                // Set/Collection 직접 감지 (인터페이스는 getSuperClasses에서 누락될 수 있음)
-                if (!isEnum && TypeMapUtils.isCollectionType(field.getType().getCanonicalName())) {
-                    apiField.setType("Array");
-                    Type genericType = field.getGenericType();
-                    if (genericType instanceof ParameterizedType) {
-                        Type itemType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
-                        String innerTypeName = extractInnerType(itemType.getTypeName());
-                        apiField.setClassPath(innerTypeName);
-                        if (!TypeMapUtils.isNormalDataType(innerTypeName)) {
-                            referenceClassSet.add(innerTypeName);
-                        }
+            // Set/Collection 직접 감지 (인터페이스는 getSuperClasses에서 누락될 수 있음)
+            if (!isEnum && TypeMapUtils.isCollectionType(field.getType().getCanonicalName())) {
+                apiField.setType("Array");
+                Type genericType = field.getGenericType();
+                if (genericType instanceof ParameterizedType) {
+                    Type itemType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                    String innerTypeName = extractInnerType(itemType.getTypeName());
+                    apiField.setClassPath(innerTypeName);
+                    if (!TypeMapUtils.isNormalDataType(innerTypeName)) {
+                        referenceClassSet.add(innerTypeName);
                     }
-                    apiFields.add(apiField);
-                    continue;
                 }
+                apiFields.add(apiField);
+                continue;
+            }
 
-                boolean isObject = false;
+            boolean isObject = false;
 
-                try {
-                    if (!isEnum) {
-                        if (!field.getType().isPrimitive()) {
-                            List<Class<?>> superTypes = baseClassUtil.getSuperClasses(field.getType());
-                            if (superTypes.size() > 0) {
-                                if (!TypeMapUtils.isNormalDataType(field.getType().getCanonicalName())) {
-                                    for (Class<?> superType : superTypes) {
-                                        if (superType != null && superType.getCanonicalName() != null) {
-                                            if (superType.getCanonicalName().indexOf("Object") != -1 || superType.getCanonicalName().indexOf("Collection") != -1 || superType.getCanonicalName().indexOf("List") != -1 || superType.getCanonicalName().indexOf("Enum") != -1) {
-                                                isObject = true;
-                                                break;
-                                            }
+            try {
+                if (!isEnum) {
+                    if (!field.getType().isPrimitive()) {
+                        List<Class<?>> superTypes = baseClassUtil.getSuperClasses(field.getType());
+                        if (superTypes.size() > 0) {
+                            if (!TypeMapUtils.isNormalDataType(field.getType().getCanonicalName())) {
+                                for (Class<?> superType : superTypes) {
+                                    if (superType != null && superType.getCanonicalName() != null) {
+                                        if (superType.getCanonicalName().indexOf("Object") != -1 || superType.getCanonicalName().indexOf("Collection") != -1 || superType.getCanonicalName().indexOf("List") != -1 || superType.getCanonicalName().indexOf("Enum") != -1) {
+                                            isObject = true;
+                                            break;
                                         }
                                     }
+                                }
 
-                                    if (!isObject) {
-                                        if (field.getType().getCanonicalName().indexOf("Object") != -1 || field.getType().getCanonicalName().indexOf("Collection") != -1 || field.getType().getCanonicalName().indexOf("List") != -1 || field.getType().getCanonicalName().indexOf("Enum") != -1) {
-                                            isObject = true;
-                                        }
+                                if (!isObject) {
+                                    if (field.getType().getCanonicalName().indexOf("Object") != -1 || field.getType().getCanonicalName().indexOf("Collection") != -1 || field.getType().getCanonicalName().indexOf("List") != -1 || field.getType().getCanonicalName().indexOf("Enum") != -1) {
+                                        isObject = true;
                                     }
                                 }
                             }
                         }
                     }
-                } catch (Exception e) {
-                    e.printStackTrace();
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
 
-                apiField.setClassPath(field.getType().getCanonicalName());
-                Type fieldType = null;
+            apiField.setClassPath(field.getType().getCanonicalName());
+            Type fieldType = null;
 
-                if (!isObject) {
-                    apiField.setType(getLastComponent(apiField.getClassPath(), "\\."));
-                } else {
+            if (!isObject) {
+                apiField.setType(getLastComponent(apiField.getClassPath(), "\\."));
+            } else {
 
-                    fieldType = field.getGenericType();
-                    if (fieldType instanceof TypeVariable) {
-                        // 제네릭 타입 파라미터(T)인 경우 — erasure 타입은 이미 classPath에 설정됨
-                        apiField.setType("Object");
-                    } else if (TypeMapUtils.isCollectionType(fieldType.getTypeName())) {
-                        apiField.setType("Array");
-
-                        if (fieldType instanceof ParameterizedType) {
-                            Type genericType = ((ParameterizedType) fieldType).getActualTypeArguments()[0];
-                            String innerTypeName = genericType.getTypeName();
-                            apiField.setClassPath(extractInnerType(innerTypeName));
-                        }
-                    } else if (fieldType instanceof Class && ((Class<?>) fieldType).isEnum()) {
-                        apiField.setType("Enum");
-                    } else {
-                        apiField.setType("Object");
+                fieldType = field.getGenericType();
+                if (fieldType instanceof TypeVariable) {
+                    // 제네릭 타입 파라미터(T)인 경우 — erasure 타입은 이미 classPath에 설정됨
+                    apiField.setType("Object");
+                } else if (TypeMapUtils.isCollectionType(fieldType.getTypeName())) {
+                    apiField.setType("Array");
+
+                    if (fieldType instanceof ParameterizedType) {
+                        Type genericType = ((ParameterizedType) fieldType).getActualTypeArguments()[0];
+                        String innerTypeName = genericType.getTypeName();
+                        apiField.setClassPath(extractInnerType(innerTypeName));
                     }
-                    String cleanClassPath = extractInnerType(apiField.getClassPath());
-                    apiField.setClassPath(cleanClassPath);
-                    if (!TypeMapUtils.isNormalDataType(cleanClassPath)) {
-                        if (cleanClassPath.equals(s)) {
-                            // skip same class
-                        } else {
-                            referenceClassSet.add(cleanClassPath);
-                        }
+                } else if (fieldType instanceof Class && ((Class<?>) fieldType).isEnum()) {
+                    apiField.setType("Enum");
+                } else {
+                    apiField.setType("Object");
+                }
+                String cleanClassPath = extractInnerType(apiField.getClassPath());
+                apiField.setClassPath(cleanClassPath);
+                if (!TypeMapUtils.isNormalDataType(cleanClassPath)) {
+                    if (cleanClassPath.equals(s)) {
+                        // skip same class
+                    } else {
+                        referenceClassSet.add(cleanClassPath);
                     }
                 }
-
-                apiFields.add(apiField);
             }
 
-            modelDefinition.setFields(apiFields);
+            apiFields.add(apiField);
+        }
 
-            File dir = new File(docDir, "model");
+        modelDefinition.setFields(apiFields);
 
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
+        File dir = new File(docDir, "model");
 
-            File file = new File(dir, s + ".json");
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
 
-            String apiDocJson = gson.toJson(modelDefinition);
+        File file = documentFormat.file(dir, s);
 
-            try {
+        try {
 
-                writeTo(apiDocJson, file);
-                if (!referenceClassSet.isEmpty()) {
-                    generationReferenceClassJson(referenceClassSet);
-                }
+            writeTo(modelDefinition, file);
+            metrics.increment(GenerationMetrics.MODELS_WRITTEN);
+            document.putModel(s, modelDefinition);
+            manifest.putModel(s, modelHash, referenceClassSet);
+            return referenceClassSet;
 
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        });
+        } catch (Exception e) {
+            e.printStackTrace();
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * 증분 생성에서 재사용할 기존 모델 JSON을 읽는다. 없거나 읽을 수 없으면 {@code null}.
+     */
+    private APIModelDefinition readModelJson(File file) {
+        if (!file.isFile()) return null;
+        try {
+            return DocumentFormat.read(file, APIModelDefinition.class);
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     private void generateQueryParameterModel(Class<?> clazz, Map<String, APIParameter> parameterMap) throws Exception {
@@ -1013,9 +1422,8 @@ public class RestApiDocGenerator {
     private void generateQueryParameterModel(Class<?> clazz, Map<String, APIParameter> parameterMap, Set<String> referenceClassSet) throws Exception {
 
         Log.i("QUERY PARAM", clazz.getName() + " query parameter parse start ");
-        File srcFile = this.baseClassUtil.getSourceFile(clazz);
         // 소스파일이 없는 외부 모듈 클래스 대응
-        JavaSourceParser srcParser = srcFile != null ? JavaSourceParser.parse(srcFile) : null;
+        JavaSourceParser srcParser = loadSourceParser(clazz);
 
         // 파서 캐시: 상속 필드의 코멘트 조회를 위해
         Map<Class<?>, JavaSourceParser> parserCache = new HashMap<>();
@@ -1048,14 +1456,11 @@ public class RestApiDocGenerator {
             if (parserCache.containsKey(declaringClass)) {
                 fieldParser = parserCache.get(declaringClass);
             } else {
-                File parentSrcFile = getClassFile(declaringClass);
                 JavaSourceParser parentParser = null;
-                if (parentSrcFile != null) {
-                    try {
-                        parentParser = JavaSourceParser.parse(parentSrcFile);
-                    } catch (Exception e) {
-                        // 파싱 실패 시 무시
-                    }
+                try {
+                    parentParser = loadSourceParser(declaringClass);
+                } catch (Exception e) {
+                    // 파싱 실패 시 무시
                 }
                 parserCache.put(declaringClass, parentParser);
                 fieldParser = parentParser;
@@ -1303,4 +1708,19 @@ public class RestApiDocGenerator {
             throw e; // 모든 시도 실패 시 원래 예외 던짐
         }
     }
+
+    /**
+     * 컨트롤러 하나의 1단계 처리 결과.
+     */
+    private static class ControllerResult {
+        final Class<?> clazz;
+        final Set<String> refs = new HashSet<>();
+        String hash;
+        List<APIDefinition> apis;
+        GenerationManifest.Entry reuse;
+
+        ControllerResult(Class<?> clazz) {
+            this.clazz = clazz;
+        }
+    }
 }
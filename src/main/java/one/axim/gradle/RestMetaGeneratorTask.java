@@ -4,26 +4,56 @@ import one.axim.gradle.data.*;
 import one.axim.gradle.dsl.AuthDsl;
 import one.axim.gradle.dsl.EnvironmentDsl;
 import one.axim.gradle.dsl.HeaderDsl;
+import one.axim.gradle.processor.RestDocIndex;
 import one.axim.gradle.utils.ClassUtils;
+import one.axim.gradle.utils.ClasspathIndex;
+import one.axim.gradle.utils.ClasspathScanner;
+import one.axim.gradle.utils.DocumentFormat;
+import one.axim.gradle.utils.GenerationManifest;
+import one.axim.gradle.utils.GenerationMetrics;
+import one.axim.gradle.utils.GenerationTracer;
 import one.axim.gradle.utils.Log;
+import one.axim.gradle.utils.OutputCompressor;
+import one.axim.gradle.utils.OutputFiles;
+import one.axim.gradle.utils.PackagePrefixTrie;
+import one.axim.gradle.utils.ParsedSourceCache;
+import one.axim.gradle.utils.SourceFileIndex;
 import com.google.gson.GsonBuilder;
 import com.google.gson.Gson;
 import org.apache.commons.lang3.StringUtils;
 import org.gradle.api.Action;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.InvalidUserDataException;
 import org.gradle.api.Project;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
 import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Nested;
 import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
 import org.gradle.api.tasks.TaskAction;
 
 import java.io.*;
+import java.net.URL;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.PathMatcher;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import one.axim.gradle.data.ErrorGroupDefinition;
 
 /**
@@ -89,10 +119,18 @@ import one.axim.gradle.data.ErrorGroupDefinition;
  *     └── error-response.json   — error response model definition
  * </pre>
  *
+ * <h3>Up-to-date checks and build cache:</h3>
+ * <p>The task declares the runtime classpath of every project ({@code @Classpath}), the main source
+ * directories (including generated sources), the introduction/auth description files and the DSL values as
+ * inputs, and {@code documentPath} as its output directory. Unchanged builds are skipped as {@code UP-TO-DATE} and
+ * outputs can be restored from the local/remote build cache. When {@code postmanApiKey} is set the task is
+ * not cached, because the Postman sync is a side effect outside the output directory.
+ *
  * @see DocumentPlugin
  * @see ErrorCodeScanner
  * @see RestApiDocGenerator
  */
+@CacheableTask
 public class RestMetaGeneratorTask extends DefaultTask {
 
     public static final String TAG = RestMetaGeneratorTask.class.getSimpleName();
@@ -192,6 +230,132 @@ public class RestMetaGeneratorTask extends DefaultTask {
     @Input @Optional
     private List<String> excludeClasses = new ArrayList<>();
 
+    /**
+     * 컨트롤러/예외 클래스 스캔 범위.
+     * <ul>
+     *   <li>{@code "classpath"} (기본값) — 전체 런타임 클래스패스(의존성 JAR 포함)를 스캔</li>
+     *   <li>{@code "project"} — 각 프로젝트의 main SourceSet 클래스 출력 디렉터리와 {@code scanJars}로 지정한 JAR만 스캔</li>
+     * </ul>
+     *
+     * <pre>{@code
+     * scanScope = 'project'
+     * }</pre>
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private String scanScope = ScanScope.CLASSPATH.toString();
+
+    /**
+     * {@code scanScope = 'project'} 일 때 추가로 스캔할 JAR 파일명 glob 패턴 목록.
+     * 외부 모듈에 컨트롤러나 예외 클래스가 있는 경우에 지정한다.
+     *
+     * <pre>{@code
+     * scanJars = ['axim-rest-framework-*.jar', 'common-api-*.jar']
+     * }</pre>
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private List<String> scanJars = new ArrayList<>();
+
+    /**
+     * 컴파일 시점 인덱스 사용 여부.
+     * {@code true}이면 플러그인 JAR을 {@code annotationProcessor}에 추가하여 javac가
+     * {@value RestDocIndex#RESOURCE_PATH}를 생성하고, 태스크는 클래스패스 스캔 대신 이 인덱스를 읽는다.
+     * 인덱스가 없으면 기존 스캔 방식으로 동작한다.
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private boolean compileIndex = false;
+
+    /**
+     * 증분 생성 사용 여부.
+     * {@code true}이면 문서 디렉터리를 지우지 않고 {@value GenerationManifest#FILE_NAME} 매니페스트에 기록된
+     * 컨트롤러/모델별 입력 지문(클래스 바이트, 소스, DSL 설정)을 비교하여 바뀐 항목만 다시 생성한다.
+     * 더 이상 생성되지 않는 {@code api/}, {@code model/} 파일은 개별적으로 삭제한다.
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private boolean incremental = false;
+
+    /**
+     * 컨트롤러 문서를 동시에 생성할 스레드 수.
+     * 기본값 {@code 1}은 순차 처리, {@code 0}은 사용 가능한 프로세서 수. operationId는 스레드 수와 무관하게
+     * 컨트롤러 이름 순으로 결정되므로 출력은 항상 같다.
+     *
+     * @since 2.2.0
+     */
+    @Internal
+    private int parallelism = 1;
+
+    /**
+     * 스펙 번들을 그룹별 샤드로 나누어 기록할지 여부.
+     * {@code true}이면 {@code spec-bundle.json} 대신 {@code spec-bundle/index.json}(서비스, 그룹 목록, operation 요약)과
+     * {@code spec-bundle/groups/*.json}(그룹별 API와 참조 모델), {@code spec-bundle/errors.json}을 생성한다.
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private boolean shardedBundle = false;
+
+    /**
+     * 미리 압축해 둘 형식 목록 ({@code gzip}, {@code br}, {@code zstd}).
+     * 문서 디렉터리의 모든 JSON 출력 옆에 {@code .gz}/{@code .br}/{@code .zst} 파일을 {@code parallelism} 스레드로 생성한다.
+     * {@code br}, {@code zstd}는 해당 라이브러리가 빌드 스크립트 클래스패스에 있을 때만 동작한다.
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private List<String> compression = new ArrayList<>();
+
+    /**
+     * {@code api/}, {@code model/} 파일과 스펙 번들의 인코딩 ({@code json}, {@code smile}, {@code cbor}).
+     * 바이너리 형식은 pretty-print JSON보다 작고 빠르다. {@code openapi.json}과 에러 코드 파일은 항상 JSON이다.
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private String documentFormat = "json";
+
+    /**
+     * 단계별 측정 보고서 기록 여부.
+     * {@code true}이면 단계(에러 코드 스캔, API 생성, 에러 JSON, OpenAPI, 스펙 번들, 압축, Postman)별 벽시계 시간, CPU 시간,
+     * 할당 바이트와 카운터(스캔/로드한 클래스, 파싱한 소스, 기록한 모델, HTTP 호출, 변경된 출력 파일)를
+     * {@code build/reports/restdoc/metrics.json}에 기록한다. 한 줄 요약은 항상 로그에 남긴다.
+     * 보고서는 태스크 출력이 아니므로 태스크가 {@code UP-TO-DATE}이거나 빌드 캐시에서 복원되면 기록되지 않는다.
+     * 측정하려면 {@code --rerun}으로 태스크를 다시 실행한다.
+     *
+     * @since 2.2.0
+     */
+    @Internal
+    private boolean metricsReport = true;
+
+    /**
+     * 생성기 내부 구간 추적 방식 ({@code jfr}, {@code chrome}). 기본값은 추적하지 않음.
+     * 컨트롤러, API 메서드, 모델, 소스 파싱마다 구간을 기록하여 {@code jfr}이면 {@code build/reports/restdoc/trace.jfr}
+     * (JDK Mission Control), {@code chrome}이면 {@code build/reports/restdoc/trace.json}(Perfetto)에 저장한다.
+     * {@link #metricsReport}와 같이 태스크가 실제로 실행될 때만 기록된다.
+     *
+     * @since 2.2.0
+     */
+    @Internal
+    private String trace = "";
+
+    /**
+     * 소스 파일의 Javadoc을 경량 스캐너로 읽을지 여부.
+     * {@code true}이면 AST를 만들지 않고 클래스, 메서드, 필드, enum 상수의 Javadoc과 파라미터 이름만 읽으며,
+     * 구조를 확신할 수 없는 파일만 JavaParser로 파싱한다. {@code false}(기본값)이면 항상 JavaParser로 파싱한다.
+     * 스캐너는 사이드카와 같이 javac 규칙으로 Javadoc을 연결하므로, 빈 줄로 떨어져 있거나 같은 줄에 {@code //} 코멘트가
+     * 붙은 Javadoc도 설명으로 쓴다. JavaParser는 이런 Javadoc을 버리므로 켜면 해당 설명이 문서에 추가될 수 있다.
+     *
+     * @since 2.2.0
+     */
+    @Input @Optional
+    private boolean javadocLexer = false;
+
     @Nested
     private AuthDsl authConfig = new AuthDsl();
 
@@ -201,23 +365,9 @@ public class RestMetaGeneratorTask extends DefaultTask {
 
     public RestMetaGeneratorTask() {
         this.dependsOn("compileJava");
-    }
 
-    private static void deleteDirectory(File dir) {
-        if (dir.isDirectory()) {
-            try (var paths = Files.walk(dir.toPath())) {
-                paths.sorted((a, b) -> b.compareTo(a))
-                        .forEach(p -> {
-                            try {
-                                Files.delete(p);
-                            } catch (IOException e) {
-                                e.printStackTrace();
-                            }
-                        });
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
+        // Postman 동기화는 출력 디렉터리 밖의 부수 효과이므로 캐시에서 복원하면 안 된다
+        getOutputs().cacheIf("Postman sync is not configured", task -> StringUtils.isEmpty(this.postmanApiKey));
     }
 
     // --- 기존 프로퍼티 getter/setter ---
@@ -324,12 +474,12 @@ public class RestMetaGeneratorTask extends DefaultTask {
         return authConfig;
     }
 
-    @Internal
+    @Nested
     public List<HeaderDsl> getHeaderConfigs() {
         return headerConfigs;
     }
 
-    @Internal
+    @Nested
     public List<EnvironmentDsl> getEnvironmentConfigs() {
         return environmentConfigs;
     }
@@ -350,6 +500,184 @@ public class RestMetaGeneratorTask extends DefaultTask {
         this.excludeClasses = excludeClasses;
     }
 
+    public String getScanScope() {
+        return scanScope;
+    }
+
+    public void setScanScope(String scanScope) {
+        this.scanScope = scanScope;
+    }
+
+    public List<String> getScanJars() {
+        return scanJars;
+    }
+
+    public void setScanJars(List<String> scanJars) {
+        this.scanJars = scanJars;
+    }
+
+    public boolean getCompileIndex() {
+        return compileIndex;
+    }
+
+    public void setCompileIndex(boolean compileIndex) {
+        this.compileIndex = compileIndex;
+    }
+
+    public boolean getIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public boolean getShardedBundle() {
+        return shardedBundle;
+    }
+
+    public void setShardedBundle(boolean shardedBundle) {
+        this.shardedBundle = shardedBundle;
+    }
+
+    public List<String> getCompression() {
+        return compression;
+    }
+
+    public void setCompression(List<String> compression) {
+        this.compression = compression;
+    }
+
+    public String getDocumentFormat() {
+        return documentFormat;
+    }
+
+    public void setDocumentFormat(String documentFormat) {
+        this.documentFormat = documentFormat;
+    }
+
+    public boolean getMetricsReport() {
+        return metricsReport;
+    }
+
+    public void setMetricsReport(boolean metricsReport) {
+        this.metricsReport = metricsReport;
+    }
+
+    public String getTrace() {
+        return trace;
+    }
+
+    public void setTrace(String trace) {
+        this.trace = trace;
+    }
+
+    public boolean getJavadocLexer() {
+        return javadocLexer;
+    }
+
+    public void setJavadocLexer(boolean javadocLexer) {
+        this.javadocLexer = javadocLexer;
+    }
+
+    // --- 태스크 입력/출력 (up-to-date 검사 및 빌드 캐시) ---
+
+    /**
+     * 문서 출력 디렉터리. {@code documentPath}가 상대 경로이면 프로젝트 디렉터리 기준으로 해석한다.
+     */
+    @OutputDirectory
+    public File getOutputDirectory() {
+        return documentPath.startsWith("/") ? new File(documentPath) : new File(getProject().getProjectDir(), documentPath);
+    }
+
+    /**
+     * 단계별 측정 보고서 파일. 실행 환경에 따라 달라지는 값이므로 태스크 출력(빌드 캐시)에 포함하지 않는다.
+     * 따라서 {@code UP-TO-DATE}나 {@code FROM-CACHE}로 건너뛴 빌드에서는 만들어지지 않고 이전 실행의 파일이 남는다.
+     */
+    @Internal
+    public File getMetricsFile() {
+        return new File(getReportDirectory(), "metrics.json");
+    }
+
+    /**
+     * 측정 보고서와 추적 파일을 쓰는 디렉터리 ({@code build/reports/restdoc}).
+     */
+    @Internal
+    public File getReportDirectory() {
+        return getProject().getLayout().getBuildDirectory().dir("reports/restdoc").get().getAsFile();
+    }
+
+    /**
+     * 컨트롤러/모델 클래스를 로드하는 모든 프로젝트의 main 런타임 클래스패스.
+     * 컴파일된 클래스, 컴파일 시점 인덱스, Javadoc 사이드카, 의존 JAR을 포함한다.
+     */
+    @Classpath
+    public FileCollection getRuntimeClasspath() {
+        return getProject().files((Callable<List<FileCollection>>) () -> {
+            List<FileCollection> classpaths = new ArrayList<>();
+            for (SourceSet sourceSet : mainSourceSets()) {
+                classpaths.add(sourceSet.getRuntimeClasspath());
+            }
+            return classpaths;
+        });
+    }
+
+    /**
+     * Javadoc을 파싱하는 모든 프로젝트의 소스 루트 (main SourceSet 소스 디렉터리와 생성 소스 디렉터리).
+     *
+     * @see SourceFileIndex#sourceRoots(Project)
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @IgnoreEmptyDirectories
+    public FileCollection getSourceDirectories() {
+        return getProject().files((Callable<List<File>>) () -> SourceFileIndex.sourceRoots(getProject().getRootProject()));
+    }
+
+    /**
+     * {@code introductionFile}의 내용. 파일이 없으면 {@code null}.
+     */
+    @InputFile @Optional
+    @PathSensitive(PathSensitivity.NONE)
+    public File getIntroductionSource() {
+        return existingProjectFile(this.introductionFile);
+    }
+
+    /**
+     * {@code auth.descriptionFile}의 내용. 파일이 없으면 {@code null}.
+     */
+    @InputFile @Optional
+    @PathSensitive(PathSensitivity.NONE)
+    public File getAuthDescriptionSource() {
+        return existingProjectFile(this.authConfig.getDescriptionFile());
+    }
+
+    private File existingProjectFile(String path) {
+        if (StringUtils.isEmpty(path)) return null;
+        File file = new File(getProject().getProjectDir(), path);
+        return file.isFile() ? file : null;
+    }
+
+    private List<SourceSet> mainSourceSets() {
+        List<SourceSet> sourceSets = new ArrayList<>();
+        for (Project project : getProject().getRootProject().getAllprojects()) {
+            SourceSetContainer container = project.getExtensions().findByType(SourceSetContainer.class);
+            SourceSet main = container != null ? container.findByName(SourceSet.MAIN_SOURCE_SET_NAME) : null;
+            if (main != null) {
+                sourceSets.add(main);
+            }
+        }
+        return sourceSets;
+    }
+
     // --- DSL 메서드 ---
 
     /**
@@ -416,16 +744,37 @@ public class RestMetaGeneratorTask extends DefaultTask {
         Log.i(TAG, String.format("  serviceId: [%s]%n", serviceId));
         Log.i(TAG, "-------------------------------------------------");
 
+        // 잘못된 DSL 값은 생성을 시작하기 전에 태스크 실패로 알린다
+        ScanScope scope;
+        DocumentFormat format;
+        GenerationTracer.Mode traceMode;
+        try {
+            scope = ScanScope.of(this.scanScope);
+            format = DocumentFormat.of(this.documentFormat);
+            traceMode = GenerationTracer.Mode.of(this.trace);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidUserDataException(e.getMessage(), e);
+        }
+
+        GenerationMetrics metrics = new GenerationMetrics();
+        GenerationTracer tracer = GenerationTracer.OFF;
+        ParsedSourceCache.Stats parseStats = ParsedSourceCache.shared().stats();
         try {
+            metrics.begin("setup");
+            tracer = new GenerationTracer(traceMode);
+            tracer.start();
 
             List<ClassUtils> classUtils = new ArrayList<>();
+            SourceFileIndex sourceFileIndex = SourceFileIndex.of(getProject());
 
             Set<Project> projects = getProject().getRootProject().getAllprojects();
 
             for (Project project : projects) {
                 try {
                     Log.i(TAG, "Load Project :: " + project.getName());
-                    classUtils.add(new ClassUtils(project));
+                    ClassUtils cu = new ClassUtils(project);
+                    cu.setSourceFileIndex(sourceFileIndex);
+                    classUtils.add(cu);
 
                 } catch (Exception e) {
                 }
@@ -433,8 +782,9 @@ public class RestMetaGeneratorTask extends DefaultTask {
 
 
             ClassUtils baseClassUtils = new ClassUtils(getProject());
+            baseClassUtils.setSourceFileIndex(sourceFileIndex);
 
-            File docDir = documentPath.startsWith("/") ? new File(documentPath) : new File(getProject().getProjectDir(), documentPath);
+            File docDir = getOutputDirectory();
 
             // DSL 프로퍼티로부터 ServiceDefinition 빌드
             ServiceDefinition serviceDefinition = buildServiceDefinition();
@@ -447,55 +797,154 @@ public class RestMetaGeneratorTask extends DefaultTask {
             Log.i(TAG, String.format("  introduction: [%s]%n", serviceDefinition.getIntroduction()));
             Log.i(TAG, "-------------------------------------------------");
 
-            // 문서 디렉터리를 먼저 삭제한다.
-            Log.i(TAG, "delete document directory.");
-            deleteDirectory(docDir);
+            // 출력 파일은 내용이 바뀐 것만 교체하여 수정 시각을 유지한다. 문서 디렉터리를 먼저 지우지 않고,
+            // 생성이 끝난 뒤 이번 실행에서 쓰지 않은 파일을 지운다. (증분 생성이면 직전 매니페스트가 있을 때 유지)
+            OutputFiles outputFiles = new OutputFiles();
+            File manifestFile = new File(docDir, GenerationManifest.FILE_NAME);
+            GenerationManifest previousManifest = this.incremental ? GenerationManifest.load(manifestFile) : null;
+            if (previousManifest != null) {
+                Log.i(TAG, "incremental generation — keep document directory.");
+            }
 
             // Service 문서 생성
-            makeServiceJson(docDir, serviceDefinition);
+            makeServiceJson(docDir, serviceDefinition, outputFiles);
+
+            // 클래스패스 인덱스 — 컨트롤러/예외 스캔과 샘플 생성이 같은 클래스로더와 인덱스를 공유한다
+            ClassLoader classLoader = baseClassUtils.getAllClassLoader();
+            ClasspathIndex classpathIndex = createClasspathIndex(classLoader, classUtils, scope);
+            metrics.add(GenerationMetrics.CLASSES_SCANNED, classpathIndex.size());
 
             // 1. Error Code 스캐닝 (API 생성 전에 수행)
+            metrics.begin("errorScan");
             Log.i(TAG, "Error code scanning start");
             ErrorCodeScanner errorScanner = new ErrorCodeScanner(
-                    baseClassUtils.getAllClassLoader(),
+                    classLoader,
                     classUtils,
                     basePackage,
                     docDir.getPath(),
                     this.errorCodeClass,
                     this.errorResponseClass
             );
+            errorScanner.setClasspathIndex(classpathIndex);
+            errorScanner.setOutputFiles(outputFiles);
             List<ErrorGroupDefinition> errorGroups = errorScanner.scanAndReturn();
             Log.i(TAG, "Error code scanning end");
 
             // 2. API 문서 생성 (errorGroups 전달)
-            doGenerate(docDir, baseClassUtils, classUtils, errorGroups);
+            metrics.begin("generate");
+            RestApiDocGenerator generator = doGenerate(docDir, baseClassUtils, classUtils, classpathIndex, errorGroups, previousManifest,
+                    format, outputFiles, metrics, tracer);
+            GenerationManifest manifest = generator.getManifest();
             Log.i(TAG, "API document generate complete");
 
+            if (this.incremental) {
+                // 이번 실행에서 생성/재사용되지 않은 api/model 파일만 삭제
+                int pruned = GenerationManifest.prune(new File(docDir, "api"), manifest.getControllers().keySet(), format)
+                        + GenerationManifest.prune(new File(docDir, "model"), manifest.getModels().keySet(), format);
+                if (pruned > 0) {
+                    Log.i(TAG, "Pruned " + pruned + " stale document files");
+                }
+                manifest.save(manifestFile, outputFiles);
+            }
+
             // 3. Error JSON 파일 출력
+            metrics.begin("errorWrite");
             errorScanner.writeResults(errorGroups);
 
+            // 이후 단계는 디스크 JSON을 다시 읽지 않고 메모리 문서 모델을 공유한다
+            DocumentModel document = generator.getDocumentModel();
+            document.setErrorGroups(errorGroups);
+            document.setErrorResponse(errorScanner.getErrorResponseModel());
+
             // OpenAPI 3.0 스펙 생성
+            metrics.begin("openApi");
             Log.i(TAG, "OpenAPI spec generation start");
-            OpenApiSpecConverter openApiConverter = new OpenApiSpecConverter(serviceDefinition, docDir.getPath());
+            OpenApiSpecConverter openApiConverter = new OpenApiSpecConverter(serviceDefinition, docDir.getPath(), document);
+            openApiConverter.setOutputFiles(outputFiles);
             openApiConverter.build();
             Log.i(TAG, "OpenAPI spec generation end");
 
-            // Spec Bundle JSON 생성 (ClassLoader 전달하여 @XSample 리플렉션 지원)
+            // Spec Bundle JSON 생성 (클래스패스 인덱스 전달하여 @XSample 리플렉션 지원)
+            metrics.begin("bundle");
             Log.i(TAG, "Spec bundle generation start");
-            SpecBundleGenerator bundleGenerator = new SpecBundleGenerator(serviceDefinition, docDir.getPath(), baseClassUtils.getAllClassLoader());
+            SpecBundleGenerator bundleGenerator = new SpecBundleGenerator(serviceDefinition, docDir.getPath(), classpathIndex, document);
+            bundleGenerator.setSharded(this.shardedBundle);
+            bundleGenerator.setFormat(format);
+            bundleGenerator.setOutputFiles(outputFiles);
             bundleGenerator.build();
             Log.i(TAG, "Spec bundle generation end");
 
+            // 재사용한 api/model 파일은 생성기가 표시해 두었다. 압축 파일은 압축 단계가 원본 기준으로 정리한다
+            int removed = outputFiles.deleteUnwritten(docDir,
+                    file -> !this.compression.isEmpty() && OutputCompressor.isCompressed(file));
+            if (removed > 0) {
+                Log.i(TAG, "Removed " + removed + " stale output files");
+            }
+            Log.i(TAG, String.format("Output files: %d changed, %d unchanged",
+                    outputFiles.getChangedCount(), outputFiles.getUnchangedCount()));
+            metrics.add(GenerationMetrics.OUTPUT_FILES_CHANGED, outputFiles.getChangedCount());
+            metrics.add(GenerationMetrics.OUTPUT_FILES_UNCHANGED, outputFiles.getUnchangedCount());
+
+            if (!this.compression.isEmpty()) {
+                metrics.begin("compression");
+                OutputCompressor compressor = new OutputCompressor(this.compression, this.parallelism);
+                if (!compressor.isEmpty()) {
+                    Log.i(TAG, "Compressed " + compressor.compress(docDir) + " output files " + this.compression);
+                }
+            }
+
             if (!StringUtils.isEmpty(this.postmanApiKey)) {
+                metrics.begin("postman");
                 Log.i(TAG, "postman import start");
-                PostmanSpecConverter postmanSpecConverter = new PostmanSpecConverter(this.postmanApiKey, this.postmanWorkSpaceId, serviceDefinition, docDir.getPath());
+                PostmanSpecConverter postmanSpecConverter = new PostmanSpecConverter(this.postmanApiKey, this.postmanWorkSpaceId, serviceDefinition, docDir.getPath(), document);
+                postmanSpecConverter.setMetrics(metrics);
                 postmanSpecConverter.build();
                 Log.i(TAG, "postman import end");
             }
 
         } catch (Exception e) {
-            e.printStackTrace();
+            // 실패한 실행이 SUCCESS로 끝나 빌드 캐시에 저장되지 않도록 태스크를 실패시킨다
             Log.e(TAG, e);
+            throw new GradleException("REST API document generation failed: " + e.getMessage(), e);
+        } finally {
+            // 실패한 실행도 어느 단계까지 진행했는지 볼 수 있도록 측정/추적 보고서는 기록한다.
+            // 파싱 캐시는 프로세스 전체에서 공유되므로 이번 실행 동안의 증가분을 기록한다.
+            // 같은 데몬에서 다른 restMetaGenerator 태스크가 동시에 실행되면 그 태스크의 파싱도 함께 집계된다
+            parseStats = ParsedSourceCache.shared().stats().minus(parseStats);
+            Log.i(TAG, "Parsed source cache: " + parseStats);
+            metrics.add(GenerationMetrics.SOURCE_FILES_PARSED, parseStats.getMisses());
+            metrics.add(GenerationMetrics.PARSE_CACHE_HITS, parseStats.getHits());
+
+            writeMetrics(metrics);
+            writeTrace(tracer);
+        }
+    }
+
+    private void writeTrace(GenerationTracer tracer) {
+        try {
+            File file = tracer.finish(getReportDirectory());
+            if (file != null) {
+                Log.i(TAG, "Trace written to: " + file.getAbsolutePath());
+            }
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to write trace: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 단계별 측정 결과를 한 줄로 로그에 남기고, {@code metricsReport}가 켜져 있으면 JSON 보고서를 기록한다.
+     */
+    private void writeMetrics(GenerationMetrics metrics) {
+        Log.i(TAG, "Metrics: " + metrics.summary());
+        if (!this.metricsReport) {
+            return;
+        }
+        File file = getMetricsFile();
+        try {
+            metrics.write(file);
+            Log.i(TAG, "Metrics report written to: " + file.getAbsolutePath());
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to write metrics report: " + e.getMessage());
         }
     }
 
@@ -578,25 +1027,152 @@ public class RestMetaGeneratorTask extends DefaultTask {
         return sd;
     }
 
-    private void doGenerate(File docDir, ClassUtils baseClassUtils, List<ClassUtils> classUtils,
-                            List<ErrorGroupDefinition> errorGroups) throws Exception {
+    /**
+     * 컨트롤러/예외 클래스 인덱스를 만든다.
+     * {@code compileIndex}가 켜져 있으면 컴파일 시점 인덱스가 있는 클래스 디렉터리는 나열된 클래스만 추가하고,
+     * 인덱스가 없는 디렉터리(프로세서가 적용되지 않은 서브프로젝트 등)는 {@code scanScope}에 따라 스캔한다.
+     */
+    private ClasspathIndex createClasspathIndex(ClassLoader classLoader, List<ClassUtils> classUtils,
+                                                ScanScope scope) throws IOException {
+        Set<File> indexedDirs = new LinkedHashSet<>();
+        RestDocIndex compiled = this.compileIndex ? loadCompileIndex(classUtils, indexedDirs) : null;
+
+        if (this.compileIndex && compiled == null) {
+            Log.w(TAG, "compileIndex is enabled but no " + RestDocIndex.RESOURCE_PATH + " was found. Falling back to classpath scanning.");
+        }
+
+        ClasspathScanner scanner = createClasspathScanner(classUtils, scope);
+        if (!indexedDirs.isEmpty()) {
+            // 인덱스가 없는 디렉터리만 스캔한다. classpath 범위는 대상 패키지를 담은 엔트리만 찾아 전체 열거를 피한다
+            scanner = (scanner != null ? scanner : ClasspathScanner.forPackageResources(classLoader)).excluding(indexedDirs);
+        }
+
+        Set<String> indexPackages = ErrorCodeScanner.scanPackages(basePackage);
+        ClasspathIndex index = ClasspathIndex.build(classLoader, scanner, PackagePrefixTrie.of(indexPackages));
+        Log.i(TAG, String.format("Classpath index: %d classes in %s", index.size(), indexPackages));
+
+        if (compiled != null) {
+            // 프레임워크 예외 클래스는 JAR에 있으므로 scanScope와 관계없이 해당 패키지를 리소스로 찾아 추가한다
+            for (ClasspathScanner.ClassEntry entry : ClasspathScanner.forPackageResources(classLoader)
+                    .scan(PackagePrefixTrie.of(Collections.singleton(ErrorCodeScanner.DEFAULT_FRAMEWORK_EXCEPTION_PACKAGE)))) {
+                if (!index.contains(entry.getName())) {
+                    index.addClass(entry.getName());
+                }
+            }
+            for (String className : compiled.getIndexedClassNames()) {
+                if (!index.contains(className) && !index.addClass(className)) {
+                    Log.w(TAG, "Indexed class not found on classpath: " + className);
+                }
+            }
+            int totalDirs = 0;
+            for (ClassUtils cu : classUtils) {
+                totalDirs += cu.getClassesDirs().size();
+            }
+            Log.i(TAG, String.format("Compile index: %d controllers, %d error code holders (%d of %d class dirs indexed)",
+                    compiled.getControllers().size(), compiled.getErrorCodeHolders().size(),
+                    indexedDirs.size(), totalDirs));
+        }
+        return index;
+    }
+
+    /**
+     * 각 프로젝트 클래스 출력 디렉터리의 컴파일 시점 인덱스를 읽어 합친다. 하나도 없으면 {@code null}.
+     * 인덱스를 읽은 디렉터리는 {@code indexedDirs}에 추가한다.
+     */
+    private RestDocIndex loadCompileIndex(List<ClassUtils> classUtils, Set<File> indexedDirs) {
+        RestDocIndex merged = null;
+        for (ClassUtils cu : classUtils) {
+            for (File classesDir : cu.getClassesDirs()) {
+                File indexFile = new File(classesDir, RestDocIndex.RESOURCE_PATH);
+                if (!indexFile.isFile()) continue;
+
+                try (Reader reader = Files.newBufferedReader(indexFile.toPath())) {
+                    RestDocIndex index = new Gson().fromJson(reader, RestDocIndex.class);
+                    if (merged == null) merged = new RestDocIndex();
+                    merged.merge(index);
+                    indexedDirs.add(classesDir);
+                    Log.i(TAG, "Compile index loaded: " + indexFile.getPath());
+                } catch (Exception e) {
+                    Log.w(TAG, "Failed to read compile index: " + indexFile.getPath() + " — " + e.getMessage());
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * {@code scanScope}에 맞는 클래스패스 스캐너를 만든다.
+     * {@code "classpath"} 범위이면 {@code null}을 반환하여 클래스로더의 전체 클래스패스를 사용하도록 한다.
+     */
+    private ClasspathScanner createClasspathScanner(List<ClassUtils> classUtils, ScanScope scope) {
+        if (scope != ScanScope.PROJECT) {
+            return null;
+        }
+
+        Set<File> roots = new LinkedHashSet<>();
+        for (ClassUtils cu : classUtils) {
+            roots.addAll(cu.getClassesDirs());
+        }
+
+        if (this.scanJars != null && !this.scanJars.isEmpty()) {
+            List<PathMatcher> matchers = new ArrayList<>();
+            for (String pattern : this.scanJars) {
+                matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + pattern.trim()));
+            }
+
+            for (ClassUtils cu : classUtils) {
+                for (URL url : cu.getClassUrls()) {
+                    try {
+                        File file = new File(url.toURI());
+                        if (!file.isFile()) continue;
+                        for (PathMatcher matcher : matchers) {
+                            if (matcher.matches(file.toPath().getFileName())) {
+                                roots.add(file);
+                                break;
+                            }
+                        }
+                    } catch (Exception e) {
+                        // skip
+                    }
+                }
+            }
+        }
+
+        Log.i(TAG, String.format("Scan scope: project (%d roots)", roots.size()));
+        return ClasspathScanner.forRoots(roots);
+    }
+
+    private RestApiDocGenerator doGenerate(File docDir, ClassUtils baseClassUtils, List<ClassUtils> classUtils,
+                                          ClasspathIndex classpathIndex, List<ErrorGroupDefinition> errorGroups,
+                                          GenerationManifest previousManifest, DocumentFormat format, OutputFiles outputFiles,
+                                          GenerationMetrics metrics, GenerationTracer tracer) throws Exception {
 
         RestApiDocGenerator generator =
-                new RestApiDocGenerator(baseClassUtils, classUtils, docDir, basePackage);
+                new RestApiDocGenerator(baseClassUtils, classUtils, docDir, basePackage, classpathIndex);
         generator.setErrorGroups(errorGroups);
         generator.setExcludePackages(this.excludePackages);
         generator.setExcludeClasses(this.excludeClasses);
+        generator.setParallelism(this.parallelism);
+        generator.setDocumentFormat(format);
+        generator.setOutputFiles(outputFiles);
+        generator.setMetrics(metrics);
+        generator.setTracer(tracer);
+        generator.setJavadocLexer(this.javadocLexer);
+        if (this.incremental) {
+            generator.setIncremental(previousManifest);
+        }
         generator.generate();
 
+        return generator;
     }
 
-    private void makeServiceJson(File docDir, ServiceDefinition serviceDefinition) throws Exception {
+    private void makeServiceJson(File docDir, ServiceDefinition serviceDefinition, OutputFiles outputFiles) throws Exception {
         if (!docDir.exists())
             docDir.mkdirs();
 
         File file = new File(docDir, serviceDefinition.getServiceId() + ".json");
         String json = gson.toJson(serviceDefinition);
-        Files.write(file.toPath(), json.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        outputFiles.write(file, json.getBytes());
     }
 
 
@@ -1,6 +1,7 @@
 package one.axim.gradle;
 
 import one.axim.gradle.data.*;
+import one.axim.gradle.utils.ClasspathIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
@@ -35,10 +36,21 @@ public class SampleGenerator {
 
     private final Map<String, APIModelDefinition> models;
     private final ClassLoader classLoader;
+    private final ClasspathIndex classpathIndex;
 
     public SampleGenerator(Map<String, APIModelDefinition> models, ClassLoader classLoader) {
         this.models = models;
         this.classLoader = classLoader;
+        this.classpathIndex = null;
+    }
+
+    /**
+     * 태스크에서 공유하는 클래스패스 인덱스의 클래스로더와 로드 캐시를 사용한다.
+     */
+    public SampleGenerator(Map<String, APIModelDefinition> models, ClasspathIndex classpathIndex) {
+        this.models = models;
+        this.classLoader = classpathIndex != null ? classpathIndex.getClassLoader() : null;
+        this.classpathIndex = classpathIndex;
     }
 
     /**
@@ -358,6 +370,7 @@ public class SampleGenerator {
 
     private Class<?> tryLoadClass(String className) {
         if (className == null || classLoader == null) return null;
+        if (classpathIndex != null) return classpathIndex.loadClass(className);
         try {
             return Class.forName(className, false, classLoader);
         } catch (ClassNotFoundException e) {
@@ -1,26 +1,32 @@
 package one.axim.gradle;
 
 import one.axim.gradle.data.APIDefinition;
+import one.axim.gradle.data.APIField;
 import one.axim.gradle.data.APIModelDefinition;
+import one.axim.gradle.data.APIParameter;
+import one.axim.gradle.data.DocumentModel;
 import one.axim.gradle.data.ErrorGroupDefinition;
 import one.axim.gradle.data.ServiceDefinition;
-import com.google.gson.reflect.TypeToken;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.google.gson.Gson;
-import org.apache.commons.io.FileUtils;
+import one.axim.gradle.utils.ClasspathIndex;
+import one.axim.gradle.utils.DocumentFormat;
+import one.axim.gradle.utils.JsonOutput;
+import one.axim.gradle.utils.OutputFiles;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.zip.CRC32;
 
 /**
  * Generates a unified {@code spec-bundle.json} that combines all documentation into a single file.
  *
  * <p>The spec-bundle is designed for API documentation UIs to load all data in a single HTTP request.
- * It aggregates outputs from the entire generation pipeline.
+ * It aggregates outputs from the entire generation pipeline. The file is streamed one element at a time,
+ * so the whole bundle is never held in memory as a tree or a String.
  *
  * <h3>Bundle structure:</h3>
  * <pre>{@code
@@ -33,6 +39,20 @@ import java.util.*;
  * }
  * }</pre>
  *
+ * <h3>Sharded layout</h3>
+ * <p>With {@link #setSharded(boolean)} the bundle is split under {@code spec-bundle/} so that a UI can load
+ * only what a page needs:
+ * <pre>{@code
+ * spec-bundle/
+ *   index.json          { version, service, groups: [ { name, shard, apis } ],
+ *                         operations: [ { id, name, method, urlMapping, group, shard } ], errors: "errors.json" }
+ *   groups/{shard}.json { group, apis: [ APIDefinition, ... ], models: { models referenced by these APIs } }
+ *   errors.json         { errors: [ ErrorGroupDefinition, ... ], errorResponse }
+ * }</pre>
+ * With {@link #setFormat} set to a binary {@link DocumentFormat} the bundle, index and shards are written
+ * in that encoding with its extension instead of {@code .json}. One shard is written per API group. Shard names are derived from the group name only, and shard contents
+ * depend only on the APIs of that group, so a shard's bytes stay the same while its group does not change.
+ *
  * @see RestMetaGeneratorTask
  * @see APIDefinition
  * @see APIModelDefinition
@@ -40,125 +60,317 @@ import java.util.*;
  */
 public class SpecBundleGenerator {
 
-    private static final Gson gson = new Gson();
-    private static final ObjectMapper objectMapper = new ObjectMapper() {{
-        enable(SerializationFeature.INDENT_OUTPUT);
-        configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-    }};
+    public static final String BUNDLE_NAME = "spec-bundle";
+    public static final String SHARD_DIR = "spec-bundle";
+    public static final String INDEX_NAME = "index";
+    public static final int INDEX_VERSION = 1;
+
+    private static final String GROUP_DIR = "groups";
+    private static final String ERRORS_NAME = "errors";
+    private static final String UNGROUPED_SHARD = "_ungrouped";
 
     private final String documentPath;
     private final ServiceDefinition serviceDefinition;
     private final ClassLoader classLoader;
+    private final ClasspathIndex classpathIndex;
+    private DocumentModel document;
+    private boolean sharded;
+    private DocumentFormat format = DocumentFormat.JSON;
+    private OutputFiles outputFiles = new OutputFiles();
 
     public SpecBundleGenerator(ServiceDefinition serviceDefinition, String docPath) {
-        this(serviceDefinition, docPath, null);
+        this(serviceDefinition, docPath, (ClassLoader) null);
     }
 
     public SpecBundleGenerator(ServiceDefinition serviceDefinition, String docPath, ClassLoader classLoader) {
         this.serviceDefinition = serviceDefinition;
         this.documentPath = docPath;
         this.classLoader = classLoader;
+        this.classpathIndex = null;
+    }
+
+    public SpecBundleGenerator(ServiceDefinition serviceDefinition, String docPath, ClasspathIndex classpathIndex) {
+        this.serviceDefinition = serviceDefinition;
+        this.documentPath = docPath;
+        this.classLoader = classpathIndex != null ? classpathIndex.getClassLoader() : null;
+        this.classpathIndex = classpathIndex;
+    }
+
+    /**
+     * 생성 단계의 메모리 문서 모델을 사용한다. 지정하지 않으면 {@code build()}에서 문서 디렉터리를 읽는다.
+     */
+    public SpecBundleGenerator(ServiceDefinition serviceDefinition, String docPath, ClasspathIndex classpathIndex,
+                               DocumentModel document) {
+        this(serviceDefinition, docPath, classpathIndex);
+        this.document = document;
+    }
+
+    /**
+     * 번들 파일 형식. 기본값은 JSON이며 바이너리 형식이면 확장자가 {@code .smile}/{@code .cbor}가 된다.
+     *
+     * @since 2.2.0
+     */
+    public void setFormat(DocumentFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * {@code true}이면 단일 {@code spec-bundle.json} 대신 {@value #SHARD_DIR}/ 아래에 인덱스와 그룹별 샤드를 기록한다.
+     *
+     * @since 2.2.0
+     */
+    public void setSharded(boolean sharded) {
+        this.sharded = sharded;
     }
 
+    /**
+     * 태스크에서 공유하는 출력 파일 기록기. 내용이 같은 번들/샤드 파일은 다시 쓰지 않는다.
+     *
+     * @since 2.2.0
+     */
+    public void setOutputFiles(OutputFiles outputFiles) {
+        this.outputFiles = outputFiles;
+    }
+
+    /**
+     * 스펙 번들을 스트리밍으로 기록한다. API, 모델, 에러 그룹을 하나씩 직렬화하며,
+     * JSON 샘플은 API를 기록하기 직전에 만들고 기록 후 바로 해제한다.
+     */
     public void build() throws IOException {
-        List<APIDefinition> apis = loadAllApis();
-        Map<String, APIModelDefinition> models = loadAllModels();
+        DocumentModel document = this.document != null ? this.document : DocumentModel.load(new File(this.documentPath));
+        Map<String, APIModelDefinition> models = document.getModels();
 
         // JSON Sample 자동 생성
-        SampleGenerator sampleGenerator = new SampleGenerator(models, classLoader);
-        for (APIDefinition api : apis) {
-            sampleGenerator.generateSamples(api);
+        SampleGenerator sampleGenerator = classpathIndex != null
+                ? new SampleGenerator(models, classpathIndex)
+                : new SampleGenerator(models, classLoader);
+
+        // 이전 실행의 다른 레이아웃/형식 번들이 남아 있으면 어느 쪽이 최신인지 알 수 없으므로 지운다
+        for (DocumentFormat other : DocumentFormat.values()) {
+            if (sharded || other != format) {
+                Files.deleteIfExists(other.file(new File(this.documentPath), BUNDLE_NAME).toPath());
+            }
+        }
+        if (sharded) {
+            buildShards(document, models, sampleGenerator);
+        } else {
+            deleteRecursively(new File(this.documentPath, SHARD_DIR));
+            buildBundle(document, models, sampleGenerator);
         }
+    }
 
-        Map<String, Object> bundle = new LinkedHashMap<>();
-        bundle.put("service", buildServiceMap());
-        bundle.put("apis", apis);
-        bundle.put("models", models);
-        bundle.put("errors", loadErrors());
+    private void buildBundle(DocumentModel document, Map<String, APIModelDefinition> models,
+                             SampleGenerator sampleGenerator) throws IOException {
+        File outputFile = format.file(new File(this.documentPath), BUNDLE_NAME);
+        JsonOutput.write(outputFile, format, outputFiles, gen -> {
+            gen.writeStartObject();
+            JsonOutput.writeField(gen, "service", buildServiceMap());
 
-        Object errorResponse = loadErrorResponse();
-        if (errorResponse != null) {
-            bundle.put("errorResponse", errorResponse);
-        }
+            gen.writeArrayFieldStart("apis");
+            for (APIDefinition api : document.getApis()) {
+                writeApi(gen, api, sampleGenerator);
+            }
+            gen.writeEndArray();
+
+            gen.writeObjectFieldStart("models");
+            for (Map.Entry<String, APIModelDefinition> model : models.entrySet()) {
+                JsonOutput.writeField(gen, model.getKey(), model.getValue());
+            }
+            gen.writeEndObject();
 
-        File outputFile = new File(this.documentPath, "spec-bundle.json");
-        String json = objectMapper.writeValueAsString(bundle);
-        Files.write(outputFile.toPath(), json.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            writeErrors(gen, document);
+            gen.writeEndObject();
+        });
 
         System.out.println("Spec bundle generated: " + outputFile.getAbsolutePath());
     }
 
-    private Map<String, Object> buildServiceMap() {
-        Map<String, Object> service = new LinkedHashMap<>();
-        service.put("serviceId", serviceDefinition.getServiceId());
-        service.put("name", serviceDefinition.getName());
-        service.put("apiServerUrl", serviceDefinition.getApiServerUrl());
-        service.put("version", serviceDefinition.getVersion());
-        service.put("introduction", serviceDefinition.getIntroduction());
-        service.put("auth", serviceDefinition.getAuth());
-        service.put("headers", serviceDefinition.getHeaders());
-        return service;
+    private void buildShards(DocumentModel document, Map<String, APIModelDefinition> models,
+                             SampleGenerator sampleGenerator) throws IOException {
+        File shardDir = new File(this.documentPath, SHARD_DIR);
+        File groupDir = new File(shardDir, GROUP_DIR);
+        if (!groupDir.isDirectory() && !groupDir.mkdirs()) {
+            throw new IOException("Cannot create " + groupDir);
+        }
+
+        Map<String, List<APIDefinition>> groups = new TreeMap<>();
+        for (APIDefinition api : document.getApis()) {
+            groups.computeIfAbsent(StringUtils.defaultString(api.getGroup()), k -> new ArrayList<>()).add(api);
+        }
+
+        Set<String> written = new HashSet<>();
+        for (Map.Entry<String, List<APIDefinition>> group : groups.entrySet()) {
+            String shardFile = shardName(group.getKey()) + format.getExtension();
+            written.add(shardFile);
+            JsonOutput.write(new File(groupDir, shardFile), format, outputFiles, gen -> {
+                gen.writeStartObject();
+                gen.writeStringField("group", group.getKey());
+                gen.writeArrayFieldStart("apis");
+                for (APIDefinition api : group.getValue()) {
+                    writeApi(gen, api, sampleGenerator);
+                }
+                gen.writeEndArray();
+                JsonOutput.writeField(gen, "models", referencedModels(group.getValue(), models));
+                gen.writeEndObject();
+            });
+        }
+
+        // 더 이상 존재하지 않는 그룹의 샤드만 삭제한다
+        for (File shard : DocumentFormat.list(groupDir)) {
+            if (!written.contains(shard.getName())) {
+                Files.deleteIfExists(shard.toPath());
+            }
+        }
+        for (File file : DocumentFormat.list(shardDir)) {
+            if (DocumentFormat.forFile(file.getName()) != format) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+
+        String errorsFile = ERRORS_NAME + format.getExtension();
+        JsonOutput.write(new File(shardDir, errorsFile), format, outputFiles, gen -> {
+            gen.writeStartObject();
+            writeErrors(gen, document);
+            gen.writeEndObject();
+        });
+
+        File indexFile = format.file(shardDir, INDEX_NAME);
+        JsonOutput.write(indexFile, format, outputFiles, gen -> {
+            gen.writeStartObject();
+            gen.writeNumberField("version", INDEX_VERSION);
+            JsonOutput.writeField(gen, "service", buildServiceMap());
+
+            gen.writeArrayFieldStart("groups");
+            for (Map.Entry<String, List<APIDefinition>> group : groups.entrySet()) {
+                gen.writeStartObject();
+                gen.writeStringField("name", group.getKey());
+                gen.writeStringField("shard", GROUP_DIR + "/" + shardName(group.getKey()) + format.getExtension());
+                gen.writeNumberField("apis", group.getValue().size());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("operations");
+            for (Map.Entry<String, List<APIDefinition>> group : groups.entrySet()) {
+                String shard = GROUP_DIR + "/" + shardName(group.getKey()) + format.getExtension();
+                for (APIDefinition api : group.getValue()) {
+                    gen.writeStartObject();
+                    gen.writeStringField("id", api.getId());
+                    gen.writeStringField("name", api.getName());
+                    gen.writeStringField("method", api.getMethod());
+                    gen.writeStringField("urlMapping", api.getUrlMapping());
+                    gen.writeStringField("group", group.getKey());
+                    gen.writeStringField("shard", shard);
+                    gen.writeEndObject();
+                }
+            }
+            gen.writeEndArray();
+
+            gen.writeStringField("errors", errorsFile);
+            gen.writeEndObject();
+        });
+
+        System.out.println("Spec bundle index generated: " + indexFile.getAbsolutePath()
+                + " (" + groups.size() + " shards)");
     }
 
-    private List<APIDefinition> loadAllApis() {
-        List<APIDefinition> allApis = new ArrayList<>();
-        File apiDir = new File(this.documentPath + File.separator + "api");
-        File[] files = apiDir.listFiles();
-        if (files == null) return allApis;
+    private static void writeErrors(JsonGenerator gen, DocumentModel document) throws IOException {
+        gen.writeArrayFieldStart("errors");
+        for (ErrorGroupDefinition errorGroup : document.getErrorGroups()) {
+            JsonOutput.writeValue(gen, errorGroup);
+        }
+        gen.writeEndArray();
+
+        APIModelDefinition errorResponse = document.getErrorResponse();
+        if (errorResponse != null) {
+            JsonOutput.writeField(gen, "errorResponse", errorResponse);
+        }
+    }
+
+    /**
+     * 그룹 이름으로 샤드 파일 이름을 만든다. 파일 이름에 안전한 문자로만 된 이름은 그대로 쓰고,
+     * 그 외에는 치환한 이름 뒤에 원래 이름의 CRC32를 붙여 충돌을 피한다.
+     */
+    static String shardName(String group) {
+        if (StringUtils.isEmpty(group)) return UNGROUPED_SHARD;
+
+        String slug = group.replaceAll("[^A-Za-z0-9._-]", "_").toLowerCase(Locale.ROOT);
+        if (slug.equals(group)) return slug;
+
+        CRC32 crc = new CRC32();
+        crc.update(group.getBytes(StandardCharsets.UTF_8));
+        return slug + "-" + Long.toHexString(crc.getValue());
+    }
 
-        for (File json : files) {
-            try {
-                APIDefinition[] apis = gson.fromJson(FileUtils.readFileToString(json, "UTF-8"), APIDefinition[].class);
-                if (apis != null) {
-                    Collections.addAll(allApis, apis);
+    /**
+     * API 파라미터/반환 타입에서 시작하여 필드로 도달할 수 있는 모델을 모두 모은다.
+     */
+    static Map<String, APIModelDefinition> referencedModels(List<APIDefinition> apis,
+                                                            Map<String, APIModelDefinition> models) {
+        Deque<String> queue = new ArrayDeque<>();
+        for (APIDefinition api : apis) {
+            enqueue(queue, api.getReturnClass());
+            if (api.getParameters() != null) {
+                for (APIParameter param : api.getParameters()) {
+                    enqueue(queue, param.getClassPath());
                 }
-            } catch (IOException e) {
-                // skip
             }
         }
-        return allApis;
-    }
-
-    private Map<String, APIModelDefinition> loadAllModels() {
-        Map<String, APIModelDefinition> models = new LinkedHashMap<>();
-        File modelDir = new File(this.documentPath + File.separator + "model");
-        File[] files = modelDir.listFiles();
-        if (files == null) return models;
-
-        for (File json : files) {
-            try {
-                APIModelDefinition model = gson.fromJson(FileUtils.readFileToString(json, "UTF-8"), APIModelDefinition.class);
-                if (model != null) {
-                    // key = filename without .json extension (= FQCN)
-                    String key = json.getName().replace(".json", "");
-                    models.put(key, model);
+
+        Map<String, APIModelDefinition> referenced = new TreeMap<>();
+        while (!queue.isEmpty()) {
+            String className = queue.poll();
+            if (referenced.containsKey(className)) continue;
+
+            APIModelDefinition model = models.get(className);
+            if (model == null) continue;
+
+            referenced.put(className, model);
+            if (model.getFields() != null) {
+                for (APIField field : model.getFields()) {
+                    enqueue(queue, field.getClassPath());
                 }
-            } catch (IOException e) {
-                // skip
             }
         }
-        return models;
+        return referenced;
     }
 
-    private List<ErrorGroupDefinition> loadErrors() {
-        File errorsFile = new File(this.documentPath + File.separator + "error" + File.separator + "errors.json");
-        if (!errorsFile.exists()) return Collections.emptyList();
-        try {
-            String json = FileUtils.readFileToString(errorsFile, "UTF-8");
-            return gson.fromJson(json, new TypeToken<List<ErrorGroupDefinition>>(){}.getType());
-        } catch (IOException e) {
-            return Collections.emptyList();
+    private static void enqueue(Deque<String> queue, String className) {
+        if (className != null) {
+            queue.add(className);
         }
     }
 
-    private Object loadErrorResponse() {
-        File file = new File(this.documentPath + File.separator + "error" + File.separator + "error-response.json");
-        if (!file.exists()) return null;
+    private static void deleteRecursively(File file) throws IOException {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        Files.deleteIfExists(file.toPath());
+    }
+
+    private static void writeApi(JsonGenerator gen, APIDefinition api, SampleGenerator sampleGenerator) throws IOException {
+        sampleGenerator.generateSamples(api);
         try {
-            String json = FileUtils.readFileToString(file, "UTF-8");
-            return gson.fromJson(json, APIModelDefinition.class);
-        } catch (IOException e) {
-            return null;
+            JsonOutput.writeValue(gen, api);
+        } finally {
+            // 샘플은 번들에만 필요하므로 문서 모델에 남기지 않는다
+            api.setRequestSample(null);
+            api.setResponseSample(null);
         }
     }
+
+    private Map<String, Object> buildServiceMap() {
+        Map<String, Object> service = new LinkedHashMap<>();
+        service.put("serviceId", serviceDefinition.getServiceId());
+        service.put("name", serviceDefinition.getName());
+        service.put("apiServerUrl", serviceDefinition.getApiServerUrl());
+        service.put("version", serviceDefinition.getVersion());
+        service.put("introduction", serviceDefinition.getIntroduction());
+        service.put("auth", serviceDefinition.getAuth());
+        service.put("headers", serviceDefinition.getHeaders());
+        return service;
+    }
 }
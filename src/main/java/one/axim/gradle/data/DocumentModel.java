@@ -0,0 +1,135 @@
+package one.axim.gradle.data;
+
+import com.google.gson.reflect.TypeToken;
+import one.axim.gradle.utils.DocumentFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * In-memory result of one generation run, shared by all pipeline stages.
+ *
+ * <p>{@code RestApiDocGenerator} fills the API definitions and models, and {@code ErrorCodeScanner}
+ * adds the error groups and the error response model. {@code OpenApiSpecConverter},
+ * {@code SpecBundleGenerator} and {@code PostmanSpecConverter} then read from this model directly.
+ * The files under {@code api/}, {@code model/} and {@code error/} are written as outputs only and are
+ * not read back. {@link #load} reads them in any {@link DocumentFormat}.
+ *
+ * <p>APIs are kept per controller and models per fully qualified class name, both in name order,
+ * so every stage sees the same deterministic ordering.
+ *
+ * @see APIDefinition
+ * @see APIModelDefinition
+ * @see ErrorGroupDefinition
+ */
+public class DocumentModel {
+
+    /** Controller FQCN → API definitions of that controller. */
+    private final Map<String, List<APIDefinition>> apis = new TreeMap<>();
+    /** Model FQCN → model definition. */
+    private final Map<String, APIModelDefinition> models = new TreeMap<>();
+    private List<ErrorGroupDefinition> errorGroups = Collections.emptyList();
+    private APIModelDefinition errorResponse;
+
+    /**
+     * Reads a previously generated document directory. Used when a stage runs without a preceding
+     * generation step in the same process.
+     */
+    public static DocumentModel load(File docDir) {
+        return load(docDir, true);
+    }
+
+    /**
+     * Reads a previously generated document directory.
+     *
+     * @param includeModels {@code false} to skip {@code model/}, e.g. when models are looked up lazily
+     */
+    public static DocumentModel load(File docDir, boolean includeModels) {
+        DocumentModel document = new DocumentModel();
+
+        for (File file : DocumentFormat.list(new File(docDir, "api"))) {
+            APIDefinition[] apis = read(file, APIDefinition[].class);
+            if (apis != null) {
+                document.putApis(DocumentFormat.baseName(file), new ArrayList<>(Arrays.asList(apis)));
+            }
+        }
+        for (File file : includeModels ? DocumentFormat.list(new File(docDir, "model")) : Collections.<File>emptyList()) {
+            APIModelDefinition model = read(file, APIModelDefinition.class);
+            if (model != null) {
+                document.putModel(DocumentFormat.baseName(file), model);
+            }
+        }
+
+        File errorDir = new File(docDir, "error");
+        List<ErrorGroupDefinition> groups = read(new File(errorDir, "errors.json"),
+                new TypeToken<List<ErrorGroupDefinition>>() {}.getType());
+        if (groups != null) {
+            document.setErrorGroups(groups);
+        }
+        document.setErrorResponse(read(new File(errorDir, "error-response.json"), APIModelDefinition.class));
+        return document;
+    }
+
+    public synchronized void putApis(String controllerName, List<APIDefinition> controllerApis) {
+        apis.put(controllerName, controllerApis);
+    }
+
+    /**
+     * All API definitions, ordered by controller name and then by declaration order within a controller.
+     */
+    public synchronized List<APIDefinition> getApis() {
+        List<APIDefinition> all = new ArrayList<>();
+        for (List<APIDefinition> controllerApis : apis.values()) {
+            all.addAll(controllerApis);
+        }
+        return all;
+    }
+
+    public synchronized void putModel(String className, APIModelDefinition model) {
+        models.put(className, model);
+    }
+
+    /**
+     * Model definition by fully qualified class name, or {@code null} if no model was generated.
+     */
+    public synchronized APIModelDefinition getModel(String className) {
+        return className != null ? models.get(className) : null;
+    }
+
+    /**
+     * All models keyed by fully qualified class name, in name order.
+     */
+    public synchronized Map<String, APIModelDefinition> getModels() {
+        return new LinkedHashMap<>(models);
+    }
+
+    public List<ErrorGroupDefinition> getErrorGroups() {
+        return errorGroups;
+    }
+
+    public void setErrorGroups(List<ErrorGroupDefinition> errorGroups) {
+        this.errorGroups = errorGroups != null ? errorGroups : Collections.emptyList();
+    }
+
+    /**
+     * Error response model ({@code error/error-response.json}), or {@code null} if not resolved.
+     */
+    public APIModelDefinition getErrorResponse() {
+        return errorResponse;
+    }
+
+    public void setErrorResponse(APIModelDefinition errorResponse) {
+        this.errorResponse = errorResponse;
+    }
+
+    private static <T> T read(File file, java.lang.reflect.Type type) {
+        if (!file.isFile()) return null;
+        try {
+            return DocumentFormat.read(file, type);
+        } catch (IOException | RuntimeException e) {
+            // skip unreadable files
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package one.axim.gradle.data;
+
+/**
+ * 컨트롤러/예외 클래스 스캔 범위 ({@code scanScope} DSL 값).
+ */
+public enum ScanScope {
+    /** 전체 런타임 클래스패스(의존성 JAR 포함)를 스캔한다. (기본값) */
+    CLASSPATH("classpath"),
+    /** 프로젝트 SourceSet 클래스 출력 디렉터리와 {@code scanJars}로 지정한 JAR만 스캔한다. */
+    PROJECT("project");
+
+    private final String value;
+
+    ScanScope(String value) {
+        this.value = value;
+    }
+
+    /**
+     * DSL 값으로 범위를 찾는다. 대소문자와 앞뒤 공백은 무시하며, 비어 있으면 {@link #CLASSPATH}.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 값
+     */
+    public static ScanScope of(String value) {
+        if (value == null || value.isBlank()) return CLASSPATH;
+        for (ScanScope scope : values()) {
+            if (scope.value.equalsIgnoreCase(value.trim())) return scope;
+        }
+        throw new IllegalArgumentException("Unsupported scanScope '" + value + "' — supported: classpath, project");
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -1,6 +1,8 @@
 package one.axim.gradle.generator;
 
 import one.axim.gradle.data.*;
+import one.axim.gradle.utils.DocumentFormat;
+import one.axim.gradle.utils.ModelRepository;
 import one.axim.gradle.utils.SpringPageSchema;
 import one.axim.gradle.utils.SpringPageSortSchema;
 import one.axim.gradle.utils.XPageSchema;
@@ -10,8 +12,6 @@ import one.axim.gradle.generator.data.ModelDefinition;
 import one.axim.gradle.generator.utils.TypeMapUtils;
 import one.axim.gradle.utils.TextEscapeUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.google.gson.Gson;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
@@ -20,7 +20,20 @@ import java.lang.reflect.Field;
 
 public class ModelGenerator {
 
-    private static final Gson gson = new Gson();
+    /** 모델 조회소. {@code null}이면 {@code modelPath} 디렉터리의 모델 파일을 읽는다. */
+    private final ModelRepository models;
+
+    public ModelGenerator() {
+        this(null);
+    }
+
+    /**
+     * @param models 모델 조회소. 같은 실행의 {@link ModelRepository#of 메모리 문서 모델}을 주면 모델 파일을 다시 읽지 않는다.
+     * @since 2.2.0
+     */
+    public ModelGenerator(ModelRepository models) {
+        this.models = models;
+    }
 
     public ModelDefinition generatorRequestModelObject(APIDefinition api, String modelPath, LanguageType languageType)
             throws IOException {
@@ -58,151 +71,157 @@ public class ModelGenerator {
     public void makeModelDefinition(LanguageType languageType, ModelDefinition modelDefinition, String className,
                                     String suffix, String modelClass, String modelPath, String pagingType) throws IOException {
 
-        File modelFile = new File(modelPath + File.separator + modelClass + ".json");
-        if (modelFile.exists()) {
+        APIModelDefinition apiModel = findModel(modelClass, modelPath);
+        if (apiModel != null) {
 
             String clsName = className + suffix;
 
-            try {
-
-                if (PagingType.XPAGE.equals(pagingType)) {
-                    ModelData modelData = new ModelData();
-                    modelData.setClassName(className + "Page" + suffix);
-
-                    Field[] fields = XPageSchema.class.getDeclaredFields();
-                    for (Field field : fields) {
-
-                        FieldData fieldData = new FieldData();
-                        fieldData.setName(field.getName());
-                        fieldData.setComment(getXPageObjectCommentByName(field.getName()));
-                        fieldData.setOptional(false);
-
-                        if (fieldData.getName().equals("orders")) {
-                            fieldData.setOptional(true);
-
-                            String orderClassName = className + "PageOrder" + suffix;
-                            fieldData.setType(TypeMapUtils.GetTypeByLanuage("Array", languageType) + "<" + orderClassName + ">");
+            if (PagingType.XPAGE.equals(pagingType)) {
+                ModelData modelData = new ModelData();
+                modelData.setClassName(className + "Page" + suffix);
 
-                            ModelData orderModelData = new ModelData();
-                            orderModelData.setClassName(orderClassName);
+                Field[] fields = XPageSchema.class.getDeclaredFields();
+                for (Field field : fields) {
 
-                            FieldData orderFieldData = new FieldData();
-                            orderFieldData.setName("direction");
-                            orderFieldData.setComment("정렬 방식 (ASC,DESC)");
-                            orderFieldData.setOptional(true);
-                            orderFieldData.setType(TypeMapUtils.GetTypeByLanuage("String", languageType));
+                    FieldData fieldData = new FieldData();
+                    fieldData.setName(field.getName());
+                    fieldData.setComment(getXPageObjectCommentByName(field.getName()));
+                    fieldData.setOptional(false);
 
-                            orderModelData.addField(orderFieldData);
+                    if (fieldData.getName().equals("orders")) {
+                        fieldData.setOptional(true);
 
-                            FieldData orderColumnFieldData = new FieldData();
-                            orderColumnFieldData.setName("column");
-                            orderColumnFieldData.setComment("정렬에 사용된 컬럼 이름");
-                            orderColumnFieldData.setOptional(true);
-                            orderColumnFieldData.setType(TypeMapUtils.GetTypeByLanuage("String", languageType));
+                        String orderClassName = className + "PageOrder" + suffix;
+                        fieldData.setType(TypeMapUtils.GetTypeByLanuage("Array", languageType) + "<" + orderClassName + ">");
 
-                            orderModelData.addField(orderColumnFieldData);
+                        ModelData orderModelData = new ModelData();
+                        orderModelData.setClassName(orderClassName);
 
-                            modelDefinition.addModel(orderModelData);
-                        } else {
-                            fieldData.setType(resolveSchemaFieldType(field, languageType, clsName));
-                        }
+                        FieldData orderFieldData = new FieldData();
+                        orderFieldData.setName("direction");
+                        orderFieldData.setComment("정렬 방식 (ASC,DESC)");
+                        orderFieldData.setOptional(true);
+                        orderFieldData.setType(TypeMapUtils.GetTypeByLanuage("String", languageType));
 
-                        modelData.addField(fieldData);
-                    }
+                        orderModelData.addField(orderFieldData);
 
-                    modelDefinition.setKeepModel(modelData);
-                } else if (PagingType.SPRING.equals(pagingType)) {
-                    ModelData modelData = new ModelData();
-                    modelData.setClassName(className + "Page" + suffix);
+                        FieldData orderColumnFieldData = new FieldData();
+                        orderColumnFieldData.setName("column");
+                        orderColumnFieldData.setComment("정렬에 사용된 컬럼 이름");
+                        orderColumnFieldData.setOptional(true);
+                        orderColumnFieldData.setType(TypeMapUtils.GetTypeByLanuage("String", languageType));
 
-                    Field[] fields = SpringPageSchema.class.getDeclaredFields();
-                    for (Field field : fields) {
-                        FieldData fieldData = new FieldData();
-                        fieldData.setName(field.getName());
-                        fieldData.setComment(getSpringPageObjectCommentByName(field.getName()));
-                        fieldData.setOptional(false);
+                        orderModelData.addField(orderColumnFieldData);
 
+                        modelDefinition.addModel(orderModelData);
+                    } else {
                         fieldData.setType(resolveSchemaFieldType(field, languageType, clsName));
-                        modelData.addField(fieldData);
                     }
 
-                    // sort 중첩 모델
-                    String sortClassName = className + "PageSort" + suffix;
-                    FieldData sortField = new FieldData();
-                    sortField.setName("sort");
-                    sortField.setComment("Sort information");
-                    sortField.setOptional(true);
-                    sortField.setType(sortClassName);
-                    modelData.addField(sortField);
-
-                    ModelData sortModelData = new ModelData();
-                    sortModelData.setClassName(sortClassName);
-
-                    for (Field sortSchemaField : SpringPageSortSchema.class.getDeclaredFields()) {
-                        FieldData sf = new FieldData();
-                        sf.setName(sortSchemaField.getName());
-                        sf.setComment(getSpringPageSortCommentByName(sortSchemaField.getName()));
-                        sf.setOptional(false);
-                        sf.setType(TypeMapUtils.GetTypeByLanuage(
-                                StringUtils.substringAfterLast(sortSchemaField.getType().getTypeName(), "."), languageType));
-                        sortModelData.addField(sf);
-                    }
-
-                    modelDefinition.addModel(sortModelData);
-                    modelDefinition.setKeepModel(modelData);
+                    modelData.addField(fieldData);
                 }
 
-                APIModelDefinition apiModel =
-                        gson.fromJson(FileUtils.readFileToString(modelFile, "UTF-8"), APIModelDefinition.class);
-
+                modelDefinition.setKeepModel(modelData);
+            } else if (PagingType.SPRING.equals(pagingType)) {
                 ModelData modelData = new ModelData();
-                modelData.setClassName(clsName);
+                modelData.setClassName(className + "Page" + suffix);
 
-                for (APIField field : apiModel.getFields()) {
+                Field[] fields = SpringPageSchema.class.getDeclaredFields();
+                for (Field field : fields) {
                     FieldData fieldData = new FieldData();
                     fieldData.setName(field.getName());
-                    fieldData.setComment(TextEscapeUtils.escapeForMarkdownTable(field.getDescription()));
-                    fieldData.setOptional(field.isOptional());
-                    fieldData.setEnum(false);
-                    fieldData.setClassPath(field.getClassPath());
+                    fieldData.setComment(getSpringPageObjectCommentByName(field.getName()));
+                    fieldData.setOptional(false);
+
+                    fieldData.setType(resolveSchemaFieldType(field, languageType, clsName));
+                    modelData.addField(fieldData);
+                }
 
-                    String type;
-                    if (field.getType().equals("Object")) {
+                // sort 중첩 모델
+                String sortClassName = className + "PageSort" + suffix;
+                FieldData sortField = new FieldData();
+                sortField.setName("sort");
+                sortField.setComment("Sort information");
+                sortField.setOptional(true);
+                sortField.setType(sortClassName);
+                modelData.addField(sortField);
+
+                ModelData sortModelData = new ModelData();
+                sortModelData.setClassName(sortClassName);
+
+                for (Field sortSchemaField : SpringPageSortSchema.class.getDeclaredFields()) {
+                    FieldData sf = new FieldData();
+                    sf.setName(sortSchemaField.getName());
+                    sf.setComment(getSpringPageSortCommentByName(sortSchemaField.getName()));
+                    sf.setOptional(false);
+                    sf.setType(TypeMapUtils.GetTypeByLanuage(
+                            StringUtils.substringAfterLast(sortSchemaField.getType().getTypeName(), "."), languageType));
+                    sortModelData.addField(sf);
+                }
 
-                        String cls = className + toNameUpperCase(field.getName());
-                        makeModelDefinition(languageType, modelDefinition, cls, suffix, field.getClassPath(), modelPath);
+                modelDefinition.addModel(sortModelData);
+                modelDefinition.setKeepModel(modelData);
+            }
 
-                        type = cls + suffix;
-                    } else if (field.getType().equals("Array")) {
+            ModelData modelData = new ModelData();
+            modelData.setClassName(clsName);
 
-                        String cls = className + toNameUpperCase(field.getName());
+            for (APIField field : apiModel.getFields()) {
+                FieldData fieldData = new FieldData();
+                fieldData.setName(field.getName());
+                fieldData.setComment(TextEscapeUtils.escapeForMarkdownTable(field.getDescription()));
+                fieldData.setOptional(field.isOptional());
+                fieldData.setEnum(false);
+                fieldData.setClassPath(field.getClassPath());
 
-                        if (TypeMapUtils.isNormalDataType(field.getClassPath())) {
-                            String tempType = TypeMapUtils.GetTypeByLanuage(getClassFileName(field.getClassPath()), languageType);
-                            type = TypeMapUtils.GetTypeByLanuage("Array", languageType) + "<" + tempType + ">";
-                        } else {
-                            makeModelDefinition(languageType, modelDefinition, cls, suffix, field.getClassPath(), modelPath);
-                            type = TypeMapUtils.GetTypeByLanuage("Array", languageType) + "<" + cls + suffix + ">";
-                        }
-                    } else if (field.getType().equals("Enum")) {
+                String type;
+                if (field.getType().equals("Object")) {
 
-                        type = StringUtils.substringAfterLast(field.getClassPath(), ".");
-                        fieldData.setEnum(true);
+                    String cls = className + toNameUpperCase(field.getName());
+                    makeModelDefinition(languageType, modelDefinition, cls, suffix, field.getClassPath(), modelPath);
 
-                    } else {
+                    type = cls + suffix;
+                } else if (field.getType().equals("Array")) {
+
+                    String cls = className + toNameUpperCase(field.getName());
 
-                        type = TypeMapUtils.GetTypeByLanuage(field.getType(), languageType);
+                    if (TypeMapUtils.isNormalDataType(field.getClassPath())) {
+                        String tempType = TypeMapUtils.GetTypeByLanuage(getClassFileName(field.getClassPath()), languageType);
+                        type = TypeMapUtils.GetTypeByLanuage("Array", languageType) + "<" + tempType + ">";
+                    } else {
+                        makeModelDefinition(languageType, modelDefinition, cls, suffix, field.getClassPath(), modelPath);
+                        type = TypeMapUtils.GetTypeByLanuage("Array", languageType) + "<" + cls + suffix + ">";
                     }
+                } else if (field.getType().equals("Enum")) {
 
-                    fieldData.setType(type);
-                    modelData.addField(fieldData);
-                }
+                    type = StringUtils.substringAfterLast(field.getClassPath(), ".");
+                    fieldData.setEnum(true);
+
+                } else {
 
-                modelDefinition.addModel(modelData);
+                    type = TypeMapUtils.GetTypeByLanuage(field.getType(), languageType);
+                }
 
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
+                fieldData.setType(type);
+                modelData.addField(fieldData);
             }
+
+            modelDefinition.addModel(modelData);
+        }
+    }
+
+    private APIModelDefinition findModel(String modelClass, String modelPath) throws IOException {
+        if (models != null) {
+            return models.get(modelClass);
+        }
+        File modelFile = DocumentFormat.find(new File(modelPath), modelClass);
+        if (modelFile == null) {
+            return null;
+        }
+        try {
+            return DocumentFormat.read(modelFile, APIModelDefinition.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -0,0 +1,153 @@
+package one.axim.gradle.processor;
+
+import java.util.*;
+
+/**
+ * 한 타입의 Javadoc 코멘트를 담은 사이드카.
+ *
+ * <p>{@link RestDocIndexProcessor}가 javac의 {@code Elements.getDocComment()}로 수집하여 클래스 파일 옆에
+ * {@code <BinaryName>}{@value #SUFFIX} 로 기록한다. 문서 생성 시 {@code JavaSourceParser}가 소스 파일을
+ * 다시 파싱하는 대신 이 파일을 읽는다. 코멘트는 블록 태그를 포함한 Javadoc 원문을 그대로 보관한다.
+ *
+ * <pre>{@code
+ * {
+ *   "comment": "사용자 API\n@group user",
+ *   "fields": { "name": "이름" },
+ *   "methods": [ { "name": "getUser", "parameterTypes": ["java.lang.Long"], "parameterNames": ["id"], "comment": "..." } ]
+ * }
+ * }</pre>
+ *
+ * @since 2.2.0
+ */
+public class ClassDocs {
+
+    public static final String SUFFIX = ".restdoc.json";
+
+    private String comment;
+    private Map<String, String> fields = new TreeMap<>();
+    private List<MethodDocs> methods = new ArrayList<>();
+
+    /**
+     * 바이너리 클래스 이름에 대한 사이드카 리소스 경로 (예: {@code com/example/Outer$Inner.restdoc.json}).
+     */
+    public static String resourcePath(String binaryName) {
+        return binaryName.replace('.', '/') + SUFFIX;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    /**
+     * 필드 및 enum 상수 이름별 코멘트.
+     */
+    public Map<String, String> getFields() {
+        return fields != null ? fields : Collections.emptyMap();
+    }
+
+    public List<MethodDocs> getMethods() {
+        return methods != null ? methods : Collections.emptyList();
+    }
+
+    /**
+     * 이름과 파라미터 타입으로 메서드를 찾는다. 타입이 일치하는 메서드가 없으면 이름과 파라미터 수가 같은 첫 메서드.
+     * 소스에서 읽은 타입은 선언된 그대로(예: {@code List}, {@code Map.Entry})이므로 정규 이름의 끝부분과 같아도 일치로 본다.
+     *
+     * @param parameterTypes 소거(erasure)된 파라미터 타입의 정규 이름 (예: {@code java.util.List}, {@code int[]})
+     */
+    public MethodDocs findMethod(String name, List<String> parameterTypes) {
+        MethodDocs candidate = null;
+        for (MethodDocs method : getMethods()) {
+            if (!method.getName().equals(name) || method.getParameterTypes().size() != parameterTypes.size()) continue;
+            if (parameterTypesMatch(method.getParameterTypes(), parameterTypes)) return method;
+            if (candidate == null) candidate = method;
+        }
+        return candidate;
+    }
+
+    /**
+     * 선언된 파라미터 타입이 정규 이름과 일치하는지 여부. 선언된 타입은 정규 이름 그대로이거나 그 끝부분(단순 이름, 중첩 이름)이다.
+     *
+     * @param declared  소스나 사이드카에 기록된 파라미터 타입
+     * @param canonical 같은 수의 소거된 파라미터 타입 정규 이름
+     */
+    public static boolean parameterTypesMatch(List<String> declared, List<String> canonical) {
+        for (int i = 0; i < declared.size(); i++) {
+            String d = declared.get(i);
+            String c = canonical.get(i);
+            if (!c.equals(d) && !(c.endsWith(d) && c.charAt(c.length() - d.length() - 1) == '.')) return false;
+        }
+        return true;
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"comment\": ").append(JsonWriter.quote(comment)).append(",\n");
+
+        sb.append("  \"fields\": {");
+        boolean first = true;
+        for (Map.Entry<String, String> e : getFields().entrySet()) {
+            sb.append(first ? "\n" : ",\n");
+            sb.append("    ").append(JsonWriter.quote(e.getKey())).append(": ").append(JsonWriter.quote(e.getValue()));
+            first = false;
+        }
+        sb.append(first ? "},\n" : "\n  },\n");
+
+        sb.append("  \"methods\": [");
+        first = true;
+        for (MethodDocs method : getMethods()) {
+            sb.append(first ? "\n" : ",\n");
+            sb.append("    { \"name\": ").append(JsonWriter.quote(method.getName()));
+            sb.append(", \"parameterTypes\": ");
+            JsonWriter.appendArray(sb, method.getParameterTypes());
+            sb.append(", \"parameterNames\": ");
+            JsonWriter.appendArray(sb, method.getParameterNames());
+            sb.append(", \"comment\": ").append(JsonWriter.quote(method.getComment())).append(" }");
+            first = false;
+        }
+        sb.append(first ? "]\n" : "\n  ]\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * 메서드 시그니처와 코멘트.
+     */
+    public static class MethodDocs {
+        private String name;
+        private List<String> parameterTypes = new ArrayList<>();
+        private List<String> parameterNames = new ArrayList<>();
+        private String comment;
+
+        public MethodDocs() {
+        }
+
+        public MethodDocs(String name, List<String> parameterTypes, List<String> parameterNames, String comment) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.parameterNames = parameterNames;
+            this.comment = comment;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getParameterTypes() {
+            return parameterTypes != null ? parameterTypes : Collections.emptyList();
+        }
+
+        public List<String> getParameterNames() {
+            return parameterNames != null ? parameterNames : Collections.emptyList();
+        }
+
+        public String getComment() {
+            return comment;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package one.axim.gradle.processor;
+
+import java.util.Collection;
+
+/**
+ * 어노테이션 프로세서 출력용 최소 JSON 작성 도우미. (프로세서 경로에는 JSON 라이브러리가 없다)
+ */
+final class JsonWriter {
+
+    private JsonWriter() {
+    }
+
+    static void appendArray(StringBuilder sb, Collection<String> values) {
+        sb.append('[');
+        boolean first = true;
+        for (String value : values) {
+            if (!first) sb.append(", ");
+            sb.append(quote(value));
+            first = false;
+        }
+        sb.append(']');
+    }
+
+    static String quote(String value) {
+        if (value == null) return "null";
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,115 @@
+package one.axim.gradle.processor;
+
+import java.util.*;
+
+/**
+ * 컴파일 시점에 {@link RestDocIndexProcessor}가 기록하는 컨트롤러/ErrorCode 보유 클래스 인덱스.
+ *
+ * <p>클래스 출력 디렉터리의 {@value #RESOURCE_PATH}에 저장되며, {@code compileIndex = true}이면
+ * {@code restMetaGenerator} 태스크가 클래스패스를 스캔하는 대신 이 인덱스에 나열된 클래스만 로드한다.
+ *
+ * <pre>{@code
+ * {
+ *   "version": 1,
+ *   "controllers": [ { "className": "com.example.UserController", "methods": ["getUser"] } ],
+ *   "errorCodeHolders": ["com.example.exception.UserException"]
+ * }
+ * }</pre>
+ *
+ * <p>어노테이션 프로세서 경로에는 플러그인 JAR만 올라가므로 이 클래스는 JDK 외 의존성을 사용하지 않는다.
+ *
+ * @since 2.2.0
+ */
+public class RestDocIndex {
+
+    public static final String RESOURCE_PATH = "META-INF/restdoc/index.json";
+    public static final int VERSION = 1;
+
+    private int version = VERSION;
+    private List<ControllerEntry> controllers = new ArrayList<>();
+    private List<String> errorCodeHolders = new ArrayList<>();
+
+    public int getVersion() {
+        return version;
+    }
+
+    public List<ControllerEntry> getControllers() {
+        return controllers != null ? controllers : Collections.emptyList();
+    }
+
+    public List<String> getErrorCodeHolders() {
+        return errorCodeHolders != null ? errorCodeHolders : Collections.emptyList();
+    }
+
+    /**
+     * 다른 인덱스(다른 서브프로젝트)의 항목을 합친다.
+     */
+    public void merge(RestDocIndex other) {
+        if (other == null) return;
+        controllers.addAll(other.getControllers());
+        errorCodeHolders.addAll(other.getErrorCodeHolders());
+    }
+
+    /**
+     * 컨트롤러와 ErrorCode 보유 클래스 이름 — 태스크가 로드해야 하는 클래스 목록.
+     */
+    public Set<String> getIndexedClassNames() {
+        Set<String> names = new TreeSet<>();
+        for (ControllerEntry controller : getControllers()) {
+            names.add(controller.getClassName());
+        }
+        names.addAll(getErrorCodeHolders());
+        return names;
+    }
+
+    /**
+     * JSON 문자열로 직렬화한다. 항목은 이름 순으로 정렬되어 같은 입력이면 같은 출력이 나온다.
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"version\": ").append(version).append(",\n");
+
+        List<ControllerEntry> sortedControllers = new ArrayList<>(getControllers());
+        sortedControllers.sort(Comparator.comparing(ControllerEntry::getClassName));
+        sb.append("  \"controllers\": [");
+        for (int i = 0; i < sortedControllers.size(); i++) {
+            ControllerEntry controller = sortedControllers.get(i);
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    { \"className\": ").append(JsonWriter.quote(controller.getClassName()))
+                    .append(", \"methods\": ");
+            JsonWriter.appendArray(sb, new TreeSet<>(controller.getMethods()));
+            sb.append(" }");
+        }
+        sb.append(sortedControllers.isEmpty() ? "],\n" : "\n  ],\n");
+
+        sb.append("  \"errorCodeHolders\": ");
+        JsonWriter.appendArray(sb, new TreeSet<>(getErrorCodeHolders()));
+        sb.append("\n}\n");
+        return sb.toString();
+    }
+
+    /**
+     * 컨트롤러 클래스와 매핑 메서드 이름.
+     */
+    public static class ControllerEntry {
+        private String className;
+        private List<String> methods = new ArrayList<>();
+
+        public ControllerEntry() {
+        }
+
+        public ControllerEntry(String className, List<String> methods) {
+            this.className = className;
+            this.methods = methods;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public List<String> getMethods() {
+            return methods != null ? methods : Collections.emptyList();
+        }
+    }
+}
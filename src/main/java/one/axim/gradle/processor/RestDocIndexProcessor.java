@@ -0,0 +1,270 @@
+package one.axim.gradle.processor;
+
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * javac 시점에 {@code @RestController} 클래스, 매핑 메서드, ErrorCode 보유 클래스를 수집하여
+ * {@value RestDocIndex#RESOURCE_PATH}를 생성하는 어노테이션 프로세서.
+ *
+ * <p>컴파일되는 모든 타입의 Javadoc도 {@code Elements.getDocComment()}로 수집하여 클래스 파일 옆에
+ * {@link ClassDocs} 사이드카로 기록한다. 문서 생성 시 소스 파일 재파싱이 필요 없다.
+ * 증분 컴파일에서 클래스 파일로 다시 제시된 타입은 Javadoc과 파라미터 이름이 없으므로 사이드카를 쓰지 않고,
+ * 문서 생성 시 소스 파싱으로 대체된다.
+ *
+ * <p>{@code restMetaGenerator { compileIndex = true }}로 활성화하면 {@link one.axim.gradle.DocumentPlugin}이
+ * 플러그인 JAR을 {@code annotationProcessor}에 추가한다. Gradle에는 aggregating 프로세서로 등록되어
+ * 증분 컴파일을 유지한다.
+ *
+ * <p>옵션:
+ * <ul>
+ *   <li>{@code -Arestdoc.errorCodeClass=<FQCN>} — ErrorCode 클래스 (기본값: 프레임워크 ErrorCode)</li>
+ * </ul>
+ *
+ * @since 2.2.0
+ */
+@SupportedOptions(RestDocIndexProcessor.OPTION_ERROR_CODE_CLASS)
+public class RestDocIndexProcessor extends AbstractProcessor {
+
+    public static final String OPTION_ERROR_CODE_CLASS = "restdoc.errorCodeClass";
+
+    private static final String DEFAULT_ERROR_CODE_CLASS = "one.axim.framework.rest.exception.ErrorCode";
+    private static final String REST_CONTROLLER = "org.springframework.web.bind.annotation.RestController";
+
+    private static final Set<String> MAPPING_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.web.bind.annotation.GetMapping",
+            "org.springframework.web.bind.annotation.PostMapping",
+            "org.springframework.web.bind.annotation.PutMapping",
+            "org.springframework.web.bind.annotation.DeleteMapping",
+            "org.springframework.web.bind.annotation.RequestMapping",
+            "org.springframework.web.bind.annotation.PatchMapping"
+    ));
+
+    private final Map<String, List<String>> controllers = new TreeMap<>();
+    private final Set<String> errorCodeHolders = new TreeSet<>();
+
+    private Elements elements;
+    private Types types;
+    private Trees trees;
+    private TypeMirror errorCodeType;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // ErrorCode 보유 클래스는 어노테이션이 없으므로 모든 루트 요소를 본다
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (elements == null) {
+            elements = processingEnv.getElementUtils();
+            types = processingEnv.getTypeUtils();
+            errorCodeType = resolveErrorCodeType();
+            trees = resolveTrees(processingEnv);
+            if (trees == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "restdoc: compiler trees are not available, Javadoc sidecars will not be written");
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                visitType((TypeElement) element);
+            }
+        }
+        // 다른 프로세서가 같은 어노테이션을 처리할 수 있도록 claim 하지 않는다
+        return false;
+    }
+
+    private TypeMirror resolveErrorCodeType() {
+        String option = processingEnv.getOptions().get(OPTION_ERROR_CODE_CLASS);
+        String className = option != null && !option.isEmpty() ? option : DEFAULT_ERROR_CODE_CLASS;
+        TypeElement element = elements.getTypeElement(className);
+        return element != null ? types.erasure(element.asType()) : null;
+    }
+
+    /**
+     * javac {@link Trees}를 얻는다. Gradle은 증분 프로세서의 {@code ProcessingEnvironment}를 감싸므로
+     * {@code delegate} 필드를 따라가 원래 환경을 찾는다. javac가 아니면 null.
+     */
+    private static Trees resolveTrees(ProcessingEnvironment env) {
+        for (int depth = 0; env != null && depth < 4; depth++) {
+            try {
+                return Trees.instance(env);
+            } catch (IllegalArgumentException e) {
+                env = unwrap(env);
+            }
+        }
+        return null;
+    }
+
+    private static ProcessingEnvironment unwrap(ProcessingEnvironment env) {
+        for (Class<?> c = env.getClass(); c != null; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField("delegate");
+                field.setAccessible(true);
+                Object delegate = field.get(env);
+                return delegate instanceof ProcessingEnvironment ? (ProcessingEnvironment) delegate : null;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스에서 찾는다
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private void visitType(TypeElement type) {
+        writeDocs(type);
+
+        if (hasAnnotation(type, REST_CONTROLLER)) {
+            visitController(type);
+        }
+
+        if (errorCodeType != null && hasErrorCodeField(type)) {
+            errorCodeHolders.add(binaryName(type));
+        }
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement) {
+                visitType((TypeElement) enclosed);
+            }
+        }
+    }
+
+    private void visitController(TypeElement type) {
+        List<String> methods = new ArrayList<>();
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.METHOD) continue;
+
+            ExecutableElement method = (ExecutableElement) enclosed;
+            if (!hasAnyAnnotation(method, MAPPING_ANNOTATIONS)) continue;
+
+            methods.add(method.getSimpleName().toString());
+        }
+
+        if (!methods.isEmpty()) {
+            controllers.put(binaryName(type), methods);
+        }
+    }
+
+    private boolean hasErrorCodeField(TypeElement type) {
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.FIELD) continue;
+            Set<Modifier> modifiers = enclosed.getModifiers();
+            if (modifiers.contains(Modifier.PUBLIC) && modifiers.contains(Modifier.STATIC)
+                    && modifiers.contains(Modifier.FINAL)
+                    && types.isAssignable(types.erasure(enclosed.asType()), errorCodeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String binaryName(TypeElement type) {
+        return elements.getBinaryName(type).toString();
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationClassName) {
+        return hasAnyAnnotation(element, Collections.singleton(annotationClassName));
+    }
+
+    private static boolean hasAnyAnnotation(Element element, Set<String> annotationClassNames) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationClassNames.contains(annotationType.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 타입의 클래스/필드/enum 상수/메서드 Javadoc을 사이드카 파일로 기록한다.
+     */
+    private void writeDocs(TypeElement type) {
+        // 소스 트리가 없는 타입(증분 컴파일에서 클래스 파일로 다시 제시된 타입)은 Javadoc이 null이고
+        // 파라미터 이름이 arg0이 되므로, 기존 문서를 비우지 않도록 건너뛴다
+        if (trees == null || trees.getPath(type) == null) return;
+
+        ClassDocs docs = new ClassDocs();
+        docs.setComment(elements.getDocComment(type));
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            ElementKind kind = enclosed.getKind();
+            if (kind == ElementKind.FIELD || kind == ElementKind.ENUM_CONSTANT) {
+                String comment = elements.getDocComment(enclosed);
+                if (comment != null) {
+                    docs.getFields().put(enclosed.getSimpleName().toString(), comment);
+                }
+            } else if (kind == ElementKind.METHOD) {
+                ExecutableElement method = (ExecutableElement) enclosed;
+                List<String> parameterTypes = new ArrayList<>();
+                List<String> parameterNames = new ArrayList<>();
+                for (VariableElement parameter : method.getParameters()) {
+                    parameterTypes.add(types.erasure(parameter.asType()).toString());
+                    parameterNames.add(parameter.getSimpleName().toString());
+                }
+                docs.getMethods().add(new ClassDocs.MethodDocs(method.getSimpleName().toString(),
+                        parameterTypes, parameterNames, elements.getDocComment(method)));
+            }
+        }
+
+        String path = ClassDocs.resourcePath(binaryName(type));
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", path, type);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(docs.toJson());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "restdoc: failed to write " + path + " — " + e.getMessage());
+        }
+    }
+
+    private void writeIndex() {
+        RestDocIndex index = new RestDocIndex();
+        for (Map.Entry<String, List<String>> e : controllers.entrySet()) {
+            index.getControllers().add(new RestDocIndex.ControllerEntry(e.getKey(), e.getValue()));
+        }
+        index.getErrorCodeHolders().addAll(errorCodeHolders);
+
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", RestDocIndex.RESOURCE_PATH);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(index.toJson());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "restdoc: failed to write " + RestDocIndex.RESOURCE_PATH + " — " + e.getMessage());
+        }
+    }
+}
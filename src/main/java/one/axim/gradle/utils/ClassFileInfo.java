@@ -0,0 +1,314 @@
+package one.axim.gradle.utils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * 클래스를 로드하지 않고 .class 바이트코드에서 필요한 메타데이터만 읽어낸다.
+ *
+ * <p>constant pool, 클래스/필드/메서드 선언과 {@code RuntimeVisibleAnnotations} 속성만 해석하며,
+ * 코드나 그 외 속성은 건너뛴다. 클래스 로딩/링킹/static 초기화 없이 {@code @RestController} 여부 등을
+ * 판별하기 위해 사용한다.
+ *
+ * <pre>{@code
+ * try (InputStream in = ...) {
+ *     ClassFileInfo info = ClassFileInfo.read(in);
+ *     if (info.hasAnnotation("org.springframework.web.bind.annotation.RestController")) { ... }
+ * }
+ * }</pre>
+ */
+public class ClassFileInfo {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private String className;
+    private String superClassName;
+    private int accessFlags;
+    private final List<String> interfaceNames = new ArrayList<>();
+    private final Set<String> annotations = new LinkedHashSet<>();
+    private final List<Member> fields = new ArrayList<>();
+    private final List<Member> methods = new ArrayList<>();
+
+    private ClassFileInfo() {
+    }
+
+    /**
+     * 클래스 파일 스트림을 파싱한다. 스트림은 닫지 않는다.
+     */
+    public static ClassFileInfo read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+        ClassFileInfo info = new ClassFileInfo();
+        info.parse(data);
+        return info;
+    }
+
+    /**
+     * 클래스 파일 바이트를 파싱한다.
+     */
+    public static ClassFileInfo read(byte[] bytes) throws IOException {
+        return read(new java.io.ByteArrayInputStream(bytes));
+    }
+
+    private void parse(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor
+        in.readUnsignedShort(); // major
+
+        Object[] pool = readConstantPool(in);
+
+        accessFlags = in.readUnsignedShort();
+        className = classNameAt(pool, in.readUnsignedShort());
+        int superIndex = in.readUnsignedShort();
+        superClassName = superIndex == 0 ? null : classNameAt(pool, superIndex);
+
+        int interfaceCount = in.readUnsignedShort();
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(classNameAt(pool, in.readUnsignedShort()));
+        }
+
+        readMembers(in, pool, fields);
+        readMembers(in, pool, methods);
+        readAttributes(in, pool, annotations);
+    }
+
+    /**
+     * constant pool을 읽는다. Utf8은 String, Class는 name index를 담은 int[]로 보관하고 나머지는 건너뛴다.
+     */
+    private static Object[] readConstantPool(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Object[] pool = new Object[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:  // Utf8
+                    pool[i] = in.readUTF();
+                    break;
+                case 7:  // Class
+                    pool[i] = new int[]{in.readUnsignedShort()};
+                    break;
+                case 8:  // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                case 3:  // Integer
+                case 4:  // Float
+                case 9:  // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.skipBytes(4);
+                    break;
+                case 5:  // Long
+                case 6:  // Double
+                    in.skipBytes(8);
+                    i++; // 8바이트 상수는 두 슬롯을 차지한다
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+        return pool;
+    }
+
+    private static String classNameAt(Object[] pool, int index) {
+        Object entry = pool[index];
+        if (entry instanceof int[]) {
+            return ((String) pool[((int[]) entry)[0]]).replace('/', '.');
+        }
+        return null;
+    }
+
+    private static void readMembers(DataInputStream in, Object[] pool, List<Member> target) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            int access = in.readUnsignedShort();
+            String name = (String) pool[in.readUnsignedShort()];
+            String descriptor = (String) pool[in.readUnsignedShort()];
+            Member member = new Member(name, descriptor, access);
+            readAttributes(in, pool, member.annotations);
+            target.add(member);
+        }
+    }
+
+    private static void readAttributes(DataInputStream in, Object[] pool, Set<String> annotationTarget) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            String name = (String) pool[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                int annotationCount = in.readUnsignedShort();
+                for (int j = 0; j < annotationCount; j++) {
+                    annotationTarget.add(readAnnotation(in, pool));
+                }
+            } else {
+                skipFully(in, length);
+            }
+        }
+    }
+
+    /**
+     * annotation 구조를 읽고 타입 이름(FQCN)을 반환한다. element value는 건너뛴다.
+     */
+    private static String readAnnotation(DataInputStream in, Object[] pool) throws IOException {
+        String descriptor = (String) pool[in.readUnsignedShort()];
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            in.skipBytes(2); // element name
+            skipElementValue(in, pool);
+        }
+        return descriptorToClassName(descriptor);
+    }
+
+    private static void skipElementValue(DataInputStream in, Object[] pool) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                in.skipBytes(4);
+                break;
+            case '@':
+                readAnnotation(in, pool);
+                break;
+            case '[':
+                int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue(in, pool);
+                }
+                break;
+            default: // B C D F I J S Z s c
+                in.skipBytes(2);
+        }
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * {@code Lcom/example/Foo;} 형태의 필드 디스크립터를 {@code com.example.Foo}로 변환한다.
+     */
+    static String descriptorToClassName(String descriptor) {
+        if (descriptor != null && descriptor.startsWith("L") && descriptor.endsWith(";")) {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    public boolean isInterface() {
+        return (accessFlags & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    public Set<String> getAnnotations() {
+        return annotations;
+    }
+
+    public boolean hasAnnotation(String annotationClassName) {
+        return annotations.contains(annotationClassName);
+    }
+
+    public List<Member> getFields() {
+        return fields;
+    }
+
+    public List<Member> getMethods() {
+        return methods;
+    }
+
+    /**
+     * 주어진 어노테이션 중 하나라도 붙은 메서드가 있는지 확인한다.
+     */
+    public boolean hasMethodAnnotatedWithAny(Collection<String> annotationClassNames) {
+        for (Member method : methods) {
+            for (String annotation : method.annotations) {
+                if (annotationClassNames.contains(annotation)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필드 또는 메서드 선언 정보.
+     */
+    public static class Member {
+        private final String name;
+        private final String descriptor;
+        private final int accessFlags;
+        private final Set<String> annotations = new LinkedHashSet<>();
+
+        Member(String name, String descriptor, int accessFlags) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.accessFlags = accessFlags;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        public int getAccessFlags() {
+            return accessFlags;
+        }
+
+        public Set<String> getAnnotations() {
+            return annotations;
+        }
+
+        /**
+         * 필드 디스크립터가 참조 타입이면 해당 클래스 이름을, 아니면 {@code null}을 반환한다.
+         */
+        public String getTypeClassName() {
+            if (descriptor != null && descriptor.startsWith("L")) {
+                return descriptorToClassName(descriptor);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package one.axim.gradle.utils;
+
+import one.axim.gradle.processor.ClassDocs;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 증분 생성을 위한 클래스 입력 지문(SHA-256)을 계산한다.
+ *
+ * <p>클래스 하나의 지문은 JDK 밖의 상위 클래스 체인까지 포함하여 각 클래스의 .class 바이트와
+ * Javadoc 입력(사이드카가 있으면 사이드카, 없으면 소스 파일)을 합친 값이다. 클래스별 다이제스트는 캐시된다.
+ * 모델/컨트롤러 지문에는 필드와 시그니처가 참조하는 사용자 클래스의 지문도 필드를 따라 재귀적으로 포함한다.
+ */
+public class ClassFingerprint {
+
+    private final ClassUtils classUtils;
+    private final Map<Class<?>, byte[]> digests = new ConcurrentHashMap<>();
+
+    public ClassFingerprint(ClassUtils classUtils) {
+        this.classUtils = classUtils;
+    }
+
+    /**
+     * 모델 지문 — 클래스와 상위 클래스 체인, 필드(제네릭 타입 인자 포함)가 참조하는 타입.
+     * 참조 타입이 enum으로 바뀌거나 중첩 DTO에 필드가 추가되어도 다시 생성되도록 한다.
+     */
+    public String of(Class<?> cls) {
+        MessageDigest md = newDigest();
+        updateHierarchy(md, cls);
+
+        Set<Class<?>> fieldTypes = new TreeSet<>(Comparator.comparing(Class::getName));
+        collectFieldTypes(cls, fieldTypes);
+        fieldTypes.remove(cls);
+        updateReferenced(md, fieldTypes);
+        return toHex(md.digest());
+    }
+
+    /**
+     * 컨트롤러 지문 — 컨트롤러 클래스 체인과 매핑 메서드 시그니처가 참조하는 타입.
+     * 쿼리 파라미터 객체처럼 API 문서에 인라인되는 타입이 바뀌어도 다시 생성되도록 한다.
+     */
+    public String ofController(Class<?> cls, Collection<Method> methods) {
+        MessageDigest md = newDigest();
+        updateHierarchy(md, cls);
+
+        Set<Class<?>> signatureTypes = new TreeSet<>(Comparator.comparing(Class::getName));
+        for (Method method : methods) {
+            collectTypes(method.getGenericReturnType(), signatureTypes);
+            for (Type type : method.getGenericParameterTypes()) {
+                collectTypes(type, signatureTypes);
+            }
+        }
+        for (Class<?> type : new ArrayList<>(signatureTypes)) {
+            collectFieldTypes(type, signatureTypes);
+        }
+        updateReferenced(md, signatureTypes);
+        return toHex(md.digest());
+    }
+
+    /**
+     * 문자열 입력(DSL 설정 등)의 지문.
+     */
+    public static String ofStrings(Collection<String> values) {
+        MessageDigest md = newDigest();
+        for (String value : values) {
+            md.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+        }
+        return toHex(md.digest());
+    }
+
+    private void updateReferenced(MessageDigest md, Set<Class<?>> types) {
+        for (Class<?> type : types) {
+            md.update(type.getName().getBytes(StandardCharsets.UTF_8));
+            updateHierarchy(md, type);
+        }
+    }
+
+    /**
+     * 클래스 체인의 필드가 참조하는 사용자 타입을 재귀적으로 모은다. 이미 모은 타입은 다시 따라가지 않는다.
+     */
+    private static void collectFieldTypes(Class<?> cls, Set<Class<?>> target) {
+        for (Class<?> c = cls; c != null && !isJdkClass(c); c = c.getSuperclass()) {
+            Field[] fields;
+            try {
+                fields = c.getDeclaredFields();
+            } catch (LinkageError e) {
+                // 필드 타입을 로드할 수 없으면 클래스 바이트만으로 지문을 만든다
+                continue;
+            }
+            for (Field field : fields) {
+                if (field.isSynthetic()) continue;
+                Set<Class<?>> found = new TreeSet<>(Comparator.comparing(Class::getName));
+                try {
+                    collectTypes(field.getGenericType(), found);
+                } catch (RuntimeException | LinkageError e) {
+                    continue;
+                }
+                for (Class<?> type : found) {
+                    if (target.add(type)) {
+                        collectFieldTypes(type, target);
+                    }
+                }
+            }
+        }
+    }
+
+    private void updateHierarchy(MessageDigest md, Class<?> cls) {
+        for (Class<?> c = cls; c != null && !isJdkClass(c); c = c.getSuperclass()) {
+            md.update(digestOf(c));
+        }
+    }
+
+    private byte[] digestOf(Class<?> cls) {
+        return digests.computeIfAbsent(cls, c -> {
+            MessageDigest md = newDigest();
+            md.update(c.getName().getBytes(StandardCharsets.UTF_8));
+
+            ClassLoader loader = c.getClassLoader();
+            if (loader != null) {
+                update(md, loader, c.getName().replace('.', '/') + ".class");
+                if (!update(md, loader, ClassDocs.resourcePath(c.getName()))) {
+                    File source = classUtils != null ? classUtils.getSourceFile(c) : null;
+                    if (source != null) {
+                        try {
+                            md.update(Files.readAllBytes(source.toPath()));
+                        } catch (Exception e) {
+                            // 읽을 수 없는 소스는 지문에서 제외
+                        }
+                    }
+                }
+            }
+            return md.digest();
+        });
+    }
+
+    private static boolean update(MessageDigest md, ClassLoader loader, String resource) {
+        try (InputStream in = loader.getResourceAsStream(resource)) {
+            if (in == null) return false;
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                md.update(buffer, 0, read);
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void collectTypes(Type type, Set<Class<?>> target) {
+        if (type instanceof Class) {
+            Class<?> cls = (Class<?>) type;
+            while (cls.isArray()) cls = cls.getComponentType();
+            if (!cls.isPrimitive() && !isJdkClass(cls)) target.add(cls);
+        } else if (type instanceof ParameterizedType) {
+            collectTypes(((ParameterizedType) type).getRawType(), target);
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                collectTypes(argument, target);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collectTypes(((GenericArrayType) type).getGenericComponentType(), target);
+        } else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType) type).getUpperBounds()) collectTypes(bound, target);
+            for (Type bound : ((WildcardType) type).getLowerBounds()) collectTypes(bound, target);
+        }
+    }
+
+    private static boolean isJdkClass(Class<?> cls) {
+        String name = cls.getName();
+        return cls.getClassLoader() == null || name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -11,9 +11,9 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
 
 public class ClassUtils {
     private Project project;
@@ -24,6 +24,8 @@ public class ClassUtils {
 
     private ArrayList<URL> externalJarUrls;
 
+    private volatile SourceFileIndex sourceFileIndex;
+
     public ClassUtils(Project p) {
         classUrls = new ArrayList<>();
         externalJarUrls = new ArrayList<>();
@@ -48,34 +50,43 @@ public class ClassUtils {
         return this.externalJarUrls;
     }
 
-    public File getSourceFile(Class<?> clazz) {
-        String suffix = clazz.getName().replaceAll("\\.", Matcher.quoteReplacement(File.separator)) + ".java";
-
-        File sourceFile = null;
-
-        try {
-
-            Set<Project> projects = project.getRootProject().getAllprojects();
-
-            for (Project p : projects) { // All Project Find
-                System.out.println("project " + p.getName() + " source load ... find " + suffix);
-
-                File sourceRoot = new File(p.getProjectDir().getPath() + "/src/main/java");
-
-                if (sourceRoot.exists()) {
+    /**
+     * 소스 파일 색인을 지정한다. 태스크는 모든 프로젝트의 {@code ClassUtils}에 같은 색인을 공유한다.
+     */
+    public void setSourceFileIndex(SourceFileIndex sourceFileIndex) {
+        this.sourceFileIndex = sourceFileIndex;
+    }
 
-                    sourceFile = new File(sourceRoot.getPath() + "/" + suffix);
-                }
+    /**
+     * 클래스의 소스 파일을 모든 프로젝트의 소스 루트에서 찾는다. 없으면 {@code null}.
+     *
+     * @see SourceFileIndex
+     */
+    public File getSourceFile(Class<?> clazz) {
+        if (project == null) {
+            return null;
+        }
 
-                if (sourceFile != null && sourceFile.exists()) {
-                    return sourceFile;
+        SourceFileIndex index = sourceFileIndex;
+        if (index == null) {
+            synchronized (this) {
+                if (sourceFileIndex == null) {
+                    sourceFileIndex = SourceFileIndex.of(project);
                 }
+                index = sourceFileIndex;
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+        return index.find(clazz);
+    }
 
-        return null;
+    /**
+     * main SourceSet의 컴파일된 클래스 출력 디렉터리 목록을 반환한다.
+     */
+    public Set<File> getClassesDirs() {
+        if (mainSourceSet == null) {
+            return Collections.emptySet();
+        }
+        return mainSourceSet.getOutput().getClassesDirs().getFiles();
     }
 
     public SourceSet getMainSourceSet() {
@@ -0,0 +1,161 @@
+package one.axim.gradle.utils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태스크 실행 한 번 동안 공유하는 클래스패스 인덱스.
+ *
+ * <p>스캔 대상 패키지의 클래스 파일을 한 번만 열거하고 바이트코드 메타데이터를 읽어
+ * 다음 정보를 기록한다.
+ * <ul>
+ *   <li>클래스 이름 → 클래스 파일 위치 / {@link ClassFileInfo}</li>
+ *   <li>패키지 → 클래스 이름 목록</li>
+ *   <li>클래스 레벨 어노테이션 → 클래스 이름 목록</li>
+ * </ul>
+ *
+ * <p>컨트롤러 스캔({@code RestApiDocGenerator})과 예외 클래스 스캔({@code ErrorCodeScanner})이
+ * 같은 인덱스와 같은 클래스로더를 사용하므로 클래스패스 열거와 클래스 로딩이 한 번씩만 일어난다.
+ * {@link #loadClass(String)}는 실패 결과까지 캐시하여 샘플 생성 등 후속 단계에서도 재사용한다.
+ */
+public class ClasspathIndex {
+
+    private final ClassLoader classLoader;
+    private final Map<String, ClasspathScanner.ClassEntry> entries = new HashMap<>();
+    private final Map<String, ClassFileInfo> classFiles = new HashMap<>();
+    private final Map<String, List<String>> packageClasses = new TreeMap<>();
+    private final Map<String, Set<String>> annotatedClasses = new HashMap<>();
+    private final Map<String, Optional<Class<?>>> loadedClasses = new ConcurrentHashMap<>();
+
+    private ClasspathIndex(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * 스캐너로 대상 패키지의 클래스를 열거하여 인덱스를 만든다.
+     *
+     * @param classLoader 인덱스된 클래스를 로드할 클래스로더
+     * @param scanner     클래스 파일 열거에 사용할 스캐너. {@code null}이면 클래스로더의 전체 클래스패스를 사용한다.
+     * @param packages    인덱스 대상 패키지
+     */
+    public static ClasspathIndex build(ClassLoader classLoader, ClasspathScanner scanner,
+                                       PackagePrefixTrie packages) throws IOException {
+        ClasspathIndex index = new ClasspathIndex(classLoader);
+        ClasspathScanner effective = scanner != null ? scanner : ClasspathScanner.forClassLoader(classLoader);
+
+        for (ClasspathScanner.ClassEntry entry : effective.scan(packages)) {
+            index.add(entry);
+        }
+        return index;
+    }
+
+    /**
+     * 이름이 알려진 클래스를 클래스로더 리소스로 찾아 인덱스에 추가한다. (클래스패스 열거 없음)
+     *
+     * @return 클래스 파일을 찾았으면 {@code true}
+     */
+    public boolean addClass(String className) {
+        if (entries.containsKey(className)) return true;
+        if (classLoader == null) return false;
+
+        URL location = classLoader.getResource(className.replace('.', '/') + ".class");
+        if (location == null) return false;
+
+        int dot = className.lastIndexOf('.');
+        add(new ClasspathScanner.ClassEntry(className, dot < 0 ? "" : className.substring(0, dot), location));
+        return true;
+    }
+
+    private void add(ClasspathScanner.ClassEntry entry) {
+        String name = entry.getName();
+        if (entries.putIfAbsent(name, entry) != null) return;
+
+        packageClasses.computeIfAbsent(entry.getPackageName(), k -> new ArrayList<>()).add(name);
+
+        try {
+            ClassFileInfo classFile = entry.readClassFile();
+            classFiles.put(name, classFile);
+            for (String annotation : classFile.getAnnotations()) {
+                annotatedClasses.computeIfAbsent(annotation, k -> new TreeSet<>()).add(name);
+            }
+        } catch (IOException e) {
+            // 읽을 수 없는 클래스 파일은 위치만 기록한다
+        }
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * 인덱스된 클래스 수.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean contains(String className) {
+        return entries.containsKey(className);
+    }
+
+    /**
+     * 클래스 파일 위치. 인덱스에 없으면 {@code null}.
+     */
+    public URL getLocation(String className) {
+        ClasspathScanner.ClassEntry entry = entries.get(className);
+        return entry != null ? entry.getLocation() : null;
+    }
+
+    /**
+     * 클래스 파일 메타데이터. 인덱스에 없거나 읽지 못한 경우 {@code null}.
+     */
+    public ClassFileInfo getClassFile(String className) {
+        return classFiles.get(className);
+    }
+
+    /**
+     * 패키지에 직접 속한 클래스 이름 목록 (하위 패키지 제외).
+     */
+    public List<String> getPackageClasses(String packageName) {
+        List<String> names = packageClasses.get(packageName);
+        return names != null ? Collections.unmodifiableList(names) : Collections.emptyList();
+    }
+
+    /**
+     * 트라이에 일치하는 패키지의 클래스 이름을 이름 순으로 반환한다.
+     */
+    public List<String> getClassNames(PackagePrefixTrie packages) {
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<String, List<String>> e : packageClasses.entrySet()) {
+            if (packages.matches(e.getKey())) {
+                names.addAll(e.getValue());
+            }
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * 클래스 레벨에 주어진 어노테이션(RUNTIME retention)이 선언된 클래스 이름을 이름 순으로 반환한다.
+     */
+    public Set<String> getAnnotatedClasses(String annotationClassName) {
+        Set<String> names = annotatedClasses.get(annotationClassName);
+        return names != null ? Collections.unmodifiableSet(names) : Collections.emptySet();
+    }
+
+    /**
+     * 초기화 없이 클래스를 로드한다. 실패하면 {@code null}을 반환하며, 성공/실패 결과 모두 캐시한다.
+     */
+    public Class<?> loadClass(String className) {
+        if (className == null || classLoader == null) return null;
+        return loadedClasses.computeIfAbsent(className, name -> {
+            try {
+                return Optional.of(Class.forName(name, false, classLoader));
+            } catch (Throwable e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+}
@@ -0,0 +1,265 @@
+package one.axim.gradle.utils;
+
+import com.google.common.reflect.ClassPath;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 스캔 대상 패키지에 속한 클래스 파일 목록을 수집한다.
+ *
+ * <p>두 가지 범위를 지원한다.
+ * <ul>
+ *   <li>{@link #forClassLoader(ClassLoader)} — 클래스로더의 전체 런타임 클래스패스(JAR 포함)를 열거한다. (기존 동작)</li>
+ *   <li>{@link #forRoots(Collection)} — 지정한 클래스 출력 디렉터리와 명시적으로 포함한 JAR만 순회한다.
+ *       디렉터리는 {@link PackagePrefixTrie} 로 가지치기하여 대상 패키지 밖으로는 내려가지 않는다.</li>
+ *   <li>{@link #forPackageResources(ClassLoader)} — 클래스로더에서 대상 패키지 디렉터리를 리소스로 찾아
+ *       해당 패키지를 담고 있는 디렉터리/JAR만 순회한다.</li>
+ * </ul>
+ *
+ * <p>{@link #excluding(Collection)}로 컴파일 시점 인덱스가 이미 있는 클래스 디렉터리를 스캔에서 뺄 수 있다.
+ *
+ * @see one.axim.gradle.data.ScanScope
+ */
+public class ClasspathScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ClassLoader classLoader;
+    private final List<File> roots;
+    private final boolean packageResources;
+    private final Set<File> excluded;
+
+    private ClasspathScanner(ClassLoader classLoader, List<File> roots, boolean packageResources, Set<File> excluded) {
+        this.classLoader = classLoader;
+        this.roots = roots;
+        this.packageResources = packageResources;
+        this.excluded = excluded;
+    }
+
+    /**
+     * 클래스로더가 보는 모든 클래스패스 엔트리를 대상으로 하는 스캐너.
+     */
+    public static ClasspathScanner forClassLoader(ClassLoader classLoader) {
+        return new ClasspathScanner(classLoader, null, false, Collections.emptySet());
+    }
+
+    /**
+     * 클래스 디렉터리 또는 JAR 파일 목록만 대상으로 하는 스캐너.
+     */
+    public static ClasspathScanner forRoots(Collection<File> roots) {
+        return new ClasspathScanner(null, new ArrayList<>(roots), false, Collections.emptySet());
+    }
+
+    /**
+     * 대상 패키지를 실제로 담고 있는 클래스패스 엔트리만 대상으로 하는 스캐너.
+     * {@link ClassLoader#getResources(String)}로 패키지 디렉터리를 찾으므로 무관한 JAR는 열지 않는다.
+     */
+    public static ClasspathScanner forPackageResources(ClassLoader classLoader) {
+        return new ClasspathScanner(classLoader, null, true, Collections.emptySet());
+    }
+
+    /**
+     * 지정한 클래스 디렉터리 아래의 클래스를 건너뛰는 스캐너를 반환한다.
+     */
+    public ClasspathScanner excluding(Collection<File> dirs) {
+        Set<File> merged = new HashSet<>(excluded);
+        for (File dir : dirs) {
+            merged.add(dir.getAbsoluteFile());
+        }
+        return new ClasspathScanner(classLoader, roots, packageResources, merged);
+    }
+
+    /**
+     * 트라이에 일치하는 패키지의 클래스 엔트리를 이름 순으로 반환한다.
+     */
+    public List<ClassEntry> scan(PackagePrefixTrie packages) throws IOException {
+        List<ClassEntry> entries = new ArrayList<>();
+
+        if (packageResources) {
+            Set<String> seen = new HashSet<>();
+            for (File root : findPackageRoots(packages)) {
+                if (isExcluded(root)) continue;
+                if (root.isDirectory()) {
+                    walkDirectory(root, "", packages, entries, seen);
+                } else if (root.isFile()) {
+                    scanJar(root, packages, entries, seen);
+                }
+            }
+        } else if (roots == null) {
+            for (ClassPath.ClassInfo info : ClassPath.from(classLoader).getAllClasses()) {
+                if (packages.matches(info.getPackageName()) && !isExcludedLocation(info.url())) {
+                    entries.add(new ClassEntry(info.getName(), info.getPackageName(), info.url()));
+                }
+            }
+        } else {
+            Set<String> seen = new HashSet<>();
+            for (File root : roots) {
+                if (isExcluded(root)) continue;
+                if (root.isDirectory()) {
+                    walkDirectory(root, "", packages, entries, seen);
+                } else if (root.isFile() && root.getName().endsWith(".jar")) {
+                    scanJar(root, packages, entries, seen);
+                }
+            }
+        }
+
+        entries.sort(Comparator.comparing(ClassEntry::getName));
+        return entries;
+    }
+
+    /**
+     * 각 패키지 접두사 디렉터리를 포함하는 클래스 디렉터리 루트 또는 JAR 파일을 찾는다.
+     */
+    private Set<File> findPackageRoots(PackagePrefixTrie packages) throws IOException {
+        Set<File> packageRoots = new LinkedHashSet<>();
+        for (String prefix : packages.getPrefixes()) {
+            String resource = prefix.replace('.', '/');
+            Enumeration<URL> urls = classLoader.getResources(resource);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try {
+                    if ("file".equals(url.getProtocol())) {
+                        File dir = new File(url.toURI());
+                        // 패키지 디렉터리에서 패키지 깊이만큼 올라가 클래스 디렉터리 루트를 구한다
+                        for (int i = 0, depth = resource.isEmpty() ? 0 : resource.split("/").length; i < depth && dir != null; i++) {
+                            dir = dir.getParentFile();
+                        }
+                        if (dir != null) packageRoots.add(dir);
+                    } else if ("jar".equals(url.getProtocol())) {
+                        String path = url.getPath();
+                        int separator = path.indexOf("!/");
+                        if (separator > 0) {
+                            packageRoots.add(new File(new URL(path.substring(0, separator)).toURI()));
+                        }
+                    }
+                } catch (Exception e) {
+                    // 파일 시스템에 없는 리소스는 스킵
+                }
+            }
+        }
+        return packageRoots;
+    }
+
+    private void walkDirectory(File dir, String packageName, PackagePrefixTrie packages,
+                               List<ClassEntry> entries, Set<String> seen) throws IOException {
+        File[] children = dir.listFiles();
+        if (children == null) return;
+
+        boolean packageMatches = packages.matches(packageName);
+
+        for (File child : children) {
+            String name = child.getName();
+            if (child.isDirectory()) {
+                String childPackage = packageName.isEmpty() ? name : packageName + "." + name;
+                // 대상 패키지가 나올 수 없는 하위 트리는 내려가지 않는다
+                if (packages.mayContain(childPackage)) {
+                    walkDirectory(child, childPackage, packages, entries, seen);
+                }
+            } else if (packageMatches && isClassFile(name)) {
+                String simpleName = name.substring(0, name.length() - CLASS_SUFFIX.length());
+                String className = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+                if (seen.add(className)) {
+                    entries.add(new ClassEntry(className, packageName, child.toURI().toURL()));
+                }
+            }
+        }
+    }
+
+    private void scanJar(File jar, PackagePrefixTrie packages, List<ClassEntry> entries, Set<String> seen) throws IOException {
+        String jarUrl = "jar:" + jar.toURI() + "!/";
+        try (JarFile jarFile = new JarFile(jar)) {
+            Enumeration<JarEntry> jarEntries = jarFile.entries();
+            while (jarEntries.hasMoreElements()) {
+                JarEntry entry = jarEntries.nextElement();
+                String path = entry.getName();
+                if (entry.isDirectory() || !path.endsWith(CLASS_SUFFIX)) continue;
+
+                int slash = path.lastIndexOf('/');
+                String fileName = path.substring(slash + 1);
+                if (!isClassFile(fileName)) continue;
+
+                String packageName = slash < 0 ? "" : path.substring(0, slash).replace('/', '.');
+                if (!packages.matches(packageName)) continue;
+
+                String className = path.substring(0, path.length() - CLASS_SUFFIX.length()).replace('/', '.');
+                if (seen.add(className)) {
+                    entries.add(new ClassEntry(className, packageName, new URL(jarUrl + path)));
+                }
+            }
+        }
+    }
+
+    private boolean isExcluded(File root) {
+        return !excluded.isEmpty() && excluded.contains(root.getAbsoluteFile());
+    }
+
+    /**
+     * 클래스 파일 위치가 제외한 디렉터리 아래에 있는지 확인한다. JAR 안의 클래스는 제외하지 않는다.
+     */
+    private boolean isExcludedLocation(URL location) {
+        if (excluded.isEmpty() || !"file".equals(location.getProtocol())) return false;
+        try {
+            Path path = new File(location.toURI()).toPath();
+            for (File dir : excluded) {
+                if (path.startsWith(dir.toPath())) return true;
+            }
+        } catch (Exception e) {
+            // 파일 경로로 바꿀 수 없으면 제외하지 않는다
+        }
+        return false;
+    }
+
+    private static boolean isClassFile(String fileName) {
+        return fileName.endsWith(CLASS_SUFFIX)
+                && !fileName.equals("module-info.class")
+                && !fileName.equals("package-info.class");
+    }
+
+    /**
+     * 스캔된 클래스 파일 한 개.
+     */
+    public static class ClassEntry {
+        private final String name;
+        private final String packageName;
+        private final URL location;
+
+        public ClassEntry(String name, String packageName, URL location) {
+            this.name = name;
+            this.packageName = packageName;
+            this.location = location;
+        }
+
+        /** 바이너리 클래스 이름 (예: {@code com.example.Outer$Inner}). */
+        public String getName() {
+            return name;
+        }
+
+        public String getPackageName() {
+            return packageName;
+        }
+
+        public URL getLocation() {
+            return location;
+        }
+
+        public InputStream openStream() throws IOException {
+            return location.openStream();
+        }
+
+        /**
+         * 클래스 파일의 바이트코드 메타데이터를 읽는다. (클래스 로딩 없음)
+         */
+        public ClassFileInfo readClassFile() throws IOException {
+            try (InputStream in = openStream()) {
+                return ClassFileInfo.read(in);
+            }
+        }
+    }
+}
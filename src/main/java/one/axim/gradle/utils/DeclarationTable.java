@@ -0,0 +1,210 @@
+package one.axim.gradle.utils;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.*;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.type.ArrayType;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.Type;
+import one.axim.gradle.processor.ClassDocs;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * 한 타입의 선언 조회표. 파싱할 때 한 번 만들어 {@link JavaSourceParser}의 코멘트 조회를 맵 조회로 끝낸다.
+ *
+ * <ul>
+ *   <li>클래스 코멘트</li>
+ *   <li>필드 및 enum 상수 이름 → 코멘트</li>
+ *   <li>메서드 이름 → 오버로드 목록 (선언 순서). 각 항목은 소거된 파라미터 타입, 파라미터 이름, 코멘트, AST 선언을 갖는다.</li>
+ * </ul>
+ * 코멘트는 Javadoc 원문({@code /**}와 {@code *}{@code /} 사이)이며 조회할 때 해석한다.
+ *
+ * <p>만든 뒤에는 바꾸지 않으므로 여러 스레드에서 공유해도 된다.
+ *
+ * @since 2.2.0
+ */
+final class DeclarationTable {
+
+    static final DeclarationTable EMPTY = new DeclarationTable(null);
+
+    private final String comment;
+    private final Map<String, String> fields = new HashMap<>();
+    private final Map<String, List<MethodEntry>> methods = new HashMap<>();
+
+    private DeclarationTable(String comment) {
+        this.comment = comment;
+    }
+
+    /**
+     * 사이드카나 {@link JavadocLexer}가 만든 {@link ClassDocs}의 조회표. AST 선언은 없다.
+     */
+    static DeclarationTable of(ClassDocs docs) {
+        DeclarationTable table = new DeclarationTable(docs.getComment());
+        table.fields.putAll(docs.getFields());
+        for (ClassDocs.MethodDocs method : docs.getMethods()) {
+            table.addMethod(new MethodEntry(method.getName(), null, method.getParameterTypes(),
+                    method.getParameterNames(), method.getComment()));
+        }
+        return table;
+    }
+
+    /**
+     * 파일 안 모든 타입(중첩 타입 포함)의 조회표. 키는 최상위 타입부터의 경로 (예: {@code Order}, {@code Order.Item}).
+     */
+    static Map<String, DeclarationTable> index(CompilationUnit cu) {
+        Map<String, DeclarationTable> result = new LinkedHashMap<>();
+        for (TypeDeclaration<?> type : cu.getTypes()) {
+            index(type, type.getNameAsString(), result);
+        }
+        return result;
+    }
+
+    /**
+     * 파일을 대표하는 조회표. 코멘트와 필드는 첫 최상위 타입, 메서드는 모든 최상위 타입에서 찾는다.
+     */
+    static DeclarationTable forFile(CompilationUnit cu, Map<String, DeclarationTable> types) {
+        if (cu.getTypes().isEmpty()) {
+            return EMPTY;
+        }
+        DeclarationTable first = types.get(cu.getType(0).getNameAsString());
+        if (cu.getTypes().size() == 1) {
+            return first;
+        }
+
+        DeclarationTable merged = new DeclarationTable(first.comment);
+        merged.fields.putAll(first.fields);
+        for (TypeDeclaration<?> type : cu.getTypes()) {
+            for (List<MethodEntry> overloads : types.get(type.getNameAsString()).methods.values()) {
+                overloads.forEach(merged::addMethod);
+            }
+        }
+        return merged;
+    }
+
+    private static void index(TypeDeclaration<?> type, String path, Map<String, DeclarationTable> result) {
+        DeclarationTable table = new DeclarationTable(content(type.getJavadocComment()));
+        if (type instanceof EnumDeclaration) {
+            for (EnumConstantDeclaration entry : ((EnumDeclaration) type).getEntries()) {
+                table.putField(entry.getNameAsString(), content(entry.getJavadocComment()));
+            }
+        }
+        for (BodyDeclaration<?> member : type.getMembers()) {
+            if (member instanceof FieldDeclaration) {
+                FieldDeclaration field = (FieldDeclaration) member;
+                String fieldComment = content(field.getJavadocComment());
+                field.getVariables().forEach(v -> table.putField(v.getNameAsString(), fieldComment));
+            } else if (member instanceof MethodDeclaration) {
+                table.addMethod(MethodEntry.of((MethodDeclaration) member));
+            } else if (member instanceof TypeDeclaration) {
+                TypeDeclaration<?> nested = (TypeDeclaration<?>) member;
+                index(nested, path + "." + nested.getNameAsString(), result);
+            }
+        }
+        result.put(path, table);
+    }
+
+    String getComment() {
+        return comment;
+    }
+
+    /**
+     * 필드 또는 enum 상수의 코멘트. 없으면 {@code null}.
+     */
+    String getFieldComment(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * 이름과 파라미터 타입이 일치하는 메서드. 타입이 일치하는 오버로드가 없으면 이름과 파라미터 수가 같은 첫 메서드.
+     */
+    MethodEntry findMethod(Method method) {
+        List<MethodEntry> overloads = methods.get(method.getName());
+        if (overloads == null) {
+            return null;
+        }
+
+        int count = method.getParameterCount();
+        List<String> parameterTypes = null;
+        MethodEntry candidate = null;
+        for (MethodEntry entry : overloads) {
+            if (entry.parameterTypes.size() != count) continue;
+            if (parameterTypes == null) {
+                parameterTypes = canonicalTypes(method);
+            }
+            if (ClassDocs.parameterTypesMatch(entry.parameterTypes, parameterTypes)) return entry;
+            if (candidate == null) candidate = entry;
+        }
+        return candidate;
+    }
+
+    private void putField(String name, String fieldComment) {
+        if (fieldComment != null) {
+            fields.putIfAbsent(name, fieldComment);
+        }
+    }
+
+    private void addMethod(MethodEntry entry) {
+        methods.computeIfAbsent(entry.name, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private static List<String> canonicalTypes(Method method) {
+        List<String> result = new ArrayList<>();
+        for (Class<?> type : method.getParameterTypes()) {
+            result.add(type.getCanonicalName() != null ? type.getCanonicalName() : type.getName());
+        }
+        return result;
+    }
+
+    private static String content(Optional<JavadocComment> comment) {
+        return comment.map(JavadocComment::getContent).orElse(null);
+    }
+
+    /**
+     * 메서드 하나의 시그니처와 코멘트.
+     */
+    static final class MethodEntry {
+        final String name;
+        /** AST로 만든 경우의 선언. 사이드카/스캐너로 만든 경우 {@code null} */
+        final MethodDeclaration declaration;
+        /** 제네릭을 지운 선언 타입 (예: {@code List}, {@code Map.Entry}, {@code String[]}) */
+        final List<String> parameterTypes;
+        final List<String> parameterNames;
+        final String comment;
+
+        MethodEntry(String name, MethodDeclaration declaration, List<String> parameterTypes,
+                    List<String> parameterNames, String comment) {
+            this.name = name;
+            this.declaration = declaration;
+            this.parameterTypes = parameterTypes;
+            this.parameterNames = parameterNames;
+            this.comment = comment;
+        }
+
+        static MethodEntry of(MethodDeclaration declaration) {
+            List<String> parameterTypes = new ArrayList<>();
+            List<String> parameterNames = new ArrayList<>();
+            for (Parameter parameter : declaration.getParameters()) {
+                parameterTypes.add(erasure(parameter.getType()) + (parameter.isVarArgs() ? "[]" : ""));
+                parameterNames.add(parameter.getNameAsString());
+            }
+            return new MethodEntry(declaration.getNameAsString(), declaration, parameterTypes, parameterNames,
+                    content(declaration.getJavadocComment()));
+        }
+
+        private static String erasure(Type type) {
+            if (type instanceof ClassOrInterfaceType) {
+                return ((ClassOrInterfaceType) type).getNameWithScope();
+            }
+            if (type instanceof ArrayType) {
+                return erasure(((ArrayType) type).getComponentType()) + "[]";
+            }
+            if (type instanceof PrimitiveType) {
+                return ((PrimitiveType) type).getType().asString();
+            }
+            return type.asString();
+        }
+    }
+}
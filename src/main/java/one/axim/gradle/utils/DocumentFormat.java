@@ -0,0 +1,197 @@
+package one.axim.gradle.utils;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code api/}, {@code model/} 중간 파일과 스펙 번들의 인코딩 ({@code documentFormat} DSL 값).
+ *
+ * <ul>
+ *   <li>{@code json} — pretty-print JSON (기본값)</li>
+ *   <li>{@code smile} — Jackson Smile 바이너리 ({@code .smile})</li>
+ *   <li>{@code cbor} — CBOR 바이너리 ({@code .cbor})</li>
+ * </ul>
+ *
+ * <p>쓰기는 설정한 형식으로 하고, 읽기는 파일 확장자로 형식을 판별하므로 읽는 쪽은 형식을 몰라도 된다.
+ * 바이너리 형식의 중간 파일은 Gson JSON과 같은 필드 기준으로 직렬화하여 같은 구조를 유지한다.
+ * {@code openapi.json}과 에러 코드 파일은 항상 JSON이다.
+ *
+ * @since 2.2.0
+ */
+public enum DocumentFormat {
+
+    JSON("json", ".json", null),
+    SMILE("smile", ".smile", new SmileFactory()),
+    CBOR("cbor", ".cbor", new CBORFactory());
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private final String name;
+    private final String extension;
+    private final JsonFactory factory;
+    /** 중간 파일용. Gson과 같이 getter가 아닌 필드를 직렬화하고 null은 생략한다. */
+    private final ObjectMapper fieldMapper;
+
+    DocumentFormat(String name, String extension, JsonFactory factory) {
+        this.name = name;
+        this.extension = extension;
+        this.factory = factory;
+        this.fieldMapper = factory == null ? null : new ObjectMapper(factory)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * DSL 값으로 형식을 찾는다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 값
+     */
+    public static DocumentFormat of(String name) {
+        for (DocumentFormat format : values()) {
+            if (format.name.equalsIgnoreCase(name)) return format;
+        }
+        throw new IllegalArgumentException("Unsupported documentFormat '" + name + "' — supported: json, smile, cbor");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 파일 확장자 ({@code .json}, {@code .smile}, {@code .cbor}).
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 바이너리 형식의 Jackson 팩토리. JSON이면 {@code null}.
+     */
+    public JsonFactory getFactory() {
+        return factory;
+    }
+
+    public boolean isBinary() {
+        return factory != null;
+    }
+
+    /**
+     * {@code dir} 안의 {@code baseName} 파일 (이 형식의 확장자).
+     */
+    public File file(File dir, String baseName) {
+        return new File(dir, baseName + extension);
+    }
+
+    /**
+     * 값을 이 형식으로 파일에 쓴다.
+     */
+    public void write(Object value, File file) throws IOException {
+        write(value, file, new OutputFiles());
+    }
+
+    /**
+     * 값을 이 형식으로 파일에 쓴다. 기존 파일과 내용이 같으면 파일을 건드리지 않는다.
+     *
+     * @return 파일이 새로 생기거나 내용이 바뀌었으면 {@code true}
+     */
+    public boolean write(Object value, File file, OutputFiles outputs) throws IOException {
+        if (!isBinary()) {
+            return outputs.write(file, out -> {
+                try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                    gson.toJson(value, writer);
+                }
+            });
+        }
+        return outputs.write(file, out -> fieldMapper.writeValue(out, value));
+    }
+
+    /**
+     * 확장자로 형식을 판별하여 파일을 읽는다.
+     */
+    public static <T> T read(File file, Class<T> type) throws IOException {
+        return DocumentFormat.<T>read(file, (Type) type);
+    }
+
+    /**
+     * 확장자로 형식을 판별하여 파일을 읽는다. 제네릭 타입({@code TypeToken})용.
+     */
+    public static <T> T read(File file, Type type) throws IOException {
+        DocumentFormat format = forFile(file.getName());
+        if (format == null || !format.isBinary()) {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                return gson.fromJson(reader, type);
+            }
+        }
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            return format.fieldMapper.readValue(in, format.fieldMapper.constructType(type));
+        }
+    }
+
+    /**
+     * 파일 이름의 확장자에 해당하는 형식. 문서 파일이 아니면 {@code null}.
+     */
+    public static DocumentFormat forFile(String fileName) {
+        for (DocumentFormat format : values()) {
+            if (fileName.endsWith(format.extension)) return format;
+        }
+        return null;
+    }
+
+    /**
+     * 확장자를 뗀 파일 이름 (클래스 이름).
+     */
+    public static String baseName(File file) {
+        String name = file.getName();
+        DocumentFormat format = forFile(name);
+        return format != null ? name.substring(0, name.length() - format.extension.length()) : name;
+    }
+
+    /**
+     * {@code dir} 안에서 {@code baseName}의 문서 파일을 형식에 관계없이 찾는다. 없으면 {@code null}.
+     */
+    public static File find(File dir, String baseName) {
+        for (DocumentFormat format : values()) {
+            File file = format.file(dir, baseName);
+            if (file.isFile()) return file;
+        }
+        return null;
+    }
+
+    /**
+     * {@code dir} 안의 모든 형식의 문서 파일.
+     */
+    public static List<File> list(File dir) {
+        List<File> result = new ArrayList<>();
+        File[] files = dir.listFiles((d, name) -> forFile(name) != null);
+        if (files != null) {
+            for (File file : files) {
+                result.add(file);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+package one.axim.gradle.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * 증분 생성 매니페스트 ({@value #FILE_NAME}).
+ *
+ * <p>직전 실행에서 생성한 컨트롤러({@code api/*.json})와 모델({@code model/*.json})마다 입력 지문(클래스 바이트,
+ * 소스/Javadoc 사이드카)과 직접 참조한 모델 목록을 기록한다. 다음 실행은 지문이 같은 항목의 생성을 건너뛰고,
+ * 매니페스트에 없는 출력 파일만 정확히 삭제한다.
+ *
+ * @since 2.2.0
+ */
+public class GenerationManifest {
+
+    public static final String FILE_NAME = ".restdoc-manifest.json";
+    public static final int VERSION = 1;
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private int version = VERSION;
+    private String settingsHash;
+    private Map<String, Entry> controllers = new TreeMap<>();
+    private Map<String, Entry> models = new TreeMap<>();
+
+    /**
+     * 매니페스트 파일을 읽는다. 파일이 없거나 버전이 다르거나 읽을 수 없으면 {@code null}.
+     */
+    public static GenerationManifest load(File file) {
+        if (!file.isFile()) return null;
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            GenerationManifest manifest = gson.fromJson(reader, GenerationManifest.class);
+            if (manifest == null || manifest.version != VERSION) return null;
+            return manifest;
+        } catch (Exception e) {
+            Log.w("MANIFEST", "Failed to read " + file.getPath() + " — " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void save(File file) throws Exception {
+        save(file, new OutputFiles());
+    }
+
+    /**
+     * 매니페스트를 기록한다. 내용이 같으면 파일을 건드리지 않는다.
+     */
+    public void save(File file, OutputFiles outputs) throws Exception {
+        if (!file.getParentFile().exists()) {
+            file.getParentFile().mkdirs();
+        }
+        outputs.write(file, gson.toJson(this));
+    }
+
+    public String getSettingsHash() {
+        return settingsHash;
+    }
+
+    public void setSettingsHash(String settingsHash) {
+        this.settingsHash = settingsHash;
+    }
+
+    public Map<String, Entry> getControllers() {
+        return controllers != null ? controllers : Collections.emptyMap();
+    }
+
+    public Map<String, Entry> getModels() {
+        return models != null ? models : Collections.emptyMap();
+    }
+
+    public synchronized void putController(String className, String hash, Collection<String> refs) {
+        controllers.put(className, new Entry(hash, refs));
+    }
+
+    public synchronized void putModel(String className, String hash, Collection<String> refs) {
+        models.put(className, new Entry(hash, refs));
+    }
+
+    /**
+     * JSON 형식 기준 {@link #prune(File, Set, DocumentFormat)}.
+     */
+    public static int prune(File dir, Set<String> keep) {
+        return prune(dir, keep, DocumentFormat.JSON);
+    }
+
+    /**
+     * 디렉터리의 문서 파일 중 이름이 {@code keep}에 없거나 {@code format}이 아닌 파일을 삭제하고 삭제한 수를 반환한다.
+     */
+    public static int prune(File dir, Set<String> keep, DocumentFormat format) {
+        int deleted = 0;
+        for (File file : DocumentFormat.list(dir)) {
+            boolean stale = DocumentFormat.forFile(file.getName()) != format
+                    || !keep.contains(DocumentFormat.baseName(file));
+            if (stale && file.delete()) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 출력 하나의 입력 지문과 직접 참조한 모델 목록.
+     */
+    public static class Entry {
+        private String hash;
+        private List<String> refs = new ArrayList<>();
+
+        public Entry() {
+        }
+
+        public Entry(String hash, Collection<String> refs) {
+            this.hash = hash;
+            this.refs = new ArrayList<>(new TreeSet<>(refs));
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public List<String> getRefs() {
+            return refs != null ? refs : Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package one.axim.gradle.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code restMetaGenerator} 실행의 단계별 벽시계 시간, CPU 시간, 할당 바이트와 카운터를 기록한다.
+ *
+ * <p>단계는 {@link #begin(String)}으로 차례로 시작하며, 다음 단계를 시작하거나 {@link #finish()}를 호출하면
+ * 이전 단계가 끝난다. 카운터({@link #CLASSES_SCANNED} 등)는 여러 스레드에서 동시에 올려도 된다.
+ *
+ * <p>CPU 시간과 할당 바이트는 JVM이 제공하면 프로세스 전체 값(병렬 작업자 스레드 포함)을, 아니면 태스크
+ * 스레드 값을 사용하며 어느 쪽인지 보고서의 {@code scope}에 남긴다. Gradle 데몬에서 다른 태스크가 동시에
+ * 실행되면 프로세스 전체 값에 함께 포함된다.
+ *
+ * @since 2.2.0
+ */
+public class GenerationMetrics {
+
+    public static final int VERSION = 1;
+
+    /** 클래스패스 인덱스에 등록된 클래스 수 */
+    public static final String CLASSES_SCANNED = "classesScanned";
+    /** 실행 중 JVM이 새로 로드한 클래스 수 */
+    public static final String CLASSES_LOADED = "classesLoaded";
+    /** JavaParser로 파싱한 소스 파일 수. 프로세스 공유 캐시의 증가분이므로 동시에 실행된 태스크의 파싱도 포함될 수 있다. */
+    public static final String SOURCE_FILES_PARSED = "sourceFilesParsed";
+    /** 파싱 캐시({@link ParsedSourceCache})에서 재사용한 소스 파일 수. {@link #SOURCE_FILES_PARSED}와 같이 프로세스 전체 값이다. */
+    public static final String PARSE_CACHE_HITS = "parseCacheHits";
+    /** 소스 대신 읽은 Javadoc 사이드카 수 */
+    public static final String SIDECARS_READ = "sidecarsRead";
+    /** 새로 생성하여 기록한 모델 파일 수 (증분 생성에서 재사용한 모델 제외) */
+    public static final String MODELS_WRITTEN = "modelsWritten";
+    /** Postman API 호출 수 */
+    public static final String HTTP_CALLS = "httpCalls";
+    public static final String OUTPUT_FILES_CHANGED = "outputFilesChanged";
+    public static final String OUTPUT_FILES_UNCHANGED = "outputFilesUnchanged";
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private static final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+    private static final ClassLoadingMXBean classLoadingBean = ManagementFactory.getClassLoadingMXBean();
+    /** JDK 21+의 {@code getTotalThreadAllocatedBytes()} — 종료된 스레드를 포함한 프로세스 전체 할당량 */
+    private static final Method totalAllocatedBytes = findTotalAllocatedBytes();
+
+    private final List<Phase> phases = new ArrayList<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Snapshot start = Snapshot.now();
+    private final long startClassCount = classLoadingBean.getTotalLoadedClassCount();
+    private Phase current;
+    private Phase total;
+
+    /**
+     * 한 단계의 측정값.
+     */
+    public static class Phase {
+        private final String name;
+        private long wallMillis;
+        private long cpuMillis;
+        private long allocatedBytes;
+        private Snapshot start;
+
+        Phase(String name) {
+            this.name = name;
+            this.start = Snapshot.now();
+        }
+
+        void end() {
+            Snapshot end = Snapshot.now();
+            wallMillis = (end.wallNanos - start.wallNanos) / 1_000_000;
+            cpuMillis = start.cpuNanos < 0 ? -1 : (end.cpuNanos - start.cpuNanos) / 1_000_000;
+            allocatedBytes = start.allocatedBytes < 0 ? -1 : end.allocatedBytes - start.allocatedBytes;
+            start = null;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWallMillis() {
+            return wallMillis;
+        }
+
+        /**
+         * CPU 시간. 측정할 수 없으면 {@code -1}.
+         */
+        public long getCpuMillis() {
+            return cpuMillis;
+        }
+
+        /**
+         * 할당 바이트. 측정할 수 없으면 {@code -1}.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * 이전 단계를 끝내고 새 단계를 시작한다. {@link #finish()} 이후에는 무시한다.
+     */
+    public synchronized void begin(String name) {
+        if (total != null) return;
+        endCurrent();
+        current = new Phase(name);
+    }
+
+    /**
+     * 카운터를 {@code delta}만큼 올린다.
+     */
+    public void add(String counter, long delta) {
+        counters.computeIfAbsent(counter, k -> new LongAdder()).add(delta);
+    }
+
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    public long get(String counter) {
+        LongAdder adder = counters.get(counter);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 마지막 단계와 전체 측정을 끝낸다. 여러 번 호출해도 처음 한 번만 반영된다.
+     */
+    public synchronized void finish() {
+        if (total != null) return;
+        endCurrent();
+        add(CLASSES_LOADED, classLoadingBean.getTotalLoadedClassCount() - startClassCount);
+        total = new Phase("total");
+        total.start = start;
+        total.end();
+    }
+
+    public synchronized List<Phase> getPhases() {
+        return new ArrayList<>(phases);
+    }
+
+    /**
+     * 전체 측정값. {@link #finish()} 전이면 {@code null}.
+     */
+    public synchronized Phase getTotal() {
+        return total;
+    }
+
+    /**
+     * 로그용 한 줄 요약.
+     */
+    public synchronized String summary() {
+        finish();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("total %s (cpu %s, alloc %s)",
+                seconds(total.wallMillis), seconds(total.cpuMillis), bytes(total.allocatedBytes)));
+        for (Phase phase : phases) {
+            sb.append(String.format(", %s %s", phase.name, seconds(phase.wallMillis)));
+        }
+        for (Map.Entry<String, Long> counter : counterValues().entrySet()) {
+            sb.append(String.format(", %s=%d", counter.getKey(), counter.getValue()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * JSON 보고서를 기록한다.
+     *
+     * <pre>{@code
+     * { "version": 1, "scope": { "cpu": "process", "allocation": "process" },
+     *   "total": { wallMillis, cpuMillis, allocatedBytes },
+     *   "phases": [ { name, wallMillis, cpuMillis, allocatedBytes }, ... ],
+     *   "counters": { "classesScanned": 1200, ... } }
+     * }</pre>
+     */
+    public synchronized void write(File file) throws Exception {
+        finish();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("version", VERSION);
+        Map<String, String> scope = new LinkedHashMap<>();
+        scope.put("cpu", Snapshot.cpuScope());
+        scope.put("allocation", Snapshot.allocationScope());
+        report.put("scope", scope);
+        report.put("total", measurements(total));
+        List<Map<String, Object>> phaseList = new ArrayList<>();
+        for (Phase phase : phases) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", phase.name);
+            entry.putAll(measurements(phase));
+            phaseList.add(entry);
+        }
+        report.put("phases", phaseList);
+        report.put("counters", counterValues());
+
+        if (file.getParentFile() != null && !file.getParentFile().exists()) {
+            file.getParentFile().mkdirs();
+        }
+        new OutputFiles().write(file, gson.toJson(report));
+    }
+
+    private void endCurrent() {
+        if (current != null) {
+            current.end();
+            phases.add(current);
+            current = null;
+        }
+    }
+
+    private Map<String, Long> counterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : counters.entrySet()) {
+            values.put(counter.getKey(), counter.getValue().sum());
+        }
+        return values;
+    }
+
+    private static Map<String, Object> measurements(Phase phase) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("wallMillis", phase.wallMillis);
+        values.put("cpuMillis", phase.cpuMillis);
+        values.put("allocatedBytes", phase.allocatedBytes);
+        return values;
+    }
+
+    private static String seconds(long millis) {
+        return millis < 0 ? "n/a" : String.format("%.1fs", millis / 1000.0);
+    }
+
+    private static String bytes(long bytes) {
+        if (bytes < 0) return "n/a";
+        if (bytes < 1024 * 1024) return String.format("%.1fKB", bytes / 1024.0);
+        if (bytes < 1024L * 1024 * 1024) return String.format("%.1fMB", bytes / (1024.0 * 1024));
+        return String.format("%.2fGB", bytes / (1024.0 * 1024 * 1024));
+    }
+
+    private static Method findTotalAllocatedBytes() {
+        try {
+            return com.sun.management.ThreadMXBean.class.getMethod("getTotalThreadAllocatedBytes");
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 한 시점의 누적 측정값.
+     */
+    private static final class Snapshot {
+        final long wallNanos;
+        final long cpuNanos;
+        final long allocatedBytes;
+
+        private Snapshot(long wallNanos, long cpuNanos, long allocatedBytes) {
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        static Snapshot now() {
+            return new Snapshot(System.nanoTime(), cpuNanos(), allocatedBytes());
+        }
+
+        private static long cpuNanos() {
+            if (osBean instanceof com.sun.management.OperatingSystemMXBean) {
+                long cpu = ((com.sun.management.OperatingSystemMXBean) osBean).getProcessCpuTime();
+                if (cpu >= 0) return cpu;
+            }
+            return threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : -1;
+        }
+
+        private static long allocatedBytes() {
+            if (!(threadBean instanceof com.sun.management.ThreadMXBean)) return -1;
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadBean;
+            if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return -1;
+            if (totalAllocatedBytes != null) {
+                try {
+                    long bytes = (long) totalAllocatedBytes.invoke(threads);
+                    if (bytes >= 0) return bytes;
+                } catch (Exception ignored) {
+                    // 아래 태스크 스레드 값으로 대체
+                }
+            }
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+
+        static String cpuScope() {
+            return osBean instanceof com.sun.management.OperatingSystemMXBean
+                    && ((com.sun.management.OperatingSystemMXBean) osBean).getProcessCpuTime() >= 0
+                    ? "process" : "thread";
+        }
+
+        static String allocationScope() {
+            if (totalAllocatedBytes != null && threadBean instanceof com.sun.management.ThreadMXBean) {
+                try {
+                    if ((long) totalAllocatedBytes.invoke(threadBean) >= 0) return "process";
+                } catch (Exception ignored) {
+                    // 태스크 스레드 값
+                }
+            }
+            return "thread";
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package one.axim.gradle.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 생성기 내부(컨트롤러, API 메서드, 모델, 소스 파싱) 단위의 실행 구간을 기록한다. {@code trace} DSL 값으로 켠다.
+ *
+ * <ul>
+ *   <li>{@code jfr} — JDK Flight Recorder 사용자 이벤트({@code one.axim.restdoc.*})를 기본 프로파일과 함께
+ *       녹화하여 {@code trace.jfr}로 저장한다. JDK Mission Control에서 연다.</li>
+ *   <li>{@code chrome} — Chrome trace-event 형식의 {@code trace.json}을 기록한다. Perfetto나
+ *       {@code chrome://tracing}에서 연다.</li>
+ * </ul>
+ *
+ * <p>꺼져 있으면 {@link #span}은 공유 no-op 구간을 반환하므로 비용이 거의 없다. 여러 스레드에서 동시에 사용해도 된다.
+ *
+ * @since 2.2.0
+ */
+public class GenerationTracer {
+
+    public static final String CONTROLLER = "controller";
+    public static final String METHOD = "method";
+    public static final String MODEL = "model";
+    public static final String PARSE = "parse";
+
+    /** 추적하지 않는 tracer */
+    public static final GenerationTracer OFF = new GenerationTracer(Mode.OFF);
+
+    private static final Span NO_SPAN = () -> {
+    };
+
+    /**
+     * 추적 방식.
+     */
+    public enum Mode {
+        OFF(null), JFR("trace.jfr"), CHROME("trace.json");
+
+        private final String fileName;
+
+        Mode(String fileName) {
+            this.fileName = fileName;
+        }
+
+        /**
+         * DSL 값으로 방식을 찾는다. 비어 있으면 {@link #OFF}.
+         *
+         * @throws IllegalArgumentException 지원하지 않는 값
+         */
+        public static Mode of(String name) {
+            if (name == null || name.isBlank()) return OFF;
+            for (Mode mode : values()) {
+                if (mode.name().equalsIgnoreCase(name.trim())) return mode;
+            }
+            throw new IllegalArgumentException("Unsupported trace '" + name + "' — supported: jfr, chrome");
+        }
+
+        /**
+         * 보고서 디렉터리 안의 출력 파일 이름. {@link #OFF}이면 {@code null}.
+         */
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    /**
+     * 하나의 실행 구간. {@code try-with-resources}로 닫는다.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    // --- JFR 이벤트 ---
+
+    @Category({"REST Doc Generator"})
+    abstract static class TraceEvent extends Event {
+        @Label("Name")
+        String name;
+    }
+
+    @Name("one.axim.restdoc.Controller")
+    @Label("Controller")
+    static class ControllerEvent extends TraceEvent {
+    }
+
+    @Name("one.axim.restdoc.Method")
+    @Label("API Method")
+    static class MethodEvent extends TraceEvent {
+    }
+
+    @Name("one.axim.restdoc.Model")
+    @Label("Model")
+    static class ModelEvent extends TraceEvent {
+    }
+
+    @Name("one.axim.restdoc.SourceParse")
+    @Label("Source Parse")
+    static class SourceParseEvent extends TraceEvent {
+    }
+
+    private final Mode mode;
+    private final long startNanos = System.nanoTime();
+    private final Queue<Map<String, Object>> chromeEvents = new ConcurrentLinkedQueue<>();
+    private final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    /** Chrome 트레이스의 스레드 번호. 스레드마다 처음 구간을 열 때 한 번 정하고 이름을 기록한다. */
+    private final AtomicLong nextThreadId = new AtomicLong();
+    private final ThreadLocal<Long> threadIds = ThreadLocal.withInitial(() -> {
+        long id = nextThreadId.incrementAndGet();
+        threadNames.put(id, Thread.currentThread().getName());
+        return id;
+    });
+    private Recording recording;
+
+    public GenerationTracer(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    /**
+     * 기록을 시작한다. JFR이면 사용자 이벤트와 JDK 기본 프로파일({@code default})로 녹화를 시작한다.
+     */
+    public void start() throws Exception {
+        if (mode != Mode.JFR) return;
+        recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName("restdoc");
+        for (Class<? extends Event> type : eventTypes()) {
+            recording.enable(type);
+        }
+        recording.start();
+    }
+
+    /**
+     * 구간을 시작한다. 반환된 구간을 닫으면 끝난다.
+     *
+     * @param category {@link #CONTROLLER}, {@link #METHOD}, {@link #MODEL}, {@link #PARSE}
+     * @param name     클래스/메서드/파일 이름
+     */
+    public Span span(String category, String name) {
+        switch (mode) {
+            case JFR:
+                return jfrSpan(category, name);
+            case CHROME:
+                return chromeSpan(category, name);
+            default:
+                return NO_SPAN;
+        }
+    }
+
+    /**
+     * 기록을 끝내고 {@code dir} 안에 추적 파일을 쓴다. 꺼져 있으면 아무것도 하지 않는다.
+     *
+     * @return 기록한 파일. 꺼져 있으면 {@code null}
+     */
+    public File finish(File dir) throws IOException {
+        if (mode == Mode.OFF) return null;
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+
+        File file = new File(dir, mode.getFileName());
+        if (mode == Mode.JFR) {
+            if (recording == null) return null;
+            try {
+                recording.stop();
+                recording.dump(file.toPath());
+            } finally {
+                recording.close();
+                recording = null;
+            }
+            return file;
+        }
+
+        JsonOutput.write(file, gen -> {
+            gen.writeStartObject();
+            gen.writeStringField("displayTimeUnit", "ms");
+            gen.writeArrayFieldStart("traceEvents");
+            for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("name", "thread_name");
+                event.put("ph", "M");
+                event.put("pid", 1);
+                event.put("tid", thread.getKey());
+                event.put("args", Map.of("name", thread.getValue()));
+                JsonOutput.writeValue(gen, event);
+            }
+            for (Map<String, Object> event : chromeEvents) {
+                JsonOutput.writeValue(gen, event);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        });
+        return file;
+    }
+
+    private Span jfrSpan(String category, String name) {
+        TraceEvent event;
+        switch (category) {
+            case CONTROLLER:
+                event = new ControllerEvent();
+                break;
+            case METHOD:
+                event = new MethodEvent();
+                break;
+            case MODEL:
+                event = new ModelEvent();
+                break;
+            default:
+                event = new SourceParseEvent();
+                break;
+        }
+        if (!event.isEnabled()) return NO_SPAN;
+
+        event.name = name;
+        event.begin();
+        return () -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        };
+    }
+
+    private Span chromeSpan(String category, String name) {
+        long begin = System.nanoTime();
+        long threadId = threadIds.get();
+        return () -> {
+            long end = System.nanoTime();
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("name", name);
+            event.put("cat", category);
+            event.put("ph", "X");
+            event.put("ts", (begin - startNanos) / 1000);
+            event.put("dur", Math.max(1, (end - begin) / 1000));
+            event.put("pid", 1);
+            event.put("tid", threadId);
+            chromeEvents.add(event);
+        };
+    }
+
+    private static List<Class<? extends Event>> eventTypes() {
+        return List.of(ControllerEvent.class, MethodEvent.class, ModelEvent.class, SourceParseEvent.class);
+    }
+}
@@ -1,36 +1,147 @@
 package one.axim.gradle.utils;
 
 import com.github.javaparser.JavaParser;
+import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.body.*;
+import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.comments.JavadocComment;
-import com.github.javaparser.javadoc.Javadoc;
+import com.google.gson.Gson;
+import one.axim.gradle.processor.ClassDocs;
 
 import java.io.*;
 import java.lang.reflect.Method;
-import java.util.List;
-import java.util.Optional;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
 
+/**
+ * 소스 파일 또는 컴파일 시점에 생성된 {@link ClassDocs} 사이드카에서 Javadoc 코멘트를 읽는다.
+ *
+ * <p>소스 파일로 만든 파서는 {@link ParsedSourceCache}로 여러 스레드와 빌드에서 공유되므로 읽기 전용으로 사용한다.
+ *
+ * <p>클래스, 필드, enum 상수, 메서드(소거된 파라미터 타입 포함) 선언은 만들 때 {@link DeclarationTable}로 색인하므로
+ * 조회할 때 AST를 다시 순회하지 않는다. 오버로드는 파라미터 타입으로 구분한다.
+ *
+ * <p>사이드카나 {@link #scan(File)}으로 만든 경우 AST가 없으므로 {@link #getCompilationUnit()}과
+ * {@link #getMethodDeclaration(Method)}은 {@code null}을 반환한다.
+ */
 public class JavaSourceParser {
+    private static final Gson gson = new Gson();
+
+    /** {@link #scan(File)} 결과를 {@link #parse(File)} 결과와 구분하는 캐시 키 */
+    private static final String SCAN = "scan";
+
     private CompilationUnit cu;
+    private boolean sidecar;
+
+    /** 파일 안 모든 타입의 선언 조회표. 키는 {@code Outer.Inner} 형태의 경로이며 AST로 만든 경우에만 있다. */
+    private Map<String, DeclarationTable> types = Collections.emptyMap();
+
+    /** 이 파서가 가리키는 타입의 선언 조회표 */
+    private DeclarationTable table;
 
     private JavaSourceParser(File file) throws FileNotFoundException {
         JavaParser parser = new JavaParser();
         cu = parser.parse(file).getResult().get();
+        types = DeclarationTable.index(cu);
+        table = DeclarationTable.forFile(cu, types);
+    }
+
+    private JavaSourceParser(ClassDocs docs, boolean sidecar) {
+        this.sidecar = sidecar;
+        this.table = DeclarationTable.of(docs);
     }
 
+    private JavaSourceParser(JavaSourceParser file, DeclarationTable table) {
+        this.cu = file.cu;
+        this.types = file.types;
+        this.table = table;
+    }
+
+    /**
+     * 소스 파일을 파싱한다. 결과는 {@link ParsedSourceCache#shared()}에 캐시되어 같은 파일은 바뀌기 전까지 한 번만 파싱된다.
+     */
     public static JavaSourceParser parse(File file) throws Exception {
+        return ParsedSourceCache.shared().get(file, JavaSourceParser::parseUncached);
+    }
+
+    /**
+     * 캐시를 거치지 않고 소스 파일을 파싱한다.
+     */
+    static JavaSourceParser parseUncached(File file) throws FileNotFoundException {
         return new JavaSourceParser(file);
     }
 
+    /**
+     * AST 없이 {@link JavadocLexer}로 Javadoc만 읽는다. 구조를 확신할 수 없는 파일은 JavaParser로 파싱한다.
+     * 결과는 {@link #parse(File)}와 별도로 {@link ParsedSourceCache#shared()}에 캐시된다.
+     *
+     * @since 2.2.0
+     */
+    public static JavaSourceParser scan(File file) throws Exception {
+        return ParsedSourceCache.shared().get(file, SCAN, JavaSourceParser::scanUncached);
+    }
+
+    /**
+     * 캐시를 거치지 않고 소스 파일의 Javadoc을 읽는다.
+     */
+    static JavaSourceParser scanUncached(File file) throws IOException {
+        ClassDocs scanned = JavadocLexer.scan(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        return scanned != null ? new JavaSourceParser(scanned, false) : new JavaSourceParser(file);
+    }
+
+    /**
+     * 클래스의 Javadoc 사이드카({@code Foo.restdoc.json})가 클래스로더에 있으면 그것으로 파서를 만든다.
+     *
+     * @return 사이드카가 없으면 {@code null}
+     */
+    public static JavaSourceParser fromSidecar(Class<?> cls) {
+        ClassLoader loader = cls.getClassLoader();
+        if (loader == null) return null;
+
+        URL resource = loader.getResource(ClassDocs.resourcePath(cls.getName()));
+        if (resource == null) return null;
+
+        try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+            ClassDocs docs = gson.fromJson(reader, ClassDocs.class);
+            return docs != null ? new JavaSourceParser(docs, true) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     public CompilationUnit getCompilationUnit() {
         return cu;
     }
 
+    /**
+     * 사이드카 기반 파서인지 여부.
+     */
+    public boolean isSidecar() {
+        return sidecar;
+    }
+
+    /**
+     * 같은 소스 파일에 선언된 중첩 타입의 파서. AST로 만든 파서에서만 찾을 수 있다.
+     *
+     * @param path 패키지를 뺀 정규 이름 (예: {@code OrderDto.OrderStatus})
+     * @return 찾을 수 없으면 {@code null}
+     * @since 2.2.0
+     */
+    public JavaSourceParser nested(String path) {
+        DeclarationTable nestedTable = types.get(path);
+        return nestedTable != null ? new JavaSourceParser(this, nestedTable) : null;
+    }
+
     /**
      * 문서의 코멘트를 가져온다.
      */
     public String getDocComment() {
+        if (cu == null) {
+            return null;
+        }
         return cu.getComment()
                 .filter(c -> c instanceof JavadocComment)
                 .map(c -> ((JavadocComment) c).parse().getDescription().toText().trim())
@@ -41,25 +152,16 @@ public class JavaSourceParser {
      * 클래스의 코멘트를 가져온다.
      */
     public String getClassComment() {
-        TypeDeclaration<?> type = cu.getType(0);
-        if (type != null) {
-            return type.getJavadoc()
-                    .map(jd -> jd.getDescription().toText().trim())
-                    .orElse(null);
-        }
-        return null;
+        return description(table.getComment());
     }
 
     /**
      * Method의 코멘트를 가져온다.
      */
     public MethodComment getMethodComment(Method method) {
-        MethodDeclaration methodDeclaration = getMethodDeclaration(method);
-        if (methodDeclaration != null) {
-            Optional<Javadoc> javadoc = methodDeclaration.getJavadoc();
-            if (javadoc.isPresent()) {
-                return MethodComment.wrap(javadoc.get());
-            }
+        DeclarationTable.MethodEntry entry = table.findMethod(method);
+        if (entry != null && entry.comment != null) {
+            return MethodComment.wrap(StaticJavaParser.parseJavadoc(entry.comment));
         }
         return null;
     }
@@ -68,55 +170,33 @@ public class JavaSourceParser {
      * Field의 코멘트를 가져온다.
      */
     public String getFieldComment(final String field) {
-        TypeDeclaration<?> type = cu.getType(0);
-        if (type != null) {
-
-            if (type.isEnumDeclaration()) {
-                for (EnumConstantDeclaration entry : ((EnumDeclaration) type).getEntries()) {
-                    if (entry.getName().toString().equals(field)) {
-                        return entry.getJavadoc()
-                                .map(jd -> jd.getDescription().toText().trim())
-                                .orElse(null);
-                    }
-                }
-                return null;
-            } else {
-                Optional<FieldDeclaration> optField = type.getFieldByName(field);
-                if (optField.isPresent()) {
-                    return optField.get().getJavadoc()
-                            .map(jd -> jd.getDescription().toText().trim())
-                            .orElse(null);
-                }
-            }
-        }
-        return null;
+        return description(table.getFieldComment(field));
     }
 
     /**
      * 주어진 메서드로 Method Declaration 을 가져온다.
      */
     public MethodDeclaration getMethodDeclaration(Method method) {
-        List<TypeDeclaration<?>> types = cu.getTypes();
-        for (TypeDeclaration<?> type : types) {
-            List<BodyDeclaration<?>> members = type.getMembers();
-            for (BodyDeclaration<?> member : members) {
-                if (member instanceof MethodDeclaration) {
-                    MethodDeclaration methodDeclaration = (MethodDeclaration) member;
-                    if (method.getName().equals(methodDeclaration.getNameAsString())
-                            && method.getParameterCount() == methodDeclaration.getParameters().size()) {
-                        return methodDeclaration;
-                    }
-                }
-            }
-        }
-        return null;
+        DeclarationTable.MethodEntry entry = table.findMethod(method);
+        return entry != null ? entry.declaration : null;
     }
 
     /**
-     * 주어진 메서드 이름으로 파라미터들을 가져온다.
+     * 주어진 메서드의 {@code index}번째 파라미터 이름을 가져온다.
+     * 소스에 선언이 없거나(상위 클래스에서 상속한 메서드 등) 파라미터 수가 맞지 않으면 {@code null}.
      */
     public String getMethodParameterName(Method method, int index) {
-        MethodDeclaration md = getMethodDeclaration(method);
-        return md.getParameters().get(index).getNameAsString();
+        DeclarationTable.MethodEntry entry = table.findMethod(method);
+        if (entry == null || index < 0 || index >= entry.parameterNames.size()) {
+            return null;
+        }
+        return entry.parameterNames.get(index);
+    }
+
+    private static String description(String comment) {
+        if (comment == null) {
+            return null;
+        }
+        return StaticJavaParser.parseJavadoc(comment).getDescription().toText().trim();
     }
 }
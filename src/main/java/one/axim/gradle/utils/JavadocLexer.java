@@ -0,0 +1,621 @@
+package one.axim.gradle.utils;
+
+import one.axim.gradle.processor.ClassDocs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Javadoc만 읽는 경량 소스 스캐너.
+ *
+ * <p>AST를 만들지 않고 선언에 붙은 Javadoc을 연결할 만큼만 토큰화하여 {@link ClassDocs}를 만든다.
+ * 사이드카와 같은 형태이므로 {@link JavaSourceParser}는 두 경우를 같은 코드로 조회한다.
+ * <ul>
+ *   <li>첫 최상위 타입의 코멘트, 필드 및 enum 상수 코멘트</li>
+ *   <li>모든 최상위 타입의 메서드 코멘트, 파라미터 이름, 파라미터 타입 (제네릭을 지운 선언 그대로. 예: {@code List}, {@code String[]})</li>
+ * </ul>
+ * 중첩 타입, 생성자, 메서드 본문, 필드 초기화식은 괄호만 맞추어 건너뛴다.
+ *
+ * <p>괄호가 맞지 않거나 예상하지 못한 토큰을 만나면 {@code null}을 반환하며, 호출자는 JavaParser로 다시 파싱한다.
+ *
+ * @since 2.2.0
+ */
+final class JavadocLexer {
+
+    private static final Set<String> MODIFIERS = Set.of(
+            "public", "protected", "private", "static", "final", "abstract", "sealed", "strictfp",
+            "transient", "volatile", "synchronized", "native", "default");
+
+    private static final int EOF = 0;
+    private static final int IDENT = 1;
+    private static final int SYMBOL = 2;
+    private static final int LITERAL = 3;
+
+    private final String src;
+    private final int length;
+    private int pos;
+
+    /** 현재 토큰 */
+    private int kind;
+    private String text;
+    private char symbol;
+    /** 현재 토큰 바로 앞의 Javadoc 내용 ({@code /**}와 {@code *}{@code /} 사이). 사이에 다른 코멘트가 있으면 {@code null} */
+    private String doc;
+
+    private JavadocLexer(String src) {
+        this.src = src;
+        this.length = src.length();
+    }
+
+    /**
+     * 소스 코드에서 Javadoc을 읽는다.
+     *
+     * @return 구조를 확신할 수 없으면 {@code null}
+     */
+    static ClassDocs scan(String source) {
+        try {
+            return new JavadocLexer(source).compilationUnit();
+        } catch (Ambiguous e) {
+            return null;
+        }
+    }
+
+    private ClassDocs compilationUnit() {
+        ClassDocs docs = new ClassDocs();
+        boolean first = true;
+        advance();
+        while (kind != EOF) {
+            if (isSymbol(';')) {
+                advance();
+                continue;
+            }
+            if (isIdent("package") || isIdent("import")) {
+                skipPast(';');
+                continue;
+            }
+
+            String typeDoc = doc;
+            boolean annotationType = skipModifiers();
+            if (!annotationType && !isTypeKeyword()) {
+                throw Ambiguous.INSTANCE;
+            }
+            boolean isEnum = isIdent("enum");
+            advance();
+            String name = expectIdent();
+            if (first) {
+                docs.setComment(typeDoc);
+            }
+            typeBody(docs, name, first, isEnum);
+            first = false;
+        }
+        if (first) {
+            throw Ambiguous.INSTANCE;
+        }
+        return docs;
+    }
+
+    // --- 선언 ---
+
+    /**
+     * 타입 헤더 다음부터 본문 끝까지 읽는다. 현재 토큰은 타입 이름 다음 토큰.
+     *
+     * @param withFields 필드와 enum 상수 코멘트를 기록할지 여부 (첫 최상위 타입만)
+     */
+    private void typeBody(ClassDocs docs, String typeName, boolean withFields, boolean isEnum) {
+        skipToBody();
+        advance();
+        if (isEnum) {
+            enumConstants(docs, withFields);
+        }
+
+        while (!isSymbol('}')) {
+            if (kind == EOF) {
+                throw Ambiguous.INSTANCE;
+            }
+            if (isSymbol(';')) {
+                advance();
+                continue;
+            }
+
+            String memberDoc = doc;
+            boolean annotationType = skipModifiers();
+            if (annotationType || isTypeKeyword()) {
+                // 중첩 타입은 별도의 클래스이므로 건너뛴다
+                skipToBody();
+                skipBlock();
+                continue;
+            }
+            if (isSymbol('{')) {
+                // 초기화 블록
+                skipBlock();
+                continue;
+            }
+            if (isSymbol('<')) {
+                skipAngles();
+            }
+
+            String type = type();
+            if (isSymbol('(') || isSymbol('{')) {
+                // 생성자 (compact 생성자 포함)
+                if (!type.equals(typeName)) {
+                    throw Ambiguous.INSTANCE;
+                }
+                if (isSymbol('(')) {
+                    skipParens();
+                }
+                skipMethodRest();
+                continue;
+            }
+
+            String name = expectIdent();
+            if (isSymbol('(')) {
+                method(docs, name, memberDoc);
+            } else {
+                fields(docs, name, withFields ? memberDoc : null);
+            }
+        }
+        advance();
+    }
+
+    /**
+     * enum 상수 목록. 현재 토큰은 첫 상수(또는 {@code ;}, 본문의 닫는 중괄호).
+     */
+    private void enumConstants(ClassDocs docs, boolean withFields) {
+        while (!isSymbol('}')) {
+            if (isSymbol(';')) {
+                advance();
+                return;
+            }
+            String constantDoc = doc;
+            while (isSymbol('@')) {
+                advance();
+                skipAnnotation();
+            }
+            String name = expectIdent();
+            if (withFields && constantDoc != null) {
+                docs.getFields().put(name, constantDoc);
+            }
+            if (isSymbol('(')) {
+                skipParens();
+            }
+            if (isSymbol('{')) {
+                skipBlock();
+            }
+            if (isSymbol(',')) {
+                advance();
+            } else if (!isSymbol(';') && !isSymbol('}')) {
+                throw Ambiguous.INSTANCE;
+            }
+        }
+    }
+
+    /**
+     * 메서드 선언. 현재 토큰은 파라미터 목록의 {@code (}.
+     */
+    private void method(ClassDocs docs, String name, String comment) {
+        List<String> parameterTypes = new ArrayList<>();
+        List<String> parameterNames = new ArrayList<>();
+        advance();
+        while (!isSymbol(')')) {
+            skipModifiers();
+            String type = type();
+            if (isIdent("this")) {
+                // 수신자 파라미터는 실제 파라미터가 아니다
+                advance();
+            } else {
+                parameterNames.add(expectIdent());
+                // C 스타일 배열 선언 (String args[])
+                while (isSymbol('[')) {
+                    advance();
+                    expectSymbol(']');
+                    type += "[]";
+                }
+                parameterTypes.add(type);
+            }
+            if (isSymbol(',')) {
+                advance();
+            } else if (!isSymbol(')')) {
+                throw Ambiguous.INSTANCE;
+            }
+        }
+        advance();
+        docs.getMethods().add(new ClassDocs.MethodDocs(name, parameterTypes, parameterNames, comment));
+        skipMethodRest();
+    }
+
+    /**
+     * 필드 선언. 현재 토큰은 첫 변수 이름 다음 토큰. 한 선언의 모든 변수는 같은 코멘트를 갖는다.
+     */
+    private void fields(ClassDocs docs, String name, String comment) {
+        while (true) {
+            if (comment != null) {
+                docs.getFields().put(name, comment);
+            }
+            while (isSymbol('[')) {
+                advance();
+                expectSymbol(']');
+            }
+            if (isSymbol('=')) {
+                advance();
+                skipInitializer();
+            }
+            if (isSymbol(';')) {
+                advance();
+                return;
+            }
+            expectSymbol(',');
+            name = expectIdent();
+        }
+    }
+
+    /**
+     * 타입 이름을 읽는다. 타입 인자는 지우고 배열과 가변 인자는 {@code []}로 표기한다.
+     */
+    private String type() {
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            while (isSymbol('@')) {
+                advance();
+                skipAnnotation();
+            }
+            sb.append(expectIdent());
+            if (isSymbol('<')) {
+                skipAngles();
+            }
+            if (!isSymbol('.') || peekSymbol() == '.') {
+                break;
+            }
+            sb.append('.');
+            advance();
+        }
+        while (true) {
+            while (isSymbol('@')) {
+                advance();
+                skipAnnotation();
+            }
+            if (isSymbol('[')) {
+                advance();
+                expectSymbol(']');
+                sb.append("[]");
+            } else if (isSymbol('.')) {
+                expectSymbol('.');
+                expectSymbol('.');
+                expectSymbol('.');
+                sb.append("[]");
+            } else {
+                return sb.toString();
+            }
+        }
+    }
+
+    private boolean isTypeKeyword() {
+        if (isIdent("class") || isIdent("interface") || isIdent("enum")) {
+            return true;
+        }
+        // record는 제한된 식별자이므로 뒤에 이름이 올 때만 키워드
+        return isIdent("record") && peekKind() == IDENT;
+    }
+
+    /**
+     * 수식어와 어노테이션을 건너뛴다.
+     *
+     * @return {@code @interface}를 만났으면 {@code true} (현재 토큰은 {@code interface})
+     */
+    private boolean skipModifiers() {
+        while (true) {
+            if (isSymbol('@')) {
+                advance();
+                if (isIdent("interface")) {
+                    return true;
+                }
+                skipAnnotation();
+            } else if (kind == IDENT && MODIFIERS.contains(text)) {
+                advance();
+            } else if (isIdent("non") && peekSymbol() == '-') {
+                // non-sealed
+                advance();
+                advance();
+                advance();
+            } else {
+                return false;
+            }
+        }
+    }
+
+    // --- 건너뛰기 ---
+
+    /**
+     * {@code @} 다음의 어노테이션 이름과 인자를 건너뛴다.
+     */
+    private void skipAnnotation() {
+        expectIdent();
+        while (isSymbol('.')) {
+            advance();
+            expectIdent();
+        }
+        if (isSymbol('(')) {
+            skipParens();
+        }
+    }
+
+    /**
+     * 타입 헤더(타입 파라미터, extends, implements, permits, record 컴포넌트)를 건너뛴다. 현재 토큰은 본문의 {@code {}.
+     */
+    private void skipToBody() {
+        while (!isSymbol('{')) {
+            if (kind == EOF || isSymbol(';') || isSymbol('}')) {
+                throw Ambiguous.INSTANCE;
+            }
+            if (isSymbol('(')) {
+                skipParens();
+            } else {
+                advance();
+            }
+        }
+    }
+
+    /**
+     * 메서드/생성자의 파라미터 목록 다음(throws, 어노테이션 메서드의 default 값)부터 본문 또는 {@code ;}까지 건너뛴다.
+     */
+    private void skipMethodRest() {
+        while (!isSymbol('{') && !isSymbol(';')) {
+            if (kind == EOF || isSymbol('}')) {
+                throw Ambiguous.INSTANCE;
+            }
+            if (isIdent("default")) {
+                advance();
+                skipInitializer();
+                expectSymbol(';');
+                return;
+            }
+            advance();
+        }
+        if (isSymbol('{')) {
+            skipBlock();
+        } else {
+            advance();
+        }
+    }
+
+    /**
+     * 필드 초기화식이나 default 값을 최상위 {@code ,} 또는 {@code ;} 직전까지 건너뛴다.
+     * {@code new Type<...>}과 {@code .<...>}의 {@code <}는 비교 연산자가 아니라 타입 인자로 본다.
+     */
+    private void skipInitializer() {
+        int depth = 0;
+        boolean afterNew = false;
+        boolean afterDot = false;
+        while (true) {
+            if (kind == EOF) {
+                throw Ambiguous.INSTANCE;
+            }
+            if (kind == SYMBOL) {
+                char c = symbol;
+                if (depth == 0 && (c == ',' || c == ';')) {
+                    return;
+                }
+                if (c == '<' && (afterNew || afterDot)) {
+                    skipAngles();
+                    afterDot = false;
+                    continue;
+                }
+                if (c == '(' || c == '[' || c == '{') {
+                    depth++;
+                } else if (c == ')' || c == ']' || c == '}') {
+                    if (--depth < 0) {
+                        throw Ambiguous.INSTANCE;
+                    }
+                }
+                afterDot = c == '.';
+                afterNew = afterNew && c == '.';
+            } else {
+                afterNew = isIdent("new") || (afterNew && kind == IDENT);
+                afterDot = false;
+            }
+            advance();
+        }
+    }
+
+    private void skipAngles() {
+        skipBalanced('<', '>');
+    }
+
+    private void skipParens() {
+        skipBalanced('(', ')');
+    }
+
+    private void skipBlock() {
+        skipBalanced('{', '}');
+    }
+
+    /**
+     * 현재 토큰({@code open})부터 짝이 맞는 {@code close} 다음까지 건너뛴다.
+     */
+    private void skipBalanced(char open, char close) {
+        expectSymbol(open);
+        int depth = 1;
+        while (depth > 0) {
+            if (kind == EOF) {
+                throw Ambiguous.INSTANCE;
+            }
+            if (isSymbol(open)) {
+                depth++;
+            } else if (isSymbol(close)) {
+                depth--;
+            }
+            advance();
+        }
+    }
+
+    private void skipPast(char c) {
+        while (!isSymbol(c)) {
+            if (kind == EOF) {
+                throw Ambiguous.INSTANCE;
+            }
+            advance();
+        }
+        advance();
+    }
+
+    // --- 토큰 ---
+
+    private boolean isSymbol(char c) {
+        return kind == SYMBOL && symbol == c;
+    }
+
+    private boolean isIdent(String s) {
+        return kind == IDENT && text.equals(s);
+    }
+
+    private String expectIdent() {
+        if (kind != IDENT) {
+            throw Ambiguous.INSTANCE;
+        }
+        String s = text;
+        advance();
+        return s;
+    }
+
+    private void expectSymbol(char c) {
+        if (!isSymbol(c)) {
+            throw Ambiguous.INSTANCE;
+        }
+        advance();
+    }
+
+    private int peekKind() {
+        int savedPos = pos, savedKind = kind;
+        String savedText = text, savedDoc = doc;
+        char savedSymbol = symbol;
+        advance();
+        int result = kind;
+        pos = savedPos;
+        kind = savedKind;
+        text = savedText;
+        doc = savedDoc;
+        symbol = savedSymbol;
+        return result;
+    }
+
+    /**
+     * 다음 토큰이 기호이면 그 문자, 아니면 {@code 0}.
+     */
+    private char peekSymbol() {
+        int savedPos = pos, savedKind = kind;
+        String savedText = text, savedDoc = doc;
+        char savedSymbol = symbol;
+        advance();
+        char result = kind == SYMBOL ? symbol : 0;
+        pos = savedPos;
+        kind = savedKind;
+        text = savedText;
+        doc = savedDoc;
+        symbol = savedSymbol;
+        return result;
+    }
+
+    /**
+     * 공백과 코멘트를 건너뛰고 다음 토큰을 읽는다.
+     */
+    private void advance() {
+        doc = null;
+        text = null;
+        while (pos < length) {
+            char c = src.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '/' && pos + 1 < length && src.charAt(pos + 1) == '/') {
+                int end = src.indexOf('\n', pos);
+                pos = end < 0 ? length : end + 1;
+                doc = null;
+            } else if (c == '/' && pos + 1 < length && src.charAt(pos + 1) == '*') {
+                int end = src.indexOf("*/", pos + 2);
+                if (end < 0) {
+                    throw Ambiguous.INSTANCE;
+                }
+                // "/**/"는 빈 블록 코멘트
+                boolean javadoc = src.charAt(pos + 2) == '*' && end > pos + 2;
+                doc = javadoc ? src.substring(pos + 3, end) : null;
+                pos = end + 2;
+            } else {
+                break;
+            }
+        }
+        if (pos >= length) {
+            kind = EOF;
+            return;
+        }
+
+        char c = src.charAt(pos);
+        if (Character.isJavaIdentifierStart(c)) {
+            int start = pos++;
+            while (pos < length && Character.isJavaIdentifierPart(src.charAt(pos))) {
+                pos++;
+            }
+            kind = IDENT;
+            text = src.substring(start, pos);
+        } else if (c >= '0' && c <= '9') {
+            while (pos < length && (Character.isJavaIdentifierPart(src.charAt(pos)) || src.charAt(pos) == '.')) {
+                pos++;
+            }
+            kind = LITERAL;
+        } else if (c == '"' && src.startsWith("\"\"\"", pos)) {
+            int end = pos + 3;
+            while (true) {
+                end = src.indexOf("\"\"\"", end);
+                if (end < 0) {
+                    throw Ambiguous.INSTANCE;
+                }
+                if (!escaped(end)) {
+                    break;
+                }
+                end++;
+            }
+            pos = end + 3;
+            kind = LITERAL;
+        } else if (c == '"' || c == '\'') {
+            int end = pos + 1;
+            while (end < length && src.charAt(end) != c) {
+                char ch = src.charAt(end);
+                if (ch == '\n') {
+                    throw Ambiguous.INSTANCE;
+                }
+                end += ch == '\\' ? 2 : 1;
+            }
+            if (end >= length) {
+                throw Ambiguous.INSTANCE;
+            }
+            pos = end + 1;
+            kind = LITERAL;
+        } else {
+            pos++;
+            kind = SYMBOL;
+            symbol = c;
+        }
+    }
+
+    /**
+     * {@code index}의 문자가 홀수 개의 역슬래시 뒤에 있는지 여부.
+     */
+    private boolean escaped(int index) {
+        int count = 0;
+        while (index - 1 - count >= 0 && src.charAt(index - 1 - count) == '\\') {
+            count++;
+        }
+        return count % 2 == 1;
+    }
+
+    /**
+     * 소스 구조를 확신할 수 없음. 스택 트레이스를 만들지 않는다.
+     */
+    private static final class Ambiguous extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        static final Ambiguous INSTANCE = new Ambiguous();
+
+        private Ambiguous() {
+            super(null, null, false, false);
+        }
+    }
+}
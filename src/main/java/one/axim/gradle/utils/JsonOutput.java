@@ -0,0 +1,91 @@
+package one.axim.gradle.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 대용량 출력 파일(openapi.json, spec-bundle.json)을 스트리밍으로 기록한다.
+ *
+ * <p>호출자는 {@link JsonGenerator}에 요소를 하나씩 내보내고, 각 요소는 {@link #writeValue}로 직렬화한 뒤
+ * 바로 버린다. 문서 전체 트리나 JSON 문자열을 메모리에 올리지 않는다. JSON은 UTF-8 pretty-print로,
+ * 바이너리 {@link DocumentFormat}은 해당 인코딩으로 기록한다. {@link OutputFiles}로 기록하므로 실패해도
+ * 이전 파일이 반쯤 덮어써지지 않고, 내용이 같으면 기존 파일을 그대로 둔다.
+ *
+ * @since 2.2.0
+ */
+public final class JsonOutput {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper() {{
+        enable(SerializationFeature.INDENT_OUTPUT);
+        configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+    }};
+    /** 값마다 flush 하지 않도록 하여 버퍼를 살린다. */
+    private static final ObjectWriter valueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    /** 바이너리 형식용. 바이너리 생성기는 pretty printer를 쓸 수 없다. */
+    private static final ObjectWriter compactWriter = valueWriter.without(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * 출력 파일 본문을 기록하는 콜백.
+     */
+    @FunctionalInterface
+    public interface Body {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    private JsonOutput() {
+    }
+
+    /**
+     * {@code file}에 JSON 문서를 기록한다.
+     */
+    public static void write(File file, Body body) throws IOException {
+        write(file, DocumentFormat.JSON, body);
+    }
+
+    /**
+     * {@code file}에 문서를 기록한다. JSON은 pretty-print, 바이너리 형식은 해당 Jackson 생성기로 기록한다.
+     */
+    public static void write(File file, DocumentFormat format, Body body) throws IOException {
+        write(file, format, new OutputFiles(), body);
+    }
+
+    /**
+     * {@code file}에 문서를 기록한다. 기존 파일과 내용이 같으면 파일을 건드리지 않는다.
+     *
+     * @return 파일이 새로 생기거나 내용이 바뀌었으면 {@code true}
+     */
+    public static boolean write(File file, DocumentFormat format, OutputFiles outputs, Body body) throws IOException {
+        return outputs.write(file, out -> {
+            try (JsonGenerator gen = format.isBinary()
+                    ? format.getFactory().createGenerator(out)
+                    : objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                if (!format.isBinary()) {
+                    gen.useDefaultPrettyPrinter();
+                }
+                body.write(gen);
+            }
+        });
+    }
+
+    /**
+     * 객체 필드 하나를 기록한다.
+     */
+    public static void writeField(JsonGenerator gen, String name, Object value) throws IOException {
+        gen.writeFieldName(name);
+        writeValue(gen, value);
+    }
+
+    /**
+     * 값 하나를 직렬화하여 기록한다.
+     */
+    public static void writeValue(JsonGenerator gen, Object value) throws IOException {
+        (gen.getPrettyPrinter() != null ? valueWriter : compactWriter).writeValue(gen, value);
+    }
+}
@@ -0,0 +1,97 @@
+package one.axim.gradle.utils;
+
+import one.axim.gradle.data.APIModelDefinition;
+import one.axim.gradle.data.DocumentModel;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * 모델 정의 조회소. OpenAPI/Postman 변환기의 스키마 빌더가 모두 이 객체로 모델을 찾는다.
+ *
+ * <ul>
+ *   <li>{@link #of(DocumentModel)} — 같은 실행에서 생성한 메모리 모델을 그대로 조회 (파일 I/O 없음)</li>
+ *   <li>{@link #forDirectory(File, int)} — 기존 {@code model/} 디렉터리. 파일 목록을 한 번만 읽어 색인하고,
+ *       파싱한 모델은 크기가 제한된 LRU 캐시에 보관한다. 색인에 없는 클래스(기본 타입 등)는 파일을 열지 않는다.</li>
+ * </ul>
+ *
+ * @since 2.2.0
+ */
+public class ModelRepository {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final DocumentModel document;
+    private final Map<String, File> files;
+    private final Map<String, APIModelDefinition> cache;
+    private int reads;
+
+    private ModelRepository(DocumentModel document, Map<String, File> files, int capacity) {
+        this.document = document;
+        this.files = files;
+        this.cache = new LinkedHashMap<String, APIModelDefinition>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, APIModelDefinition> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 메모리 문서 모델을 사용하는 조회소.
+     */
+    public static ModelRepository of(DocumentModel document) {
+        return new ModelRepository(document, Collections.emptyMap(), 0);
+    }
+
+    /**
+     * {@code model/} 디렉터리를 색인한 조회소.
+     *
+     * @param modelDir {@code {documentPath}/model}
+     * @param capacity 파싱한 모델을 보관할 최대 개수
+     */
+    public static ModelRepository forDirectory(File modelDir, int capacity) {
+        Map<String, File> files = new HashMap<>();
+        for (File file : DocumentFormat.list(modelDir)) {
+            files.put(DocumentFormat.baseName(file), file);
+        }
+        return new ModelRepository(null, files, Math.max(1, capacity));
+    }
+
+    /**
+     * 클래스의 모델 정의. 생성된 모델이 없으면 {@code null}.
+     */
+    public synchronized APIModelDefinition get(String className) {
+        if (className == null) return null;
+        if (document != null) return document.getModel(className);
+
+        APIModelDefinition model = cache.get(className);
+        if (model != null) return model;
+
+        File file = files.get(className);
+        if (file == null) return null;
+
+        model = read(file);
+        if (model != null) {
+            cache.put(className, model);
+        }
+        return model;
+    }
+
+    /**
+     * 디렉터리 조회소가 모델 파일을 읽은 횟수.
+     */
+    public synchronized int getReadCount() {
+        return reads;
+    }
+
+    private APIModelDefinition read(File file) {
+        reads++;
+        try {
+            return DocumentFormat.read(file, APIModelDefinition.class);
+        } catch (Exception e) {
+            // skip unreadable files
+            return null;
+        }
+    }
+}
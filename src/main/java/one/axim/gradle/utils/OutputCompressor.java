@@ -0,0 +1,242 @@
+package one.axim.gradle.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 문서 디렉터리의 출력 파일 옆에 미리 압축한 파일({@code openapi.json.gz} 등)을 만든다.
+ * 정적 호스팅/CDN이 배포마다 다시 압축하지 않고 그대로 제공할 수 있다.
+ *
+ * <ul>
+ *   <li>{@code gzip} — {@code .gz}, JDK 내장</li>
+ *   <li>{@code br} — {@code .br}, 빌드 스크립트 클래스패스에 {@code com.aayushatharva.brotli4j:brotli4j}가 있을 때</li>
+ *   <li>{@code zstd} — {@code .zst}, 빌드 스크립트 클래스패스에 {@code com.github.luben:zstd-jni}가 있을 때</li>
+ * </ul>
+ *
+ * <p>파일 단위로 {@link ForkJoinPool}에서 병렬 압축한다. 압축 파일이 원본보다 새로우면 다시 압축하지 않으며,
+ * 원본이 없어졌거나 설정에서 빠진 인코딩의 압축 파일은 삭제한다.
+ *
+ * @since 2.2.0
+ */
+public class OutputCompressor {
+
+    private static final String TAG = "COMPRESS";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 지원하는 압축 방식.
+     */
+    enum Encoding {
+        GZIP("gzip", ".gz", null) {
+            @Override
+            OutputStream open(OutputStream out) throws IOException {
+                return new GZIPOutputStream(out, BUFFER_SIZE) {{
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }};
+            }
+        },
+        BROTLI("br", ".br", "com.aayushatharva.brotli4j.encoder.BrotliOutputStream") {
+            @Override
+            boolean isAvailable() {
+                if (!super.isAvailable()) return false;
+                try {
+                    // 네이티브 라이브러리를 먼저 로드해야 한다
+                    Class.forName("com.aayushatharva.brotli4j.Brotli4jLoader", true, loader())
+                            .getMethod("ensureAvailability").invoke(null);
+                    return true;
+                } catch (Throwable e) {
+                    return false;
+                }
+            }
+        },
+        ZSTD("zstd", ".zst", "com.github.luben.zstd.ZstdOutputStream");
+
+        private final String name;
+        private final String extension;
+        private final String streamClass;
+
+        Encoding(String name, String extension, String streamClass) {
+            this.name = name;
+            this.extension = extension;
+            this.streamClass = streamClass;
+        }
+
+        boolean isAvailable() {
+            if (streamClass == null) return true;
+            try {
+                Class.forName(streamClass, false, loader());
+                return true;
+            } catch (Throwable e) {
+                return false;
+            }
+        }
+
+        /**
+         * 압축 스트림을 연다. 선택 라이브러리의 {@code XxxOutputStream(OutputStream)} 생성자를 사용한다.
+         */
+        OutputStream open(OutputStream out) throws IOException {
+            try {
+                Constructor<?> constructor = Class.forName(streamClass, true, loader()).getConstructor(OutputStream.class);
+                return (OutputStream) constructor.newInstance(out);
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("Cannot open " + name + " stream", e);
+            }
+        }
+
+        static Encoding of(String name) {
+            for (Encoding encoding : values()) {
+                if (encoding.name.equalsIgnoreCase(name)) return encoding;
+            }
+            return null;
+        }
+
+        private static ClassLoader loader() {
+            return OutputCompressor.class.getClassLoader();
+        }
+    }
+
+    private final Set<Encoding> encodings = EnumSet.noneOf(Encoding.class);
+    private final int parallelism;
+
+    /**
+     * @param names       압축 방식 이름 ({@code gzip}, {@code br}, {@code zstd})
+     * @param parallelism 동시에 압축할 파일 수. {@code 0}이면 사용 가능한 프로세서 수
+     */
+    public OutputCompressor(Collection<String> names, int parallelism) {
+        for (String name : names) {
+            Encoding encoding = Encoding.of(name.trim());
+            if (encoding == null) {
+                Log.w(TAG, "unknown compression '" + name + "' — supported: gzip, br, zstd");
+            } else if (!encoding.isAvailable()) {
+                Log.w(TAG, "'" + name + "' compression library is not on the build classpath — skipped");
+            } else {
+                encodings.add(encoding);
+            }
+        }
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : Math.max(1, parallelism);
+    }
+
+    public boolean isEmpty() {
+        return encodings.isEmpty();
+    }
+
+    /**
+     * {@code docDir} 아래 모든 문서 출력({@link DocumentFormat} 파일, 숨김 파일 제외)의 압축 파일을 만든다.
+     *
+     * @return 새로 쓴 압축 파일 수
+     */
+    public int compress(File docDir) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        List<Path> siblings = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(docDir.toPath())) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(".")) continue;
+                if (DocumentFormat.forFile(name) != null) {
+                    sources.add(file);
+                } else if (compressedEncoding(name) != null) {
+                    siblings.add(file);
+                }
+            }
+        }
+
+        // 원본이 없어졌거나 더 이상 설정되지 않은 인코딩의 압축 파일 삭제
+        for (Path sibling : siblings) {
+            String name = sibling.getFileName().toString();
+            Encoding encoding = compressedEncoding(name);
+            Path source = sibling.resolveSibling(name.substring(0, name.length() - encoding.extension.length()));
+            if (!encodings.contains(encoding) || !Files.exists(source)) {
+                Files.deleteIfExists(sibling);
+            }
+        }
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (Path source : sources) {
+            for (Encoding encoding : encodings) {
+                tasks.add(() -> compress(source, encoding));
+            }
+        }
+
+        int written = 0;
+        for (boolean result : runAll(tasks)) {
+            if (result) written++;
+        }
+        return written;
+    }
+
+    /**
+     * 문서 출력의 압축 파일({@code openapi.json.gz} 등)인지 확인한다.
+     */
+    public static boolean isCompressed(Path file) {
+        return compressedEncoding(file.getFileName().toString()) != null;
+    }
+
+    private static Encoding compressedEncoding(String fileName) {
+        for (Encoding encoding : Encoding.values()) {
+            if (fileName.endsWith(encoding.extension)
+                    && DocumentFormat.forFile(fileName.substring(0, fileName.length() - encoding.extension.length())) != null) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean compress(Path source, Encoding encoding) throws IOException {
+        Path target = source.resolveSibling(source.getFileName() + encoding.extension);
+        if (Files.exists(target)
+                && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) > 0) {
+            return false;
+        }
+
+        Path tempFile = source.resolveSibling(target.getFileName() + ".tmp");
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = encoding.open(new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    private <T> List<T> runAll(List<Callable<T>> tasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(parallelism, tasks.size())));
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+}
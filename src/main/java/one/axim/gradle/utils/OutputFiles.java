@@ -0,0 +1,275 @@
+package one.axim.gradle.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 내용이 바뀐 출력 파일만 교체하는 기록기.
+ *
+ * <p>새 내용을 기존 파일과 바이트 단위로 스트리밍 비교하며 기록한다. 끝까지 같으면 기존 파일을 건드리지 않아
+ * 수정 시각이 유지되고, 그 파일을 입력으로 쓰는 후속 태스크(포털 패키징, 클라이언트 코드 생성 등)가
+ * up-to-date로 판정된다. 처음 다른 바이트가 나오면 그때부터 임시 파일에 기록한 뒤 교체하므로,
+ * 바뀌지 않은 파일은 디스크에 다시 쓰지도 않는다.
+ *
+ * <p>한 번의 생성 실행에 인스턴스 하나를 공유하며, 기록한 파일과 변경/미변경 수를 집계한다.
+ * 여러 스레드에서 동시에 사용해도 된다.
+ *
+ * @since 2.2.0
+ */
+public class OutputFiles {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 파일 내용을 기록하는 콜백.
+     */
+    @FunctionalInterface
+    public interface Content {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private final Set<Path> written = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger changed = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+
+    /**
+     * {@code file}에 내용을 기록한다. 기존 파일과 내용이 같으면 파일을 건드리지 않는다.
+     *
+     * @return 파일이 새로 생기거나 내용이 바뀌었으면 {@code true}
+     */
+    public boolean write(File file, Content content) throws IOException {
+        Path target = file.toPath();
+        ComparingOutputStream compare = new ComparingOutputStream(target,
+                target.resolveSibling(target.getFileName() + ".tmp"));
+        try (OutputStream out = new BufferedOutputStream(compare, BUFFER_SIZE)) {
+            content.write(out);
+        } catch (IOException | RuntimeException e) {
+            compare.discard();
+            throw e;
+        }
+
+        written.add(target.toAbsolutePath().normalize());
+        if (compare.commit()) {
+            changed.incrementAndGet();
+            return true;
+        }
+        unchanged.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * {@code file}에 바이트 배열을 기록한다.
+     *
+     * @return 파일이 새로 생기거나 내용이 바뀌었으면 {@code true}
+     */
+    public boolean write(File file, byte[] bytes) throws IOException {
+        return write(file, out -> out.write(bytes));
+    }
+
+    /**
+     * {@code file}에 UTF-8 문자열을 기록한다.
+     *
+     * @return 파일이 새로 생기거나 내용이 바뀌었으면 {@code true}
+     */
+    public boolean write(File file, String text) throws IOException {
+        return write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다시 기록하지 않고 그대로 재사용한 파일을 이번 실행의 출력으로 표시한다.
+     * {@link #deleteUnwritten}이 삭제하지 않으며, 변경/미변경 수에는 포함하지 않는다.
+     */
+    public void markKept(File file) {
+        written.add(file.toPath().toAbsolutePath().normalize());
+    }
+
+    /**
+     * 이번 실행에서 내용이 바뀌었거나 새로 생긴 파일 수.
+     */
+    public int getChangedCount() {
+        return changed.get();
+    }
+
+    /**
+     * 이번 실행에서 기록했지만 내용이 같아 건드리지 않은 파일 수.
+     */
+    public int getUnchangedCount() {
+        return unchanged.get();
+    }
+
+    /**
+     * 이번 실행에서 {@link #write}로 기록한 파일인지 확인한다.
+     */
+    public boolean isWritten(File file) {
+        return written.contains(file.toPath().toAbsolutePath().normalize());
+    }
+
+    /**
+     * {@code root} 아래에서 이번 실행에 기록하지 않은 파일을 삭제하고, 비게 된 하위 디렉터리도 삭제한다.
+     * 출력 디렉터리를 통째로 지우지 않고도 이전 실행의 잔여 파일을 정리할 수 있다.
+     *
+     * @param keep 기록하지 않았어도 남겨 둘 파일 (다른 단계가 관리하는 파일)
+     * @return 삭제한 파일 수
+     */
+    public int deleteUnwritten(File root, Predicate<Path> keep) throws IOException {
+        if (!root.isDirectory()) return 0;
+
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(root.toPath())) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+
+        int deleted = 0;
+        Path rootPath = root.toPath();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                if (!path.equals(rootPath) && isEmptyDirectory(path)) {
+                    Files.delete(path);
+                }
+            } else if (!written.contains(path.toAbsolutePath().normalize()) && !keep.test(path)) {
+                Files.delete(path);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static boolean isEmptyDirectory(Path dir) throws IOException {
+        try (Stream<Path> children = Files.list(dir)) {
+            return !children.findAny().isPresent();
+        }
+    }
+
+    /**
+     * 기록되는 바이트를 기존 파일과 차례로 비교한다. 다른 바이트가 처음 나오면 그때까지 일치한 앞부분을
+     * 기존 파일에서 임시 파일로 복사하고, 이후로는 임시 파일에 기록한다.
+     */
+    private static final class ComparingOutputStream extends OutputStream {
+
+        private final Path target;
+        private final Path tempFile;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        /** 기존 파일. 기존 파일이 없거나 이미 달라졌으면 {@code null}. */
+        private InputStream existing;
+        /** 달라진 뒤의 임시 파일 출력. */
+        private OutputStream temp;
+        private long matched;
+        private boolean closed;
+
+        ComparingOutputStream(Path target, Path tempFile) throws IOException {
+            this.target = target;
+            this.tempFile = tempFile;
+            this.existing = Files.isRegularFile(target) ? Files.newInputStream(target) : null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (temp == null && len > 0) {
+                if (existing == null) {
+                    diverge();
+                    break;
+                }
+                int chunk = Math.min(len, buffer.length);
+                int n = existing.readNBytes(buffer, 0, chunk);
+                if (n != chunk || !Arrays.equals(b, off, off + chunk, buffer, 0, chunk)) {
+                    diverge();
+                    break;
+                }
+                matched += chunk;
+                off += chunk;
+                len -= chunk;
+            }
+            if (len > 0) {
+                temp.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (temp != null) temp.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            try {
+                // 새 내용이 기존 파일보다 짧거나 기존 파일이 없으면 달라진 것이다
+                if (temp == null && (existing == null || existing.read() != -1)) {
+                    diverge();
+                }
+            } finally {
+                closeQuietly(existing);
+                existing = null;
+                if (temp != null) temp.close();
+            }
+        }
+
+        /**
+         * 내용이 달랐으면 임시 파일로 대상 파일을 교체한다.
+         *
+         * @return 교체했으면 {@code true}
+         */
+        boolean commit() throws IOException {
+            if (temp == null) return false;
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }
+
+        void discard() throws IOException {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // 원래 예외를 전달한다
+            }
+            Files.deleteIfExists(tempFile);
+        }
+
+        private void diverge() throws IOException {
+            closeQuietly(existing);
+            existing = null;
+            temp = new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE);
+            if (matched == 0) return;
+
+            try (InputStream in = Files.newInputStream(target)) {
+                long remaining = matched;
+                while (remaining > 0) {
+                    int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (n < 0) throw new IOException("Output file changed while writing: " + target);
+                    temp.write(buffer, 0, n);
+                    remaining -= n;
+                }
+            }
+        }
+
+        private static void closeQuietly(InputStream in) {
+            if (in == null) return;
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 읽기 전용 스트림
+            }
+        }
+    }
+}
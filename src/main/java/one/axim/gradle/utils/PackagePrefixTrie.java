@@ -0,0 +1,122 @@
+package one.axim.gradle.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 패키지 접두사 집합을 세그먼트 단위 트라이로 보관한다.
+ *
+ * <p>{@code com.example} 을 등록하면 {@code com.example}, {@code com.example.api} 는 일치하지만
+ * {@code com.examples} 는 일치하지 않는다. 디렉터리 순회 시 {@link #mayContain(String)} 으로
+ * 스캔 대상이 나올 수 없는 하위 트리를 조기에 잘라낸다.
+ */
+public class PackagePrefixTrie {
+
+    private final Node root = new Node();
+    private boolean empty = true;
+
+    public static PackagePrefixTrie of(Collection<String> packages) {
+        PackagePrefixTrie trie = new PackagePrefixTrie();
+        for (String pkg : packages) {
+            trie.add(pkg);
+        }
+        return trie;
+    }
+
+    /**
+     * 쉼표로 구분된 패키지 목록(basePackage DSL 형식)으로 트라이를 만든다.
+     */
+    public static PackagePrefixTrie parse(String commaSeparated) {
+        PackagePrefixTrie trie = new PackagePrefixTrie();
+        if (commaSeparated != null) {
+            for (String pkg : commaSeparated.split(",")) {
+                trie.add(pkg);
+            }
+        }
+        return trie;
+    }
+
+    public void add(String packageName) {
+        if (packageName == null) return;
+        String pkg = packageName.trim();
+        Node node = root;
+        if (!pkg.isEmpty()) {
+            for (String segment : pkg.split("\\.")) {
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        node.terminal = true;
+        empty = false;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * 등록된 접두사 중 다른 접두사에 포함되지 않는 최상위 접두사 목록.
+     */
+    public List<String> getPrefixes() {
+        List<String> prefixes = new ArrayList<>();
+        collectPrefixes(root, "", prefixes);
+        return prefixes;
+    }
+
+    private static void collectPrefixes(Node node, String path, List<String> prefixes) {
+        if (node.terminal) {
+            prefixes.add(path);
+            return;
+        }
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            collectPrefixes(child.getValue(), path.isEmpty() ? child.getKey() : path + "." + child.getKey(), prefixes);
+        }
+    }
+
+    /**
+     * 패키지가 등록된 접두사 자신이거나 그 하위 패키지인지 확인한다.
+     */
+    public boolean matches(String packageName) {
+        Node node = root;
+        if (node.terminal) return true;
+        if (packageName == null || packageName.isEmpty()) return false;
+
+        int start = 0;
+        while (start <= packageName.length()) {
+            int end = packageName.indexOf('.', start);
+            if (end < 0) end = packageName.length();
+            node = node.children.get(packageName.substring(start, end));
+            if (node == null) return false;
+            if (node.terminal) return true;
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * 패키지 하위에 스캔 대상이 존재할 수 있는지 확인한다.
+     * 등록된 접두사의 상위 패키지이거나 {@link #matches(String)} 가 참이면 {@code true}.
+     */
+    public boolean mayContain(String packageName) {
+        Node node = root;
+        if (node.terminal || packageName == null || packageName.isEmpty()) return !empty;
+
+        int start = 0;
+        while (start <= packageName.length()) {
+            int end = packageName.indexOf('.', start);
+            if (end < 0) end = packageName.length();
+            node = node.children.get(packageName.substring(start, end));
+            if (node == null) return false;
+            if (node.terminal) return true;
+            start = end + 1;
+        }
+        return true;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new TreeMap<>();
+        private boolean terminal;
+    }
+}
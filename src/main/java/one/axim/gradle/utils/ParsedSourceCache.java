@@ -0,0 +1,189 @@
+package one.axim.gradle.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로세스 전체에서 공유하는 소스 파싱 결과 캐시.
+ *
+ * <p>같은 부모 DTO나 예외 클래스의 소스가 컨트롤러, 모델, 쿼리 파라미터 객체, 에러 코드 스캔에서 반복해서
+ * 파싱되지 않도록 {@link JavaSourceParser}를 파일 경로로 캐시한다. Gradle 데몬에서는 다음 빌드에서도 재사용된다.
+ *
+ * <ul>
+ *   <li>파일의 수정 시각과 크기가 캐시할 때와 다르면 다시 파싱한다.</li>
+ *   <li>최근에 사용하지 않은 항목부터 {@code maxEntries}개를 넘는 항목을 제거한다. (LRU)</li>
+ *   <li>파싱 결과는 {@link SoftReference}로 보관하므로 메모리가 부족하면 GC가 회수한다.</li>
+ * </ul>
+ *
+ * <p>최대 항목 수는 시스템 프로퍼티 {@code restdoc.parseCache.maxEntries}로 바꿀 수 있다. (0이면 캐시하지 않음)
+ *
+ * @since 2.2.0
+ */
+public class ParsedSourceCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    private static final ParsedSourceCache SHARED =
+            new ParsedSourceCache(Integer.getInteger("restdoc.parseCache.maxEntries", DEFAULT_MAX_ENTRIES));
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ParsedSourceCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > ParsedSourceCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 프로세스 전체에서 공유하는 캐시.
+     */
+    public static ParsedSourceCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * 파일의 파싱 결과를 캐시에서 찾고, 없거나 파일이 바뀌었으면 {@code loader}로 파싱하여 캐시한다.
+     * 파싱에 실패하면 예외를 그대로 던지며 캐시하지 않는다.
+     */
+    public JavaSourceParser get(File file, Loader loader) throws Exception {
+        return get(file, "", loader);
+    }
+
+    /**
+     * {@link #get(File, Loader)}와 같지만 같은 파일을 다른 방식으로 읽은 결과를 {@code variant}별로 따로 캐시한다.
+     */
+    public JavaSourceParser get(File file, String variant, Loader loader) throws Exception {
+        String key = variant.isEmpty() ? file.getAbsolutePath() : variant + ':' + file.getAbsolutePath();
+        BasicFileAttributes attrs = attributes(file);
+        long lastModified = attrs != null ? attrs.lastModifiedTime().toMillis() : -1;
+        long length = attrs != null ? attrs.size() : -1;
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+            JavaSourceParser parser = entry.parser.get();
+            if (parser != null) {
+                hits.increment();
+                return parser;
+            }
+        }
+
+        // 같은 파일을 동시에 요청하면 중복 파싱될 수 있지만 결과는 같다
+        misses.increment();
+        JavaSourceParser parser = loader.load(file);
+        if (maxEntries > 0 && attrs != null) {
+            synchronized (entries) {
+                entries.put(key, new Entry(lastModified, length, parser));
+            }
+        }
+        return parser;
+    }
+
+    /**
+     * 지금까지의 적중/실패/제거 횟수.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static BasicFileAttributes attributes(File file) {
+        try {
+            return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캐시에 없을 때 파일을 파싱한다.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        JavaSourceParser load(File file) throws Exception;
+    }
+
+    private static final class Entry {
+        final long lastModified;
+        final long length;
+        final SoftReference<JavaSourceParser> parser;
+
+        Entry(long lastModified, long length, JavaSourceParser parser) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.parser = new SoftReference<>(parser);
+        }
+    }
+
+    /**
+     * 캐시 통계의 스냅샷.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        Stats(long hits, long misses, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * {@code since} 이후의 증가분. 태스크 한 번의 통계를 구할 때 사용한다.
+         * 통계는 캐시 단위로 집계되므로, 같은 프로세스에서 동시에 캐시를 쓴 다른 태스크의 적중/실패도 포함된다.
+         */
+        public Stats minus(Stats since) {
+            return new Stats(hits - since.hits, misses - since.misses, evictions - since.evictions);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d misses, %d evictions", hits, misses, evictions);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package one.axim.gradle.utils;
+
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.compile.JavaCompile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * 클래스 이름 → 소스 파일 색인.
+ *
+ * <p>모든 프로젝트의 소스 루트를 처음 조회할 때 한 번만 순회하여 {@code *.java} 파일을 FQCN으로 색인한다.
+ * 이후 조회는 파일 시스템 접근 없이 맵 조회로 끝난다. 소스 루트는 프로젝트 순서대로 다음과 같다.
+ * <ul>
+ *   <li>main SourceSet의 Java 소스 디렉터리 ({@code srcDirs})</li>
+ *   <li>main 컴파일 태스크의 생성 소스 디렉터리 (어노테이션 프로세서 출력)</li>
+ *   <li>Java 플러그인이 없는 프로젝트는 {@code src/main/java}</li>
+ * </ul>
+ * 같은 FQCN이 여러 루트에 있으면 먼저 나온 루트의 파일을 사용한다.
+ *
+ * <p>파일 이름이 곧 FQCN이므로 중첩 클래스({@code Outer$Inner})와 파일 이름이 다른 최상위 클래스는 찾지 않는다.
+ */
+public class SourceFileIndex {
+
+    private static final String TAG = SourceFileIndex.class.getSimpleName();
+    private static final String JAVA = ".java";
+
+    private final List<File> roots;
+    private volatile Map<String, Path> index;
+
+    public SourceFileIndex(List<File> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * {@code project}가 속한 빌드의 모든 프로젝트 소스 루트로 색인을 만든다. (순회는 첫 조회 때)
+     */
+    public static SourceFileIndex of(Project project) {
+        return new SourceFileIndex(sourceRoots(project.getRootProject()));
+    }
+
+    /**
+     * 루트 프로젝트와 모든 하위 프로젝트의 소스 루트. 존재하지 않는 디렉터리는 제외한다.
+     */
+    public static List<File> sourceRoots(Project rootProject) {
+        Set<File> roots = new LinkedHashSet<>();
+        for (Project project : rootProject.getAllprojects()) {
+            SourceSetContainer container = project.getExtensions().findByType(SourceSetContainer.class);
+            SourceSet main = container != null ? container.findByName(SourceSet.MAIN_SOURCE_SET_NAME) : null;
+            if (main == null) {
+                roots.add(new File(project.getProjectDir(), "src/main/java"));
+                continue;
+            }
+
+            roots.addAll(main.getJava().getSrcDirs());
+            Task compile = project.getTasks().findByName(main.getCompileJavaTaskName());
+            if (compile instanceof JavaCompile) {
+                File generated = ((JavaCompile) compile).getOptions().getGeneratedSourceOutputDirectory().getAsFile().getOrNull();
+                if (generated != null) {
+                    roots.add(generated);
+                }
+            }
+        }
+
+        List<File> existing = new ArrayList<>();
+        for (File root : roots) {
+            if (root.isDirectory()) {
+                existing.add(root);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * 클래스의 소스 파일. 없으면 {@code null}.
+     */
+    public File find(Class<?> cls) {
+        return find(cls.getName());
+    }
+
+    /**
+     * FQCN의 소스 파일. 없으면 {@code null}.
+     */
+    public File find(String className) {
+        Path path = index().get(className);
+        return path != null ? path.toFile() : null;
+    }
+
+    public List<File> getRoots() {
+        return roots;
+    }
+
+    /**
+     * 색인된 소스 파일 수.
+     */
+    public int size() {
+        return index().size();
+    }
+
+    private Map<String, Path> index() {
+        Map<String, Path> result = index;
+        if (result == null) {
+            synchronized (this) {
+                result = index;
+                if (result == null) {
+                    result = build();
+                    index = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Path> build() {
+        Map<String, Path> result = new HashMap<>();
+        for (File root : roots) {
+            Path rootPath = root.toPath();
+            try {
+                Files.walkFileTree(rootPath, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        String className = attrs.isRegularFile() ? className(rootPath.relativize(file)) : null;
+                        if (className != null) {
+                            result.putIfAbsent(className, file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                Log.w(TAG, "Cannot index source root " + root + ": " + e.getMessage());
+            }
+        }
+        Log.i(TAG, String.format("Indexed %d source files in %d roots", result.size(), roots.size()));
+        return result;
+    }
+
+    /**
+     * 소스 루트 기준 상대 경로의 FQCN. {@code package-info.java} 등 클래스가 아닌 파일은 {@code null}.
+     */
+    private static String className(Path relative) {
+        String fileName = relative.getFileName().toString();
+        if (!fileName.endsWith(JAVA) || fileName.indexOf('-') >= 0) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < relative.getNameCount() - 1; i++) {
+            sb.append(relative.getName(i)).append('.');
+        }
+        sb.append(fileName, 0, fileName.length() - JAVA.length());
+        return sb.toString();
+    }
+}
@@ -2,13 +2,32 @@ package one.axim.gradle;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import sun.misc.Unsafe;
 
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import one.axim.gradle.data.APIDefinition;
+import one.axim.gradle.utils.ClasspathIndex;
+import one.axim.gradle.utils.ClasspathScanner;
+import one.axim.gradle.utils.PackagePrefixTrie;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -150,6 +169,141 @@ public class RestApiDocGeneratorTest {
         assertEquals(String.class, result);
     }
 
+    // ========== parallel processing ==========
+
+    @Test
+    void testRunAll_preservesTaskOrder() throws Exception {
+        RestApiDocGenerator generator = newInstance();
+        generator.setParallelism(4);
+
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                Thread.sleep((8 - index) * 5L);
+                return index;
+            });
+        }
+
+        Method runAll = RestApiDocGenerator.class.getDeclaredMethod("runAll", List.class);
+        runAll.setAccessible(true);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7), runAll.invoke(generator, tasks));
+    }
+
+    @Test
+    void testAssignOperationIds_prefixesDuplicatesInCallOrder() throws Exception {
+        RestApiDocGenerator generator = newInstance();
+        Field used = RestApiDocGenerator.class.getDeclaredField("usedOperationIds");
+        used.setAccessible(true);
+        used.set(generator, new HashSet<String>());
+
+        Method assign = RestApiDocGenerator.class.getDeclaredMethod("assignOperationIds", Class.class, List.class);
+        assign.setAccessible(true);
+
+        List<APIDefinition> admin = Arrays.asList(api("list"), api("get"));
+        List<APIDefinition> user = Arrays.asList(api("list"), api("create"));
+        assign.invoke(generator, AdminController.class, admin);
+        assign.invoke(generator, UserController.class, user);
+
+        assertEquals("list", admin.get(0).getId());
+        assertEquals("get", admin.get(1).getId());
+        assertEquals("user_list", user.get(0).getId());
+        assertEquals("create", user.get(1).getId());
+    }
+
+    @Test
+    void testEnqueueModels_visitsEachModelOnce() throws Exception {
+        RestApiDocGenerator generator = newInstance();
+        Field visited = RestApiDocGenerator.class.getDeclaredField("visitedModels");
+        visited.setAccessible(true);
+        visited.set(generator, new HashSet<String>());
+
+        Method enqueue = RestApiDocGenerator.class.getDeclaredMethod("enqueueModels", java.util.Collection.class, java.util.Deque.class);
+        enqueue.setAccessible(true);
+
+        java.util.Deque<String> queue = new java.util.ArrayDeque<>();
+        enqueue.invoke(generator, Arrays.asList("com.example.B", "com.example.A", null), queue);
+        // A -> B -> A 순환: 이미 방문한 모델은 다시 큐에 넣지 않는다
+        enqueue.invoke(generator, Arrays.asList("com.example.B", "com.example.C"), queue);
+        enqueue.invoke(generator, Arrays.asList("com.example.A"), queue);
+
+        assertEquals(Arrays.asList("com.example.A", "com.example.B", "com.example.C"), new ArrayList<>(queue));
+        Field duplicates = RestApiDocGenerator.class.getDeclaredField("duplicateModelVisits");
+        duplicates.setAccessible(true);
+        assertEquals(2, duplicates.getInt(generator));
+    }
+
+    // ========== controller discovery ==========
+
+    @Test
+    void testFindControllerCandidates_allBasePackagesWithSegmentBoundaries(@TempDir Path dir) throws Exception {
+        compile(dir,
+                "org/springframework/web/bind/annotation/RestController.java",
+                "package org.springframework.web.bind.annotation;\n"
+                        + "import java.lang.annotation.*;\n"
+                        + "@Retention(RetentionPolicy.RUNTIME) public @interface RestController {}\n",
+                "org/springframework/web/bind/annotation/GetMapping.java",
+                "package org.springframework.web.bind.annotation;\n"
+                        + "import java.lang.annotation.*;\n"
+                        + "@Retention(RetentionPolicy.RUNTIME) public @interface GetMapping {}\n",
+                "com/foo/api/UserController.java", controller("com.foo.api", "UserController"),
+                "com/foobar/api/OtherController.java", controller("com.foobar.api", "OtherController"),
+                "org/sample/OrderController.java", controller("org.sample", "OrderController"),
+                "org/sample/NoMapping.java",
+                "package org.sample;\n@org.springframework.web.bind.annotation.RestController\n"
+                        + "public class NoMapping { public String list() { return null; } }\n");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, null)) {
+            ClasspathIndex index = ClasspathIndex.build(loader,
+                    ClasspathScanner.forRoots(Collections.singletonList(dir.toFile())), PackagePrefixTrie.parse("com, org"));
+
+            // 쉼표로 구분한 모든 basePackage를 사용하고, com.foo는 com.foobar와 일치하지 않는다
+            assertEquals(Arrays.asList("com.foo.api.UserController", "org.sample.OrderController"),
+                    RestApiDocGenerator.findControllerCandidates(index, PackagePrefixTrie.parse("com.foo, org.sample")));
+            assertEquals(Collections.singletonList("com.foobar.api.OtherController"),
+                    RestApiDocGenerator.findControllerCandidates(index, PackagePrefixTrie.parse("com.foobar")));
+            assertTrue(RestApiDocGenerator.findControllerCandidates(index, PackagePrefixTrie.parse("com.fo")).isEmpty());
+        }
+    }
+
+    private static String controller(String packageName, String simpleName) {
+        return "package " + packageName + ";\n"
+                + "@org.springframework.web.bind.annotation.RestController\n"
+                + "public class " + simpleName + " {\n"
+                + "    @org.springframework.web.bind.annotation.GetMapping public String list() { return null; }\n"
+                + "}\n";
+    }
+
+    /** 경로/내용 쌍으로 받은 소스를 {@code dir}에 쓰고 같은 디렉터리로 컴파일한다. */
+    private static void compile(Path dir, String... pathsAndContents) throws Exception {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < pathsAndContents.length; i += 2) {
+            Path file = dir.resolve(pathsAndContents[i]);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, pathsAndContents[i + 1], StandardCharsets.UTF_8);
+            files.add(file.toFile());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Boolean ok = compiler.getTask(null, fileManager, null, Arrays.asList("-d", dir.toString()), null,
+                    fileManager.getJavaFileObjectsFromFiles(files)).call();
+            assertTrue(ok, "fixture sources should compile");
+        }
+    }
+
+    private static RestApiDocGenerator newInstance() throws Exception {
+        Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        Unsafe unsafe = (Unsafe) unsafeField.get(null);
+        return (RestApiDocGenerator) unsafe.allocateInstance(RestApiDocGenerator.class);
+    }
+
+    private static APIDefinition api(String methodName) {
+        APIDefinition api = new APIDefinition();
+        api.setId(methodName);
+        return api;
+    }
+
     // ========== Test Fixtures ==========
 
     static class Parent {
@@ -164,6 +318,12 @@ public class RestApiDocGeneratorTest {
         String grandChildField;
     }
 
+    static class AdminController {
+    }
+
+    static class UserController {
+    }
+
     @SuppressWarnings("unused")
     static class GenericFixture {
         List<String> listReturn() { return null; }
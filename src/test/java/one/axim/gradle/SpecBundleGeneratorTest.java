@@ -0,0 +1,142 @@
+package one.axim.gradle;
+
+import com.google.gson.Gson;
+import one.axim.gradle.data.APIDefinition;
+import one.axim.gradle.data.APIField;
+import one.axim.gradle.data.APIModelDefinition;
+import one.axim.gradle.data.DocumentModel;
+import one.axim.gradle.data.ServiceDefinition;
+import one.axim.gradle.utils.ClasspathIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpecBundleGeneratorTest {
+
+    private static final Gson gson = new Gson();
+
+    @TempDir
+    Path docDir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testShardedBundle() throws Exception {
+        generator(document(), true).build();
+
+        assertFalse(Files.exists(docDir.resolve("spec-bundle.json")));
+
+        Map<String, Object> index = read("spec-bundle/index.json");
+        List<Map<String, Object>> groups = (List<Map<String, Object>>) index.get("groups");
+        assertEquals(Arrays.asList("", "admin", "user"), names(groups));
+        assertEquals("groups/_ungrouped.json", groups.get(0).get("shard"));
+        assertEquals(3, ((List<?>) index.get("operations")).size());
+
+        Map<String, Object> userShard = read("spec-bundle/groups/user.json");
+        assertEquals("user", userShard.get("group"));
+        assertEquals(1, ((List<?>) userShard.get("apis")).size());
+        // 반환 모델과 그 필드가 참조하는 모델까지 포함하고, 다른 그룹의 모델은 포함하지 않는다
+        Map<String, Object> models = (Map<String, Object>) userShard.get("models");
+        assertEquals(Arrays.asList("com.example.AddressDto", "com.example.UserDto"), new ArrayList<>(models.keySet()));
+
+        Map<String, Object> adminShard = read("spec-bundle/groups/admin.json");
+        assertTrue(((Map<String, Object>) adminShard.get("models")).isEmpty());
+
+        assertTrue(Files.exists(docDir.resolve("spec-bundle/errors.json")));
+    }
+
+    @Test
+    void testStaleShardsRemoved() throws Exception {
+        Path stale = docDir.resolve("spec-bundle/groups/removed.json");
+        Files.createDirectories(stale.getParent());
+        Files.write(stale, "{}".getBytes(StandardCharsets.UTF_8));
+
+        generator(document(), true).build();
+        assertFalse(Files.exists(stale));
+
+        generator(document(), false).build();
+        assertTrue(Files.exists(docDir.resolve("spec-bundle.json")));
+        assertFalse(Files.exists(docDir.resolve("spec-bundle")));
+    }
+
+    @Test
+    void testShardName() {
+        assertEquals("user", SpecBundleGenerator.shardName("user"));
+        assertEquals("_ungrouped", SpecBundleGenerator.shardName(null));
+        assertTrue(SpecBundleGenerator.shardName("User").startsWith("user-"));
+        assertTrue(SpecBundleGenerator.shardName("사용자").matches("___-[0-9a-f]+"));
+        assertNotEquals(SpecBundleGenerator.shardName("사용자"), SpecBundleGenerator.shardName("관리자"));
+    }
+
+    // --- helpers ---
+
+    private SpecBundleGenerator generator(DocumentModel document, boolean sharded) {
+        ServiceDefinition sd = new ServiceDefinition();
+        sd.setServiceId("test-service");
+        SpecBundleGenerator generator = new SpecBundleGenerator(sd, docDir.toString(), (ClasspathIndex) null, document);
+        generator.setSharded(sharded);
+        return generator;
+    }
+
+    private static DocumentModel document() {
+        DocumentModel document = new DocumentModel();
+        document.putApis("com.example.UserController", Arrays.asList(
+                api("getUser", "user", "com.example.UserDto"),
+                api("getAdmin", "admin", "java.lang.String"),
+                api("ping", null, "void")));
+        document.putModel("com.example.UserDto", model("UserDto",
+                field("address", "Object", "com.example.AddressDto")));
+        document.putModel("com.example.AddressDto", model("AddressDto",
+                field("city", "String", "java.lang.String")));
+        document.putModel("com.example.AdminDto", model("AdminDto"));
+        return document;
+    }
+
+    private static APIDefinition api(String id, String group, String returnClass) {
+        APIDefinition api = new APIDefinition();
+        api.setId(id);
+        api.setName(id);
+        api.setGroup(group);
+        api.setMethod("GET");
+        api.setUrlMapping("/" + id);
+        api.setReturnClass(returnClass);
+        return api;
+    }
+
+    private static APIModelDefinition model(String name, APIField... fields) {
+        APIModelDefinition model = new APIModelDefinition();
+        model.setName(name);
+        model.setType("Object");
+        model.setFields(new ArrayList<>(Arrays.asList(fields)));
+        return model;
+    }
+
+    private static APIField field(String name, String type, String classPath) {
+        APIField field = new APIField();
+        field.setName(name);
+        field.setType(type);
+        field.setClassPath(classPath);
+        return field;
+    }
+
+    private static List<Object> names(List<Map<String, Object>> groups) {
+        List<Object> names = new ArrayList<>();
+        for (Map<String, Object> group : groups) {
+            names.add(group.get("name"));
+        }
+        return names;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> read(String path) throws Exception {
+        return gson.fromJson(new String(Files.readAllBytes(docDir.resolve(path)), StandardCharsets.UTF_8), Map.class);
+    }
+}
@@ -0,0 +1,71 @@
+package one.axim.gradle.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DocumentModelTest {
+
+    @TempDir
+    Path docDir;
+
+    @Test
+    void testApisOrderedByController() {
+        DocumentModel document = new DocumentModel();
+        document.putApis("com.example.UserController", Arrays.asList(api("getUser"), api("listUsers")));
+        document.putApis("com.example.AdminController", Arrays.asList(api("getAdmin")));
+
+        List<String> ids = new ArrayList<>();
+        for (APIDefinition api : document.getApis()) {
+            ids.add(api.getId());
+        }
+        assertEquals(Arrays.asList("getAdmin", "getUser", "listUsers"), ids);
+    }
+
+    @Test
+    void testLoadDocumentDirectory() throws Exception {
+        write("api/com.example.UserController.json", "[{\"id\": \"getUser\"}]");
+        write("model/com.example.UserDto.json", "{\"name\": \"UserDto\", \"type\": \"Object\"}");
+        write("error/errors.json", "[{\"group\": \"Not Found\", \"status\": 404}]");
+        write("error/error-response.json", "{\"name\": \"ApiError\"}");
+
+        DocumentModel document = DocumentModel.load(docDir.toFile());
+
+        assertEquals(1, document.getApis().size());
+        assertEquals("getUser", document.getApis().get(0).getId());
+        assertEquals("UserDto", document.getModel("com.example.UserDto").getName());
+        assertNull(document.getModel("com.example.Missing"));
+        assertEquals(404, document.getErrorGroups().get(0).getStatus());
+        assertEquals("ApiError", document.getErrorResponse().getName());
+    }
+
+    @Test
+    void testLoadMissingDirectory() {
+        DocumentModel document = DocumentModel.load(docDir.resolve("missing").toFile());
+
+        assertTrue(document.getApis().isEmpty());
+        assertTrue(document.getModels().isEmpty());
+        assertTrue(document.getErrorGroups().isEmpty());
+        assertNull(document.getErrorResponse());
+    }
+
+    private static APIDefinition api(String id) {
+        APIDefinition api = new APIDefinition();
+        api.setId(id);
+        return api;
+    }
+
+    private void write(String path, String content) throws Exception {
+        Path file = docDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
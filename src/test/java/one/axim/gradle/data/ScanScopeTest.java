@@ -0,0 +1,24 @@
+package one.axim.gradle.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanScopeTest {
+
+    @Test
+    void testOf() {
+        assertEquals(ScanScope.CLASSPATH, ScanScope.of(null));
+        assertEquals(ScanScope.CLASSPATH, ScanScope.of(""));
+        assertEquals(ScanScope.CLASSPATH, ScanScope.of("classpath"));
+        assertEquals(ScanScope.PROJECT, ScanScope.of("project"));
+        assertEquals(ScanScope.PROJECT, ScanScope.of(" Project "));
+        assertEquals("project", ScanScope.PROJECT.toString());
+    }
+
+    @Test
+    void testUnsupportedValue() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ScanScope.of("projcet"));
+        assertTrue(e.getMessage().contains("projcet"));
+    }
+}
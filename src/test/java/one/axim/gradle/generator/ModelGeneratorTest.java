@@ -0,0 +1,74 @@
+package one.axim.gradle.generator;
+
+import one.axim.gradle.data.*;
+import one.axim.gradle.generator.data.ModelData;
+import one.axim.gradle.generator.data.ModelDefinition;
+import one.axim.gradle.utils.ModelRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModelGeneratorTest {
+
+    @TempDir
+    Path emptyModelDir;
+
+    @Test
+    void testModelsResolvedFromRepositoryWithoutModelFiles() throws Exception {
+        DocumentModel document = new DocumentModel();
+        document.putModel("com.example.OrderDto", model("com.example.OrderDto",
+                field("orderId", "Long", "java.lang.Long"),
+                field("item", "Object", "com.example.ItemDto")));
+        document.putModel("com.example.ItemDto", model("com.example.ItemDto",
+                field("name", "String", "java.lang.String")));
+
+        APIDefinition api = new APIDefinition();
+        api.setClassName("GetOrder");
+        api.setReturnClass("com.example.OrderDto");
+
+        // model/ 디렉터리가 비어 있어도 메모리 문서 모델에서 중첩 모델까지 찾는다
+        ModelDefinition definition = new ModelGenerator(ModelRepository.of(document))
+                .generatorResponseModelObject(api, emptyModelDir.toString(), LanguageType.JAVA);
+
+        List<String> names = new ArrayList<>();
+        for (ModelData model : definition.getModels()) {
+            names.add(model.getClassName());
+        }
+        assertEquals(Arrays.asList("GetOrderResponse", "GetOrderItemResponse"), names);
+        assertEquals("GetOrderItemResponse", definition.getModels().get(0).getFields().get(1).getType());
+    }
+
+    @Test
+    void testMissingModelIsSkipped() throws Exception {
+        APIDefinition api = new APIDefinition();
+        api.setClassName("GetOrder");
+        api.setReturnClass("com.example.Missing");
+
+        ModelDefinition definition = new ModelGenerator(ModelRepository.of(new DocumentModel()))
+                .generatorResponseModelObject(api, emptyModelDir.toString(), LanguageType.JAVA);
+
+        assertTrue(definition.getModels().isEmpty());
+    }
+
+    private static APIModelDefinition model(String name, APIField... fields) {
+        APIModelDefinition model = new APIModelDefinition();
+        model.setName(name);
+        model.setType("Object");
+        model.setFields(new ArrayList<>(Arrays.asList(fields)));
+        return model;
+    }
+
+    private static APIField field(String name, String type, String classPath) {
+        APIField field = new APIField();
+        field.setName(name);
+        field.setType(type);
+        field.setClassPath(classPath);
+        return field;
+    }
+}
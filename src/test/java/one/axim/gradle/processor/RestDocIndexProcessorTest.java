@@ -0,0 +1,302 @@
+package one.axim.gradle.processor;
+
+import com.google.gson.Gson;
+import one.axim.gradle.utils.JavaSourceParser;
+import one.axim.gradle.utils.MethodComment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RestDocIndexProcessorTest {
+
+    @TempDir
+    Path workDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        source("org/springframework/web/bind/annotation/RestController.java",
+                "package org.springframework.web.bind.annotation;\n"
+                        + "import java.lang.annotation.*;\n"
+                        + "@Retention(RetentionPolicy.RUNTIME) @Target(ElementType.TYPE)\n"
+                        + "public @interface RestController {}\n");
+        source("org/springframework/web/bind/annotation/GetMapping.java",
+                "package org.springframework.web.bind.annotation;\n"
+                        + "import java.lang.annotation.*;\n"
+                        + "@Retention(RetentionPolicy.RUNTIME) @Target(ElementType.METHOD)\n"
+                        + "public @interface GetMapping { String value() default \"\"; }\n");
+        source("com/example/error/ErrorCode.java",
+                "package com.example.error;\n"
+                        + "public class ErrorCode {\n"
+                        + "    public ErrorCode(String code) {}\n"
+                        + "}\n");
+        source("com/example/error/UserException.java",
+                "package com.example.error;\n"
+                        + "public class UserException extends RuntimeException {\n"
+                        + "    public static final ErrorCode USER_NOT_FOUND = new ErrorCode(\"1\");\n"
+                        + "    private static final ErrorCode HIDDEN = new ErrorCode(\"2\");\n"
+                        + "}\n");
+        source("com/example/dto/UserDto.java",
+                "package com.example.dto;\n"
+                        + "/** 사용자 정보 */\n"
+                        + "public class UserDto {\n"
+                        + "    /** 사용자 이름 */\n"
+                        + "    private String name;\n"
+                        + "    public static class Address {}\n"
+                        + "}\n");
+        source("com/example/api/UserController.java",
+                "package com.example.api;\n"
+                        + "import org.springframework.web.bind.annotation.*;\n"
+                        + "import com.example.dto.UserDto;\n"
+                        + "import java.util.List;\n"
+                        + "/** 사용자 API */\n"
+                        + "@RestController\n"
+                        + "public class UserController {\n"
+                        + "    /**\n"
+                        + "     * 사용자 목록\n"
+                        + "     * @param keyword 검색어\n"
+                        + "     * @group user\n"
+                        + "     */\n"
+                        + "    @GetMapping(\"/users\") public List<UserDto> list(String keyword) { return null; }\n"
+                        + "    /** 페이지 목록 */\n"
+                        + "    @GetMapping(\"/users/page\") public List<UserDto> list(String keyword, int page) { return null; }\n"
+                        + "    @GetMapping(\"/address\") public UserDto.Address address() { return null; }\n"
+                        + "    public void helper() {}\n"
+                        + "}\n");
+        source("com/example/api/PlainService.java",
+                "package com.example.api;\n"
+                        + "public class PlainService {}\n");
+    }
+
+    @Test
+    void testIndexContents() throws Exception {
+        RestDocIndex index = compile("-Arestdoc.errorCodeClass=com.example.error.ErrorCode");
+
+        assertEquals(RestDocIndex.VERSION, index.getVersion());
+        assertEquals(1, index.getControllers().size());
+
+        RestDocIndex.ControllerEntry controller = index.getControllers().get(0);
+        assertEquals("com.example.api.UserController", controller.getClassName());
+        assertEquals(Arrays.asList("address", "list"), controller.getMethods());
+
+        assertEquals(Collections.singletonList("com.example.error.UserException"), index.getErrorCodeHolders());
+    }
+
+    @Test
+    void testMissingErrorCodeClassSkipsHolders() throws Exception {
+        RestDocIndex index = compile("-Arestdoc.errorCodeClass=com.example.Missing");
+
+        assertEquals(1, index.getControllers().size());
+        assertTrue(index.getErrorCodeHolders().isEmpty());
+    }
+
+    @Test
+    void testIndexedClassNames() throws Exception {
+        RestDocIndex index = compile("-Arestdoc.errorCodeClass=com.example.error.ErrorCode");
+
+        assertEquals(Arrays.asList("com.example.api.UserController", "com.example.error.UserException"),
+                new ArrayList<>(index.getIndexedClassNames()));
+    }
+
+    @Test
+    void testDocSidecarReplacesSourceParsing() throws Exception {
+        compile("-Arestdoc.errorCodeClass=com.example.error.ErrorCode");
+        Path out = workDir.resolve("out");
+        assertTrue(Files.exists(out.resolve("com/example/api/UserController" + ClassDocs.SUFFIX)));
+        assertTrue(Files.exists(out.resolve("com/example/dto/UserDto$Address" + ClassDocs.SUFFIX)));
+
+        // 클래스 파일까지 생성하여 클래스로더에서 사이드카를 찾는다
+        compileClasses();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{out.toUri().toURL()}, null)) {
+            Class<?> controller = loader.loadClass("com.example.api.UserController");
+            JavaSourceParser parser = JavaSourceParser.fromSidecar(controller);
+            assertNotNull(parser);
+            assertTrue(parser.isSidecar());
+            assertEquals("사용자 API", parser.getClassComment());
+
+            Method list = controller.getMethod("list", String.class);
+            MethodComment comment = parser.getMethodComment(list);
+            assertEquals("사용자 목록", comment.getDescription());
+            assertTrue(comment.getTags().stream().anyMatch(t -> "group".equals(t.getTag()) && "user".equals(t.getValue())));
+            assertEquals("keyword", parser.getMethodParameterName(list, 0));
+
+            Method page = controller.getMethod("list", String.class, int.class);
+            assertEquals("페이지 목록", parser.getMethodComment(page).getDescription());
+            assertEquals("page", parser.getMethodParameterName(page, 1));
+
+            JavaSourceParser dto = JavaSourceParser.fromSidecar(loader.loadClass("com.example.dto.UserDto"));
+            assertEquals("사용자 정보", dto.getClassComment());
+            assertEquals("사용자 이름", dto.getFieldComment("name"));
+            assertNull(dto.getFieldComment("missing"));
+
+            assertNull(JavaSourceParser.fromSidecar(String.class));
+        }
+    }
+
+    @Test
+    void testIncrementalCompileSkipsTypesWithoutSource() throws Exception {
+        compileClasses();
+        Path out = workDir.resolve("out");
+        Path incremental = workDir.resolve("incremental");
+        Files.createDirectories(incremental);
+
+        // Gradle 증분 컴파일처럼 변경된 컨트롤러만 소스로, 나머지는 클래스 이름으로 프로세서에 전달한다
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(
+                    workDir.resolve("src/com/example/api/UserController.java").toFile());
+            List<String> args = Arrays.asList("-proc:only", "-encoding", "UTF-8", "-d", incremental.toString(),
+                    "-classpath", out.toString(), "-Arestdoc.errorCodeClass=com.example.error.ErrorCode");
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, args,
+                    Arrays.asList("com.example.dto.UserDto", "com.example.error.UserException"), units);
+            task.setProcessors(Collections.singletonList(new RestDocIndexProcessor()));
+            assertTrue(task.call(), "compilation should succeed");
+        }
+
+        assertTrue(Files.exists(incremental.resolve("com/example/api/UserController" + ClassDocs.SUFFIX)));
+        // 클래스 파일에서 읽은 타입은 Javadoc이 없으므로 빈 사이드카로 덮어쓰지 않는다
+        assertFalse(Files.exists(incremental.resolve("com/example/dto/UserDto" + ClassDocs.SUFFIX)));
+        assertFalse(Files.exists(incremental.resolve("com/example/error/UserException" + ClassDocs.SUFFIX)));
+
+        RestDocIndex index = new Gson().fromJson(
+                Files.readString(incremental.resolve(RestDocIndex.RESOURCE_PATH), StandardCharsets.UTF_8), RestDocIndex.class);
+        assertEquals(1, index.getControllers().size());
+        assertEquals(Collections.singletonList("com.example.error.UserException"), index.getErrorCodeHolders());
+    }
+
+    @Test
+    void testSidecarsWrittenThroughWrappedEnvironment() throws Exception {
+        compile(new WrappingProcessor(new RestDocIndexProcessor()),
+                "-Arestdoc.errorCodeClass=com.example.error.ErrorCode");
+
+        Path sidecar = workDir.resolve("out/com/example/api/UserController" + ClassDocs.SUFFIX);
+        assertTrue(Files.exists(sidecar), "sidecar should be written when the environment is wrapped");
+    }
+
+    // --- helpers ---
+
+    /**
+     * Gradle 증분 프로세서처럼 {@code delegate} 필드로 {@link ProcessingEnvironment}를 감싼다.
+     */
+    private static class WrappingProcessor extends AbstractProcessor {
+        private final Processor processor;
+
+        WrappingProcessor(Processor processor) {
+            this.processor = processor;
+        }
+
+        @Override
+        public synchronized void init(ProcessingEnvironment env) {
+            super.init(env);
+            processor.init(new WrappedEnvironment(env));
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return processor.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return processor.getSupportedOptions();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return processor.getSupportedSourceVersion();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return processor.process(annotations, roundEnv);
+        }
+    }
+
+    private static class WrappedEnvironment implements ProcessingEnvironment {
+        private final ProcessingEnvironment delegate;
+
+        WrappedEnvironment(ProcessingEnvironment delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override public Map<String, String> getOptions() { return delegate.getOptions(); }
+        @Override public Messager getMessager() { return delegate.getMessager(); }
+        @Override public Filer getFiler() { return delegate.getFiler(); }
+        @Override public Elements getElementUtils() { return delegate.getElementUtils(); }
+        @Override public Types getTypeUtils() { return delegate.getTypeUtils(); }
+        @Override public SourceVersion getSourceVersion() { return delegate.getSourceVersion(); }
+        @Override public Locale getLocale() { return delegate.getLocale(); }
+    }
+
+    private void compileClasses() throws Exception {
+        Path classes = workDir.resolve("out");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<File> files = new ArrayList<>();
+            Files.walk(workDir.resolve("src")).filter(p -> p.toString().endsWith(".java")).forEach(p -> files.add(p.toFile()));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-proc:none", "-encoding", "UTF-8", "-d", classes.toString()), null,
+                    fileManager.getJavaFileObjectsFromFiles(files));
+            assertTrue(task.call(), "compilation should succeed");
+        }
+    }
+
+    private RestDocIndex compile(String... options) throws Exception {
+        return compile(new RestDocIndexProcessor(), options);
+    }
+
+    private RestDocIndex compile(Processor processor, String... options) throws Exception {
+        Path out = workDir.resolve("out");
+        Files.createDirectories(out);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<File> files = new ArrayList<>();
+            Files.walk(workDir.resolve("src")).filter(p -> p.toString().endsWith(".java")).forEach(p -> files.add(p.toFile()));
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+
+            List<String> args = new ArrayList<>(Arrays.asList("-proc:only", "-encoding", "UTF-8", "-d", out.toString()));
+            args.addAll(Arrays.asList(options));
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, args, null, units);
+            task.setProcessors(Collections.singletonList(processor));
+            assertTrue(task.call(), "compilation should succeed");
+        }
+
+        Path indexFile = out.resolve(RestDocIndex.RESOURCE_PATH);
+        assertTrue(Files.exists(indexFile), "index should be written");
+        return new Gson().fromJson(Files.readString(indexFile, StandardCharsets.UTF_8), RestDocIndex.class);
+    }
+
+    private void source(String path, String content) throws Exception {
+        Path file = workDir.resolve("src").resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
@@ -53,6 +53,17 @@ public class RestMetaGeneratorIntegrationTest {
                 buildResult.task(":restMetaGenerator").getOutcome());
     }
 
+    @Test
+    void testSecondRunIsUpToDate() {
+        BuildResult result = GradleRunner.create()
+                .withProjectDir(tempDir.toFile())
+                .withArguments("restMetaGenerator", "--stacktrace")
+                .withPluginClasspath()
+                .build();
+
+        assertEquals(TaskOutcome.UP_TO_DATE, result.task(":restMetaGenerator").getOutcome());
+    }
+
     @Test
     void testApiJsonGenerated() {
         Path apiDir = tempDir.resolve("build/docs/api");
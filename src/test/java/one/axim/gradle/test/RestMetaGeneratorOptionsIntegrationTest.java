@@ -0,0 +1,342 @@
+package one.axim.gradle.test;
+
+import com.google.gson.Gson;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DSL 옵션별 시나리오를 실제 {@code restMetaGenerator} 태스크로 검사한다.
+ *
+ * <p>테스트마다 fixture 프로젝트를 별도 디렉토리에 복사하고 {@code build.gradle}에 옵션을 덧붙이므로,
+ * 출력을 지우거나 소스를 바꾸는 테스트가 서로 영향을 주지 않는다.
+ */
+public class RestMetaGeneratorOptionsIntegrationTest {
+
+    private static final Gson gson = new Gson();
+
+    @TempDir
+    Path projectDir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIncrementalRegeneratesModelWhenFieldTypeChanges() throws Exception {
+        setUpProject("incremental = true");
+        writeSource("com/example/dto/Tier.java",
+                "package com.example.dto;\npublic class Tier {\n    private String name;\n}\n");
+        replaceInSource("com/example/dto/UserDto.java",
+                "private String name;", "private String name;\n\n    private Tier tier;");
+
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+        assertEquals("Object", fieldOf(readModel("UserDto"), "tier").get("type"));
+
+        // UserDto는 그대로 두고 참조 타입만 enum으로 바꾼다
+        writeSource("com/example/dto/Tier.java",
+                "package com.example.dto;\npublic enum Tier { GOLD, SILVER }\n");
+
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+        assertEquals("Enum", fieldOf(readModel("UserDto"), "tier").get("type"),
+                "UserDto should be regenerated when a field type changes");
+    }
+
+    @Test
+    void testOutputsRestoredFromBuildCache() throws Exception {
+        setUpProject();
+        // 캐시에 저장되도록 한 번 실행한 뒤, 출력을 지우면 캐시에서 복원되어야 한다
+        assertEquals(TaskOutcome.SUCCESS,
+                run("restMetaGenerator", "--build-cache").task(":restMetaGenerator").getOutcome());
+
+        deleteDirectory(projectDir.resolve("build/docs"));
+        BuildResult result = run("restMetaGenerator", "--build-cache");
+
+        assertEquals(TaskOutcome.FROM_CACHE, result.task(":restMetaGenerator").getOutcome());
+        assertTrue(Files.isDirectory(projectDir.resolve("build/docs/api")), "api directory should be restored");
+    }
+
+    @Test
+    void testInvalidOptionFailsTask() throws Exception {
+        setUpProject("scanScope = 'everything'");
+
+        BuildResult result = runner("restMetaGenerator").buildAndFail();
+
+        assertEquals(TaskOutcome.FAILED, result.task(":restMetaGenerator").getOutcome());
+        assertTrue(result.getOutput().contains("Unsupported scanScope 'everything'"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIncrementalReusesUnchangedOutputs() throws Exception {
+        setUpProject("incremental = true");
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+        assertTrue(Files.exists(projectDir.resolve("build/docs/.restdoc-manifest.json")), "manifest should be written");
+
+        File statusModel = findFile(projectDir.resolve("build/docs/model"), "UserStatus");
+        assertNotNull(statusModel);
+        long statusModified = statusModel.lastModified();
+
+        // 컨트롤러 Javadoc만 바꾸면 해당 api 파일만 다시 생성되고 모델 파일은 그대로 남는다
+        replaceInSource("com/example/SampleController.java",
+                "     * 사용자 목록 조회\n", "     * 전체 사용자 목록 조회\n");
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+
+        File api = findFile(projectDir.resolve("build/docs/api"), "SampleController");
+        assertNotNull(api);
+        assertTrue(gson.fromJson(Files.readString(api.toPath()), Object.class).toString().contains("전체 사용자 목록 조회"),
+                "changed controller should be regenerated");
+        assertEquals(statusModified, statusModel.lastModified(), "unchanged model should not be rewritten");
+
+        Map<String, Object> counters = (Map<String, Object>) readMetrics().get("counters");
+        assertTrue(((Number) counters.get("outputFilesUnchanged")).intValue() > 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testParallelismGeneratesAllControllers() throws Exception {
+        setUpProject("parallelism = 4");
+
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+
+        File api = findFile(projectDir.resolve("build/docs/api"), "SampleController");
+        assertNotNull(api, "SampleController API JSON should exist");
+        List<Map<String, Object>> apis = gson.fromJson(Files.readString(api.toPath()), List.class);
+        assertEquals(apis.size(), apis.stream().map(a -> a.get("id")).distinct().count(), "operation ids should be unique");
+    }
+
+    @Test
+    void testParallelOutputMatchesSerialOutput() throws Exception {
+        setUpProject();
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+        Map<String, byte[]> serial = readTree(projectDir.resolve("build/docs"));
+
+        // parallelism은 @Internal이므로 다시 실행하도록 강제하고, 이전 출력이 남지 않도록 지운다
+        Files.writeString(projectDir.resolve("build.gradle"), "\nrestMetaGenerator {\n    parallelism = 4\n}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        deleteDirectory(projectDir.resolve("build/docs"));
+        assertEquals(TaskOutcome.SUCCESS,
+                run("restMetaGenerator", "--rerun-tasks").task(":restMetaGenerator").getOutcome());
+        Map<String, byte[]> parallel = readTree(projectDir.resolve("build/docs"));
+
+        assertEquals(serial.keySet(), parallel.keySet(), "parallel run should write the same files");
+        for (Map.Entry<String, byte[]> e : serial.entrySet()) {
+            assertArrayEquals(e.getValue(), parallel.get(e.getKey()), e.getKey() + " should match byte for byte");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCompileIndexWritesIndexAndSidecarsOutsideJar() throws Exception {
+        setUpProject("compileIndex = true");
+
+        BuildResult result = run("restMetaGenerator", "jar");
+        assertEquals(TaskOutcome.SUCCESS, result.task(":restMetaGenerator").getOutcome());
+
+        Path classes = projectDir.resolve("build/classes/java/main");
+        assertTrue(Files.exists(classes.resolve("META-INF/restdoc/index.json")), "compile index should be written");
+        assertTrue(Files.exists(classes.resolve("com/example/SampleController.restdoc.json")), "sidecar should be written");
+        assertNotNull(findFile(projectDir.resolve("build/docs/api"), "SampleController"));
+
+        Map<String, Object> counters = (Map<String, Object>) readMetrics().get("counters");
+        assertTrue(((Number) counters.get("sidecarsRead")).intValue() > 0, "sidecars should replace source parsing");
+
+        File jar = projectDir.resolve("build/libs/test-project.jar").toFile();
+        assertTrue(jar.exists(), "jar should be built");
+        try (ZipFile zip = new ZipFile(jar)) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                assertFalse(name.endsWith(".restdoc.json") || name.startsWith("META-INF/restdoc/"),
+                        "jar should not contain " + name);
+            }
+        }
+    }
+
+    @Test
+    void testProjectScanScope() throws Exception {
+        setUpProject("scanScope = 'project'");
+
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+
+        assertNotNull(findFile(projectDir.resolve("build/docs/api"), "SampleController"),
+                "controllers in the project output should still be documented");
+        assertNotNull(findFile(projectDir.resolve("build/docs/model"), "UserDto"));
+        assertTrue(Files.exists(projectDir.resolve("build/docs/error/errors.json")), "project error codes should be scanned");
+    }
+
+    @Test
+    void testSmileDocumentFormat() throws Exception {
+        setUpProject("documentFormat = 'smile'");
+
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+
+        File[] apis = projectDir.resolve("build/docs/api").toFile().listFiles();
+        assertNotNull(apis);
+        assertTrue(apis.length > 0);
+        for (File api : apis) {
+            assertTrue(api.getName().endsWith(".smile"), "api file should be Smile encoded: " + api.getName());
+        }
+        assertTrue(Files.exists(projectDir.resolve("build/docs/spec-bundle.smile")));
+        assertFalse(Files.exists(projectDir.resolve("build/docs/spec-bundle.json")));
+        // OpenAPI 스펙은 형식과 무관하게 JSON으로 기록된다
+        assertTrue(Files.exists(projectDir.resolve("build/docs/openapi.json")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testShardedBundle() throws Exception {
+        setUpProject("shardedBundle = true");
+
+        assertEquals(TaskOutcome.SUCCESS, run("restMetaGenerator").task(":restMetaGenerator").getOutcome());
+
+        Path shardDir = projectDir.resolve("build/docs/spec-bundle");
+        assertFalse(Files.exists(projectDir.resolve("build/docs/spec-bundle.json")), "single bundle should not be written");
+        Map<String, Object> index = gson.fromJson(Files.readString(shardDir.resolve("index.json")), Map.class);
+        List<Map<String, Object>> groups = (List<Map<String, Object>>) index.get("groups");
+        assertFalse(groups.isEmpty());
+        for (Map<String, Object> group : groups) {
+            assertTrue(Files.exists(shardDir.resolve((String) group.get("shard"))),
+                    "shard should exist for group " + group.get("name"));
+        }
+    }
+
+    // --- helpers ---
+
+    /** fixture 프로젝트를 복사하고 {@code restMetaGenerator} 블록을 하나 더 덧붙인다. */
+    private void setUpProject(String... options) throws Exception {
+        Path source = Paths.get(RestMetaGeneratorOptionsIntegrationTest.class.getClassLoader()
+                .getResource("test-project").toURI());
+        copyDirectory(source, projectDir);
+
+        if (options.length > 0) {
+            StringBuilder block = new StringBuilder("\nrestMetaGenerator {\n");
+            for (String option : options) {
+                block.append("    ").append(option).append('\n');
+            }
+            block.append("}\n");
+            Files.writeString(projectDir.resolve("build.gradle"), block.toString(), StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+        }
+    }
+
+    private BuildResult run(String... arguments) {
+        return runner(arguments).build();
+    }
+
+    private GradleRunner runner(String... arguments) {
+        List<String> args = new ArrayList<>(Arrays.asList(arguments));
+        args.add("--stacktrace");
+        return GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withArguments(args)
+                .withPluginClasspath()
+                .forwardOutput();
+    }
+
+    private void writeSource(String path, String content) throws IOException {
+        Path file = projectDir.resolve("src/main/java").resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private void replaceInSource(String path, String target, String replacement) throws IOException {
+        Path file = projectDir.resolve("src/main/java").resolve(path);
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(content.contains(target), path + " should contain " + target);
+        Files.writeString(file, content.replace(target, replacement), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readModel(String nameContains) throws IOException {
+        File modelFile = findFile(projectDir.resolve("build/docs/model"), nameContains);
+        assertNotNull(modelFile, nameContains + " model JSON should exist");
+        return gson.fromJson(Files.readString(modelFile.toPath()), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readMetrics() throws IOException {
+        return gson.fromJson(Files.readString(projectDir.resolve("build/reports/restdoc/metrics.json")), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> fieldOf(Map<String, Object> model, String name) {
+        for (Map<String, Object> field : (List<Map<String, Object>>) model.get("fields")) {
+            if (name.equals(field.get("name"))) return field;
+        }
+        fail("field " + name + " should exist in " + model.get("name"));
+        return null;
+    }
+
+    /** 디렉토리 아래 모든 파일의 상대 경로와 내용. */
+    private static Map<String, byte[]> readTree(Path dir) throws IOException {
+        Map<String, byte[]> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                files.put(dir.relativize(file).toString(), Files.readAllBytes(file));
+            }
+        }
+        assertFalse(files.isEmpty(), dir + " should contain generated files");
+        return files;
+    }
+
+    private static File findFile(Path dir, String nameContains) {
+        File[] files = dir.toFile().listFiles();
+        if (files == null) return null;
+        for (File f : files) {
+            if (f.getName().contains(nameContains) && f.getName().endsWith(".json")) {
+                return f;
+            }
+        }
+        return null;
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.REPLACE_EXISTING);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void deleteDirectory(Path dir) throws IOException {
+        if (!Files.exists(dir)) return;
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path d, IOException exc) throws IOException {
+                Files.delete(d);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
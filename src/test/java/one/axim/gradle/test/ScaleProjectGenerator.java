@@ -0,0 +1,507 @@
+package one.axim.gradle.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 규모 테스트용 Spring 스타일 Gradle 프로젝트 생성기.
+ *
+ * <p>컨트롤러 수, DTO 그래프의 팬아웃/깊이, enum 수, ErrorCode 보유 예외 클래스 수, 모듈 분할을 지정하여
+ * TestKit으로 컴파일하고 {@code restMetaGenerator}를 실행할 수 있는 프로젝트를 만든다.
+ *
+ * <ul>
+ *   <li>루트 프로젝트 — 플러그인 적용, {@code com.scale.api} 컨트롤러</li>
+ *   <li>{@code module-0} … {@code module-(n-1)} — DTO 레벨을 순서대로 나누어 갖는 {@code java-library} 모듈.
+ *       레벨 {@code L}의 DTO는 레벨 {@code L+1}의 DTO를 참조하므로 각 모듈은 다음 모듈을 {@code api}로 의존한다.
+ *       공통 타입(래퍼, enum, 에러 코드)은 마지막 모듈에 둔다.</li>
+ * </ul>
+ *
+ * <p>같은 설정이면 항상 같은 소스를 만든다.
+ */
+public class ScaleProjectGenerator {
+
+    static final String BASE_PACKAGE = "com.scale";
+
+    private int controllers = 20;
+    private int methodsPerController = 5;
+    private int dtos = 120;
+    private int fanOut = 3;
+    private int depth = 4;
+    private int wrapperDepth = 2;
+    private int enums = 10;
+    private int errorHolders = 10;
+    private int errorCodesPerHolder = 5;
+    private int modules = 3;
+
+    /**
+     * 시스템 프로퍼티 {@code restdoc.scale.<이름>}으로 기본 형태를 덮어쓴 생성기.
+     * (예: {@code -Drestdoc.scale.controllers=600 -Drestdoc.scale.dtos=4000})
+     */
+    public static ScaleProjectGenerator fromSystemProperties() {
+        ScaleProjectGenerator generator = new ScaleProjectGenerator();
+        generator.controllers = Integer.getInteger("restdoc.scale.controllers", generator.controllers);
+        generator.methodsPerController = Integer.getInteger("restdoc.scale.methodsPerController", generator.methodsPerController);
+        generator.dtos = Integer.getInteger("restdoc.scale.dtos", generator.dtos);
+        generator.fanOut = Integer.getInteger("restdoc.scale.fanOut", generator.fanOut);
+        generator.depth = Integer.getInteger("restdoc.scale.depth", generator.depth);
+        generator.wrapperDepth = Integer.getInteger("restdoc.scale.wrapperDepth", generator.wrapperDepth);
+        generator.enums = Integer.getInteger("restdoc.scale.enums", generator.enums);
+        generator.errorHolders = Integer.getInteger("restdoc.scale.errorHolders", generator.errorHolders);
+        generator.errorCodesPerHolder = Integer.getInteger("restdoc.scale.errorCodesPerHolder", generator.errorCodesPerHolder);
+        generator.modules = Integer.getInteger("restdoc.scale.modules", generator.modules);
+        return generator;
+    }
+
+    public ScaleProjectGenerator controllers(int controllers) {
+        this.controllers = controllers;
+        return this;
+    }
+
+    public ScaleProjectGenerator methodsPerController(int methodsPerController) {
+        this.methodsPerController = methodsPerController;
+        return this;
+    }
+
+    public ScaleProjectGenerator dtos(int dtos) {
+        this.dtos = dtos;
+        return this;
+    }
+
+    /**
+     * DTO 하나가 참조하는 다음 레벨 DTO 수.
+     */
+    public ScaleProjectGenerator fanOut(int fanOut) {
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * DTO 그래프의 레벨 수. 마지막 레벨의 DTO는 enum만 참조한다.
+     */
+    public ScaleProjectGenerator depth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * 응답 타입에서 {@code ApiResult} 안에 중첩되는 {@code Envelope<T>}의 깊이.
+     */
+    public ScaleProjectGenerator wrapperDepth(int wrapperDepth) {
+        this.wrapperDepth = wrapperDepth;
+        return this;
+    }
+
+    public ScaleProjectGenerator enums(int enums) {
+        this.enums = enums;
+        return this;
+    }
+
+    /**
+     * {@code ErrorCode} 상수를 가진 예외 클래스 수.
+     */
+    public ScaleProjectGenerator errorHolders(int errorHolders) {
+        this.errorHolders = errorHolders;
+        return this;
+    }
+
+    public ScaleProjectGenerator errorCodesPerHolder(int errorCodesPerHolder) {
+        this.errorCodesPerHolder = errorCodesPerHolder;
+        return this;
+    }
+
+    /**
+     * DTO를 나누어 담을 하위 모듈 수. 0이면 모든 소스를 루트 프로젝트에 둔다.
+     */
+    public ScaleProjectGenerator modules(int modules) {
+        this.modules = modules;
+        return this;
+    }
+
+    public int getControllers() {
+        return controllers;
+    }
+
+    public int getMethodsPerController() {
+        return methodsPerController;
+    }
+
+    public int getDtos() {
+        return dtos;
+    }
+
+    public int getEnums() {
+        return enums;
+    }
+
+    public int getErrorHolders() {
+        return errorHolders;
+    }
+
+    public int getErrorCodesPerHolder() {
+        return errorCodesPerHolder;
+    }
+
+    public int getModules() {
+        return modules;
+    }
+
+    @Override
+    public String toString() {
+        return "controllers=" + controllers + ", methods=" + methodsPerController + ", dtos=" + dtos
+                + ", fanOut=" + fanOut + ", depth=" + depth + ", wrapperDepth=" + wrapperDepth + ", enums=" + enums
+                + ", errorHolders=" + errorHolders + "x" + errorCodesPerHolder + ", modules=" + modules;
+    }
+
+    /**
+     * {@code rootDir}에 프로젝트를 생성한다.
+     *
+     * @param rootDir    프로젝트 디렉토리
+     * @param gradleArgs 생성된 {@code gradle.properties}의 {@code org.gradle.jvmargs} (예: {@code -Xmx1g}), null이면 생략
+     */
+    public void generate(Path rootDir, String gradleArgs) throws IOException {
+        Files.createDirectories(rootDir);
+
+        StringBuilder settings = new StringBuilder("rootProject.name = 'scale-project'\n");
+        for (int m = 0; m < modules; m++) {
+            settings.append("include '").append(moduleName(m)).append("'\n");
+        }
+        write(rootDir.resolve("settings.gradle"), settings.toString());
+        if (gradleArgs != null) {
+            write(rootDir.resolve("gradle.properties"), "org.gradle.jvmargs=" + gradleArgs + "\n");
+        }
+        write(rootDir.resolve("build.gradle"), rootBuildScript());
+        for (int m = 0; m < modules; m++) {
+            write(rootDir.resolve(moduleName(m)).resolve("build.gradle"), moduleBuildScript(m));
+        }
+
+        Path commonRoot = sourceRoot(rootDir, modules - 1);
+        writeClass(commonRoot, "common", "ApiResult", apiResult());
+        writeClass(commonRoot, "common", "Envelope", envelope());
+        writeClass(commonRoot, "dto", "BaseDto", baseDto());
+        writeClass(commonRoot, "error", "ErrorCode", "public record ErrorCode(String code, String messageKey) {}\n");
+        writeClass(commonRoot, "error", "ScaleException", scaleException());
+        for (int e = 0; e < enums; e++) {
+            writeClass(commonRoot, "type", enumName(e), enumSource(e));
+        }
+        for (int h = 0; h < errorHolders; h++) {
+            writeClass(commonRoot, "error", errorHolderName(h), errorHolder(h));
+        }
+        for (int d = 0; d < dtos; d++) {
+            writeClass(sourceRoot(rootDir, moduleOfLevel(level(d))), "dto", dtoName(d), dto(d));
+        }
+        for (int c = 0; c < controllers; c++) {
+            writeClass(rootDir.resolve("src/main/java"), "api", "Controller" + c, controller(c));
+        }
+    }
+
+    // --- build scripts ---
+
+    private String rootBuildScript() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("plugins {\n");
+        sb.append("    id 'java'\n");
+        sb.append("    id 'gradle-restdoc-generator'\n");
+        sb.append("}\n\n");
+        sb.append("allprojects {\n");
+        sb.append("    repositories {\n");
+        sb.append("        mavenCentral()\n");
+        sb.append("    }\n");
+        sb.append("}\n\n");
+        sb.append("dependencies {\n");
+        sb.append("    implementation 'org.springframework.boot:spring-boot-starter-web:3.2.0'\n");
+        sb.append("    implementation 'org.springframework.data:spring-data-commons:3.2.0'\n");
+        if (modules > 0) {
+            sb.append("    implementation project(':").append(moduleName(0)).append("')\n");
+        }
+        sb.append("}\n\n");
+        sb.append("restMetaGenerator {\n");
+        sb.append("    documentPath = 'build/docs'\n");
+        sb.append("    basePackage = '").append(BASE_PACKAGE).append("'\n");
+        sb.append("    serviceId = 'scale-service'\n");
+        sb.append("    serviceName = 'Scale Service'\n");
+        sb.append("    apiServerUrl = 'http://localhost:8080'\n");
+        sb.append("    serviceVersion = 'v1'\n");
+        sb.append("    errorCodeClass = '").append(BASE_PACKAGE).append(".error.ErrorCode'\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String moduleBuildScript(int m) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("plugins {\n");
+        sb.append("    id 'java-library'\n");
+        sb.append("}\n\n");
+        sb.append("dependencies {\n");
+        sb.append("    api 'org.springframework:spring-web:6.1.1'\n");
+        if (m + 1 < modules) {
+            sb.append("    api project(':").append(moduleName(m + 1)).append("')\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    // --- sources ---
+
+    private String controller(int c) {
+        StringBuilder imports = new StringBuilder();
+        imports.append("import ").append(BASE_PACKAGE).append(".common.ApiResult;\n");
+        imports.append("import ").append(BASE_PACKAGE).append(".common.Envelope;\n");
+        imports.append("import ").append(BASE_PACKAGE).append(".dto.*;\n");
+        imports.append("import org.springframework.data.domain.Page;\n");
+        imports.append("import org.springframework.data.domain.Pageable;\n");
+        imports.append("import org.springframework.web.bind.annotation.*;\n\n");
+        imports.append("import java.util.List;\n\n");
+
+        StringBuilder sb = new StringBuilder(imports);
+        sb.append("/**\n * 규모 테스트 컨트롤러 ").append(c).append("\n */\n");
+        sb.append("@RestController\n");
+        sb.append("@RequestMapping(\"/api/resources").append(c).append("\")\n");
+        sb.append("public class Controller").append(c).append(" {\n");
+        for (int m = 0; m < methodsPerController; m++) {
+            int index = c * methodsPerController + m;
+            String dto = dtoName(rootDto(index));
+            String error = errorHolders > 0 ? errorHolderName(index % errorHolders) : null;
+            sb.append('\n');
+            switch (m % 5) {
+                case 0:
+                    method(sb, "단건 조회 " + index, error, "@param id ID");
+                    sb.append("    @GetMapping(name = \"단건 조회 ").append(index).append("\", value = \"/").append(m).append("/{id}\")\n");
+                    sb.append("    public ApiResult<").append(dto).append("> get").append(m).append("(@PathVariable(\"id\") Long id) {\n");
+                    break;
+                case 1:
+                    method(sb, "목록 조회 " + index, error, "@param keyword 검색어");
+                    sb.append("    @GetMapping(name = \"목록 조회 ").append(index).append("\", value = \"/").append(m).append("\")\n");
+                    sb.append("    public ApiResult<List<").append(dto).append(">> list").append(m)
+                            .append("(@RequestParam(value = \"keyword\", required = false) String keyword) {\n");
+                    break;
+                case 2:
+                    method(sb, "페이징 조회 " + index, error, "@param pageable 페이지 정보");
+                    sb.append("    @GetMapping(name = \"페이징 조회 ").append(index).append("\", value = \"/").append(m).append("/paged\")\n");
+                    sb.append("    public ApiResult<Page<").append(dto).append(">> page").append(m).append("(Pageable pageable) {\n");
+                    break;
+                case 3:
+                    method(sb, "등록 " + index, error, "@param body 요청 본문");
+                    sb.append("    @PostMapping(name = \"등록 ").append(index).append("\", value = \"/").append(m).append("\")\n");
+                    sb.append("    public ApiResult<").append(dto).append("> create").append(m)
+                            .append("(@RequestBody ").append(dtoName(rootDto(index + 1))).append(" body) {\n");
+                    break;
+                default:
+                    method(sb, "래핑 조회 " + index, error, "@param id ID");
+                    sb.append("    @GetMapping(name = \"래핑 조회 ").append(index).append("\", value = \"/").append(m).append("/{id}/wrapped\")\n");
+                    sb.append("    public ApiResult<").append(envelope("List<" + dto + ">")).append("> wrapped").append(m)
+                            .append("(@PathVariable(\"id\") Long id) {\n");
+                    break;
+            }
+            sb.append("        return null;\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static void method(StringBuilder sb, String description, String error, String param) {
+        sb.append("    /**\n");
+        sb.append("     * ").append(description).append("\n");
+        sb.append("     *\n");
+        sb.append("     * ").append(param).append("\n");
+        sb.append("     * @return 결과\n");
+        if (error != null) {
+            sb.append("     * @error ").append(error).append("\n");
+        }
+        sb.append("     */\n");
+    }
+
+    private String envelope(String type) {
+        String result = type;
+        for (int i = 0; i < wrapperDepth; i++) {
+            result = "Envelope<" + result + ">";
+        }
+        return result;
+    }
+
+    private String dto(int d) {
+        int level = level(d);
+        StringBuilder sb = new StringBuilder();
+        sb.append("import java.time.LocalDateTime;\n");
+        sb.append("import java.util.List;\n");
+        sb.append("import java.util.Map;\n\n");
+        sb.append("/**\n * DTO ").append(d).append(" (레벨 ").append(level).append(")\n */\n");
+        sb.append("public class ").append(dtoName(d)).append(" extends BaseDto {\n");
+        field(sb, "String", "name", "이름");
+        field(sb, "LocalDateTime", "updatedAt", "수정 시각");
+
+        if (level + 1 < levels()) {
+            for (int k = 0; k < fanOut; k++) {
+                String child = dtoName(child(d, k));
+                switch (k % 3) {
+                    case 0 -> field(sb, child, "child" + k, "하위 모델 " + k);
+                    case 1 -> field(sb, "List<" + child + ">", "children" + k, "하위 모델 목록 " + k);
+                    default -> field(sb, "Map<String, " + child + ">", "childMap" + k, "하위 모델 맵 " + k);
+                }
+            }
+        } else if (enums > 0) {
+            field(sb, BASE_PACKAGE + ".type." + enumName(d % enums), "status", "상태");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String enumSource(int e) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("/**\n * 상태 ").append(e).append("\n */\n");
+        sb.append("public enum ").append(enumName(e)).append(" {\n");
+        sb.append("    /** 활성 */\n    ACTIVE,\n");
+        sb.append("    /** 비활성 */\n    INACTIVE,\n");
+        sb.append("    /** 삭제 */\n    DELETED\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String errorHolder(int h) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("import org.springframework.http.HttpStatus;\n\n");
+        sb.append("public class ").append(errorHolderName(h)).append(" extends ScaleException {\n");
+        for (int i = 0; i < errorCodesPerHolder; i++) {
+            sb.append("    public static final ErrorCode ERROR_").append(i).append(" = new ErrorCode(\"E")
+                    .append(h).append('_').append(i).append("\", \"error.").append(h).append('.').append(i).append("\");\n");
+        }
+        sb.append("\n    public ").append(errorHolderName(h)).append("(ErrorCode error) {\n");
+        sb.append("        super(HttpStatus.").append(h % 2 == 0 ? "NOT_FOUND" : "BAD_REQUEST").append(", error);\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String scaleException() {
+        return "import org.springframework.http.HttpStatus;\n\n"
+                + "public class ScaleException extends RuntimeException {\n"
+                + "    protected final HttpStatus status;\n"
+                + "    protected String code;\n\n"
+                + "    public ScaleException(HttpStatus status, ErrorCode error) {\n"
+                + "        this.status = status;\n"
+                + "        this.code = error.code();\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private static String apiResult() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("/**\n * 공통 API 응답 래퍼\n */\n");
+        sb.append("public class ApiResult<T> {\n");
+        field(sb, "int", "code", "응답 코드");
+        field(sb, "String", "message", "응답 메시지");
+        field(sb, "T", "data", "응답 데이터");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String envelope() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("/**\n * 중첩 제네릭 래퍼\n */\n");
+        sb.append("public class Envelope<T> {\n");
+        field(sb, "String", "traceId", "추적 ID");
+        field(sb, "T", "content", "내용");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String baseDto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("import java.time.LocalDateTime;\n\n");
+        sb.append("/**\n * 공통 DTO\n */\n");
+        sb.append("public abstract class BaseDto {\n");
+        field(sb, "Long", "id", "ID");
+        field(sb, "LocalDateTime", "createdAt", "생성 시각");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Javadoc이 달린 private 필드와 getter/setter.
+     */
+    private static void field(StringBuilder sb, String type, String name, String description) {
+        String property = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        sb.append("\n    /**\n     * ").append(description).append("\n     */\n");
+        sb.append("    private ").append(type).append(' ').append(name).append(";\n\n");
+        sb.append("    public ").append(type).append(" get").append(property).append("() {\n");
+        sb.append("        return ").append(name).append(";\n");
+        sb.append("    }\n\n");
+        sb.append("    public void set").append(property).append('(').append(type).append(' ').append(name).append(") {\n");
+        sb.append("        this.").append(name).append(" = ").append(name).append(";\n");
+        sb.append("    }\n");
+    }
+
+    // --- graph shape ---
+
+    private int levelSize() {
+        return Math.max(1, (dtos + depth - 1) / depth);
+    }
+
+    /**
+     * 실제 레벨 수. DTO가 {@code depth}보다 적으면 줄어든다.
+     */
+    private int levels() {
+        return (dtos + levelSize() - 1) / levelSize();
+    }
+
+    private int level(int d) {
+        return d / levelSize();
+    }
+
+    /**
+     * 레벨 0의 DTO. 컨트롤러 메서드가 순서대로 돌아가며 참조한다.
+     */
+    private int rootDto(int index) {
+        return index % Math.min(levelSize(), dtos);
+    }
+
+    /**
+     * {@code d}의 {@code k}번째 하위 DTO (다음 레벨).
+     */
+    private int child(int d, int k) {
+        int next = (level(d) + 1) * levelSize();
+        int size = Math.min(levelSize(), dtos - next);
+        return next + (d * fanOut + k) % size;
+    }
+
+    private int moduleOfLevel(int level) {
+        if (modules == 0) return -1;
+        return Math.min(level * modules / levels(), modules - 1);
+    }
+
+    // --- names / files ---
+
+    private static String moduleName(int m) {
+        return "module-" + m;
+    }
+
+    private static String dtoName(int d) {
+        return "Dto" + d;
+    }
+
+    private static String enumName(int e) {
+        return "Status" + e;
+    }
+
+    private static String errorHolderName(int h) {
+        return "Error" + h + "Exception";
+    }
+
+    private static Path sourceRoot(Path rootDir, int module) {
+        Path projectDir = module < 0 ? rootDir : rootDir.resolve(moduleName(module));
+        return projectDir.resolve("src/main/java");
+    }
+
+    private static void writeClass(Path sourceRoot, String subPackage, String name, String body) throws IOException {
+        String pkg = BASE_PACKAGE + "." + subPackage;
+        Path file = sourceRoot.resolve(pkg.replace('.', '/')).resolve(name + ".java");
+        write(file, "package " + pkg + ";\n\n" + body);
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,84 @@
+package one.axim.gradle.test;
+
+import com.google.gson.Gson;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ScaleProjectGenerator}로 만든 대규모 프로젝트에서 {@code restMetaGenerator}의 시간/메모리 예산을 검사한다.
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code ./gradlew scaleTest}로 실행한다.
+ * 형태는 {@code restdoc.scale.*}, 예산은 다음 시스템 프로퍼티로 바꿀 수 있다.
+ *
+ * <ul>
+ *   <li>{@code restdoc.scale.heap} — 생성된 프로젝트의 Gradle 데몬 최대 힙 (기본 {@code 1g}). 넘으면 빌드가 실패한다.</li>
+ *   <li>{@code restdoc.scale.maxSeconds} — 태스크 벽시계 시간 예산 (기본 120)</li>
+ *   <li>{@code restdoc.scale.maxAllocatedMb} — 태스크 할당 바이트 예산 (기본 8192)</li>
+ * </ul>
+ */
+@Tag("scale")
+public class ScaleTest {
+
+    private static final Gson gson = new Gson();
+    private static ScaleProjectGenerator shape;
+
+    @TempDir
+    static Path tempDir;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        shape = ScaleProjectGenerator.fromSystemProperties();
+        shape.generate(tempDir, "-Xmx" + System.getProperty("restdoc.scale.heap", "1g"));
+
+        // 컴파일은 예산에서 제외하기 위해 먼저 실행한다
+        run("classes");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWithinBudget() throws Exception {
+        BuildResult result = run("restMetaGenerator");
+        assertEquals(TaskOutcome.SUCCESS, result.task(":restMetaGenerator").getOutcome());
+
+        Map<String, Object> metrics = gson.fromJson(
+                Files.readString(tempDir.resolve("build/reports/restdoc/metrics.json")), Map.class);
+        Map<String, Object> total = (Map<String, Object>) metrics.get("total");
+        long wallMillis = ((Number) total.get("wallMillis")).longValue();
+        // 할당 바이트를 측정할 수 없는 JVM이면 -1
+        long allocatedMb = ((Number) total.get("allocatedBytes")).longValue() / (1024 * 1024);
+        System.out.println("[scale] " + shape + " -> " + wallMillis + "ms, " + allocatedMb + "MB allocated");
+
+        long maxMillis = Long.getLong("restdoc.scale.maxSeconds", 120) * 1000;
+        long maxAllocatedMb = Long.getLong("restdoc.scale.maxAllocatedMb", 8192);
+        assertTrue(wallMillis <= maxMillis, "restMetaGenerator took " + wallMillis + "ms, budget " + maxMillis + "ms");
+        assertTrue(allocatedMb <= maxAllocatedMb, "restMetaGenerator allocated " + allocatedMb + "MB, budget " + maxAllocatedMb + "MB");
+
+        // 모든 컨트롤러와 DTO가 문서화되어야 한다
+        assertEquals(shape.getControllers(), countJson(tempDir.resolve("build/docs/api")));
+        assertTrue(countJson(tempDir.resolve("build/docs/model")) >= shape.getDtos() + shape.getEnums(),
+                "every DTO and enum should have a model");
+    }
+
+    private static BuildResult run(String task) {
+        return GradleRunner.create()
+                .withProjectDir(tempDir.toFile())
+                .withArguments(task, "--stacktrace")
+                .withPluginClasspath()
+                .build();
+    }
+
+    private static int countJson(Path dir) {
+        File[] files = dir.toFile().listFiles((d, name) -> name.endsWith(".json"));
+        return files == null ? 0 : files.length;
+    }
+}
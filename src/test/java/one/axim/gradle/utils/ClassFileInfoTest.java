@@ -0,0 +1,143 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassFileInfoTest {
+
+    @Test
+    void testClassNameAndSuperClass() throws Exception {
+        ClassFileInfo info = read(AnnotatedFixture.class);
+
+        assertEquals(AnnotatedFixture.class.getName(), info.getClassName());
+        assertEquals(BaseFixture.class.getName(), info.getSuperClassName());
+        assertTrue(info.getInterfaceNames().contains(Runnable.class.getName()));
+        assertFalse(info.isInterface());
+    }
+
+    @Test
+    void testClassAnnotations() throws Exception {
+        ClassFileInfo info = read(AnnotatedFixture.class);
+
+        assertTrue(info.hasAnnotation(Marker.class.getName()));
+        // CLASS retention 어노테이션은 RuntimeVisibleAnnotations에 포함되지 않는다
+        assertFalse(info.hasAnnotation(InvisibleMarker.class.getName()));
+    }
+
+    @Test
+    void testMethodAnnotations() throws Exception {
+        ClassFileInfo info = read(AnnotatedFixture.class);
+
+        assertTrue(info.hasMethodAnnotatedWithAny(Collections.singleton(Mapping.class.getName())));
+        assertFalse(info.hasMethodAnnotatedWithAny(Collections.singleton("com.example.Unknown")));
+
+        ClassFileInfo.Member run = info.getMethods().stream()
+                .filter(m -> m.getName().equals("run"))
+                .findFirst().orElse(null);
+        assertNotNull(run);
+        assertEquals("()V", run.getDescriptor());
+        assertTrue(run.getAnnotations().contains(Mapping.class.getName()));
+    }
+
+    @Test
+    void testFieldTypes() throws Exception {
+        ClassFileInfo info = read(AnnotatedFixture.class);
+
+        ClassFileInfo.Member constant = info.getFields().stream()
+                .filter(f -> f.getName().equals("CONSTANT"))
+                .findFirst().orElse(null);
+        assertNotNull(constant);
+        assertEquals("java.lang.String", constant.getTypeClassName());
+
+        ClassFileInfo.Member count = info.getFields().stream()
+                .filter(f -> f.getName().equals("count"))
+                .findFirst().orElse(null);
+        assertNotNull(count);
+        assertNull(count.getTypeClassName());
+    }
+
+    @Test
+    void testInvalidClassFile() {
+        assertThrows(java.io.IOException.class, () -> ClassFileInfo.read(new byte[]{1, 2, 3, 4}));
+    }
+
+    @Test
+    void testAnnotationWithElementValues() throws Exception {
+        ClassFileInfo info = read(ValuedFixture.class);
+        assertTrue(info.hasAnnotation(Valued.class.getName()));
+        assertTrue(info.hasMethodAnnotatedWithAny(Arrays.asList(Mapping.class.getName())));
+    }
+
+    // --- helpers ---
+
+    private static ClassFileInfo read(Class<?> cls) throws Exception {
+        return read(cls.getName());
+    }
+
+    private static ClassFileInfo read(String className) throws Exception {
+        String resource = className.replace('.', '/') + ".class";
+        try (InputStream in = ClassFileInfoTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, "class resource should exist: " + resource);
+            return ClassFileInfo.read(in);
+        }
+    }
+
+    // ========== Test Fixtures ==========
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface InvisibleMarker {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Mapping {
+        String[] value() default {};
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Valued {
+        String name();
+
+        int size() default 0;
+
+        RetentionPolicy policy() default RetentionPolicy.RUNTIME;
+
+        Class<?> type() default Object.class;
+
+        Marker[] nested() default {};
+    }
+
+    static class BaseFixture {
+    }
+
+    @Marker
+    @InvisibleMarker
+    @SuppressWarnings("unused")
+    static class AnnotatedFixture extends BaseFixture implements Runnable {
+        public static final String CONSTANT = "value";
+        private long count = 10L;
+        private double ratio = 1.5d;
+
+        @Mapping("/run")
+        @Override
+        public void run() {
+        }
+    }
+
+    @Valued(name = "fixture", size = 3, policy = RetentionPolicy.SOURCE, type = String.class, nested = {@Marker})
+    static class ValuedFixture {
+        @Mapping({"/a", "/b"})
+        public void handle() {
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassFingerprintTest {
+
+    @TempDir
+    Path workDir;
+
+    private static final String ORDER =
+            "package com.example;\n"
+                    + "import java.util.List;\n"
+                    + "public class Order {\n"
+                    + "    private List<Item> items;\n"
+                    + "    private Tier tier;\n"
+                    + "}\n";
+    private static final String ITEM =
+            "package com.example;\n"
+                    + "public class Item {\n"
+                    + "    private Address address;\n"
+                    + "}\n";
+    private static final String ADDRESS =
+            "package com.example;\n"
+                    + "public class Address {\n"
+                    + "    private String city;\n"
+                    + "}\n";
+    private static final String TIER =
+            "package com.example;\n"
+                    + "public class Tier {\n"
+                    + "    private String name;\n"
+                    + "}\n";
+    private static final String CONTROLLER =
+            "package com.example;\n"
+                    + "public class OrderController {\n"
+                    + "    public Order get(long id) { return null; }\n"
+                    + "}\n";
+
+    @Test
+    void testSameInputsSameHash() throws Exception {
+        Path v1 = compile("v1", ORDER, ITEM, ADDRESS, TIER);
+        Path v2 = compile("v2", ORDER, ITEM, ADDRESS, TIER);
+
+        assertEquals(modelHash(v1, "com.example.Order"), modelHash(v2, "com.example.Order"));
+    }
+
+    @Test
+    void testReferencedClassTurnedIntoEnumChangesModelHash() throws Exception {
+        Path v1 = compile("v1", ORDER, ITEM, ADDRESS, TIER);
+        Path v2 = compile("v2", ORDER, ITEM, ADDRESS,
+                "package com.example;\npublic enum Tier { GOLD, SILVER }\n");
+
+        assertNotEquals(modelHash(v1, "com.example.Order"), modelHash(v2, "com.example.Order"));
+    }
+
+    @Test
+    void testNestedGenericArgumentChangeChangesModelHash() throws Exception {
+        // Order -> List<Item> -> Address: 두 단계 아래 DTO에 필드가 추가되어도 Order 지문이 바뀐다
+        Path v1 = compile("v1", ORDER, ITEM, ADDRESS, TIER);
+        Path v2 = compile("v2", ORDER, ITEM,
+                "package com.example;\npublic class Address {\n    private String city;\n    private String zipCode;\n}\n",
+                TIER);
+
+        assertNotEquals(modelHash(v1, "com.example.Order"), modelHash(v2, "com.example.Order"));
+        assertNotEquals(modelHash(v1, "com.example.Item"), modelHash(v2, "com.example.Item"));
+    }
+
+    @Test
+    void testUnreferencedClassDoesNotChangeModelHash() throws Exception {
+        Path v1 = compile("v1", ORDER, ITEM, ADDRESS, TIER);
+        Path v2 = compile("v2", ORDER, ITEM, ADDRESS, TIER,
+                "package com.example;\npublic class Other {\n    private int count;\n}\n");
+
+        assertEquals(modelHash(v1, "com.example.Order"), modelHash(v2, "com.example.Order"));
+    }
+
+    @Test
+    void testCyclicReferences() throws Exception {
+        Path v1 = compile("v1",
+                "package com.example;\npublic class Node {\n    private Node parent;\n    private Leaf leaf;\n}\n",
+                "package com.example;\npublic class Leaf {\n    private Node owner;\n}\n");
+
+        assertNotNull(modelHash(v1, "com.example.Node"));
+    }
+
+    @Test
+    void testControllerHashFollowsSignatureTypeFields() throws Exception {
+        Path v1 = compile("v1", CONTROLLER, ORDER, ITEM, ADDRESS, TIER);
+        Path v2 = compile("v2", CONTROLLER, ORDER, ITEM, ADDRESS,
+                "package com.example;\npublic enum Tier { GOLD, SILVER }\n");
+
+        assertNotEquals(controllerHash(v1), controllerHash(v2));
+    }
+
+    @Test
+    void testOfStringsIsOrderSensitive() {
+        assertEquals(ClassFingerprint.ofStrings(Arrays.asList("a", "b")),
+                ClassFingerprint.ofStrings(Arrays.asList("a", "b")));
+        assertNotEquals(ClassFingerprint.ofStrings(Arrays.asList("a", "b")),
+                ClassFingerprint.ofStrings(Arrays.asList("b", "a")));
+        // 구분자 덕분에 경계가 다른 입력은 충돌하지 않는다
+        assertNotEquals(ClassFingerprint.ofStrings(Arrays.asList("ab", "c")),
+                ClassFingerprint.ofStrings(Arrays.asList("a", "bc")));
+    }
+
+    // --- helpers ---
+
+    private static String modelHash(Path classes, String className) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null)) {
+            return new ClassFingerprint(null).of(loader.loadClass(className));
+        }
+    }
+
+    private static String controllerHash(Path classes) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null)) {
+            Class<?> controller = loader.loadClass("com.example.OrderController");
+            Method get = controller.getMethod("get", long.class);
+            return new ClassFingerprint(null).ofController(controller, Collections.singletonList(get));
+        }
+    }
+
+    /** 소스를 {@code name} 디렉터리에 쓰고 같은 디렉터리로 컴파일한다. 파일 이름은 public 타입 이름으로 정한다. */
+    private Path compile(String name, String... sources) throws Exception {
+        Path dir = workDir.resolve(name);
+        List<File> files = new ArrayList<>();
+        for (String source : sources) {
+            String typeName = source.replaceAll("(?s).*public (?:class|enum) (\\w+).*", "$1");
+            Path file = dir.resolve("com/example/" + typeName + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+            files.add(file.toFile());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Boolean ok = compiler.getTask(null, fileManager, null, Arrays.asList("-d", dir.toString()), null,
+                    fileManager.getJavaFileObjectsFromFiles(files)).call();
+            assertTrue(ok, "fixture sources should compile");
+        }
+        return dir;
+    }
+}
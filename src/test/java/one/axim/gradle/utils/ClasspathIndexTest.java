@@ -0,0 +1,87 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClasspathIndexTest {
+
+    private static final String MARKER = ClassFileInfoTest.class.getName() + "$Marker";
+    private static final String ANNOTATED = ClassFileInfoTest.class.getName() + "$AnnotatedFixture";
+    private static final String BASE = ClassFileInfoTest.class.getName() + "$BaseFixture";
+
+    @TempDir
+    Path root;
+    private ClasspathIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        copyClass(ANNOTATED);
+        copyClass(BASE);
+
+        index = ClasspathIndex.build(getClass().getClassLoader(),
+                ClasspathScanner.forRoots(Collections.singletonList(root.toFile())),
+                PackagePrefixTrie.parse("one.axim.gradle"));
+    }
+
+    @Test
+    void testClassLocationAndPackage() {
+        assertEquals(2, index.size());
+        assertTrue(index.contains(ANNOTATED));
+        assertNotNull(index.getLocation(ANNOTATED));
+        assertNull(index.getLocation("one.axim.gradle.Missing"));
+
+        assertEquals(2, index.getPackageClasses("one.axim.gradle.utils").size());
+        assertTrue(index.getPackageClasses("one.axim.gradle").isEmpty());
+        assertEquals(2, index.getClassNames(PackagePrefixTrie.parse("one.axim")).size());
+        assertTrue(index.getClassNames(PackagePrefixTrie.parse("one.axim.gradle.data")).isEmpty());
+    }
+
+    @Test
+    void testAnnotatedClasses() {
+        assertEquals(Collections.singleton(ANNOTATED), index.getAnnotatedClasses(MARKER));
+        assertTrue(index.getAnnotatedClasses("com.example.Unknown").isEmpty());
+        assertEquals(BASE, index.getClassFile(ANNOTATED).getSuperClassName());
+    }
+
+    @Test
+    void testLoadClassIsCached() {
+        Class<?> first = index.loadClass(ANNOTATED);
+        assertNotNull(first);
+        assertSame(first, index.loadClass(ANNOTATED));
+        assertNull(index.loadClass("one.axim.gradle.Missing"));
+        assertNull(index.loadClass(null));
+    }
+
+    @Test
+    void testExcludedRootsAreSkipped() throws Exception {
+        ClasspathScanner scanner = ClasspathScanner.forRoots(Collections.singletonList(root.toFile()))
+                .excluding(Collections.singletonList(root.toFile()));
+        assertTrue(scanner.scan(PackagePrefixTrie.parse("one.axim.gradle")).isEmpty());
+
+        ClasspathIndex partial = ClasspathIndex.build(getClass().getClassLoader(), scanner,
+                PackagePrefixTrie.parse("one.axim.gradle"));
+        assertEquals(0, partial.size());
+        assertTrue(partial.addClass(ANNOTATED));
+        assertTrue(partial.contains(ANNOTATED));
+    }
+
+    // --- helpers ---
+
+    private void copyClass(String className) throws Exception {
+        String resource = className.replace('.', '/') + ".class";
+        Path target = root.resolve(resource);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, "class resource should exist: " + resource);
+            Files.copy(in, target);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package one.axim.gradle.utils;
+
+import one.axim.gradle.data.APIDefinition;
+import one.axim.gradle.data.APIParameter;
+import one.axim.gradle.data.APIParameterKind;
+import one.axim.gradle.data.DocumentModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DocumentFormatTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testBinaryRoundTripKeepsFields() throws Exception {
+        for (DocumentFormat format : DocumentFormat.values()) {
+            File file = format.file(dir.toFile(), "com.example.UserController");
+            format.write(new APIDefinition[]{api()}, file);
+
+            APIDefinition read = DocumentFormat.read(file, APIDefinition[].class)[0];
+            assertEquals("getUser", read.getId(), format.getName());
+            assertTrue(read.getIsPaging(), format.getName());
+            assertEquals("spring", read.getPagingType(), format.getName());
+            // getter/setter 이름이 다른 필드도 Gson과 같이 필드 기준으로 보존된다
+            assertTrue(read.getParameters().get(0).getIsEnum(), format.getName());
+            assertEquals(APIParameterKind.REQUEST_PARAMETER, read.getParameters().get(0).getParameterKind());
+            assertNull(read.getReturnDescription(), format.getName());
+        }
+    }
+
+    @Test
+    void testReadersDetectFormatByExtension() throws Exception {
+        Files.createDirectories(dir.resolve("api"));
+        DocumentFormat.SMILE.write(new APIDefinition[]{api()}, DocumentFormat.SMILE.file(dir.resolve("api").toFile(), "com.example.A"));
+
+        DocumentModel document = DocumentModel.load(dir.toFile(), false);
+        assertEquals(1, document.getApis().size());
+        assertEquals("getUser", document.getApis().get(0).getId());
+
+        File found = DocumentFormat.find(dir.resolve("api").toFile(), "com.example.A");
+        assertEquals("com.example.A.smile", found.getName());
+        assertEquals("com.example.A", DocumentFormat.baseName(found));
+        assertNull(DocumentFormat.find(dir.resolve("api").toFile(), "com.example.B"));
+    }
+
+    @Test
+    void testOf() {
+        assertEquals(DocumentFormat.CBOR, DocumentFormat.of("CBOR"));
+        assertThrows(IllegalArgumentException.class, () -> DocumentFormat.of("xml"));
+    }
+
+    private static APIDefinition api() {
+        APIParameter param = new APIParameter();
+        param.setName("status");
+        param.setEnum(true);
+        param.setParameterKind(APIParameterKind.REQUEST_PARAMETER);
+
+        APIDefinition api = new APIDefinition();
+        api.setId("getUser");
+        api.setIsPaging(true);
+        api.setPagingType("spring");
+        api.setParameters(Collections.singletonList(param));
+        return api;
+    }
+}
@@ -0,0 +1,75 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationManifestTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSaveAndLoad() throws Exception {
+        GenerationManifest manifest = new GenerationManifest();
+        manifest.setSettingsHash("settings");
+        manifest.putController("com.example.UserController", "c1", Arrays.asList("com.example.B", "com.example.A"));
+        manifest.putModel("com.example.A", "m1", Collections.emptyList());
+
+        File file = dir.resolve(GenerationManifest.FILE_NAME).toFile();
+        manifest.save(file);
+
+        GenerationManifest loaded = GenerationManifest.load(file);
+        assertNotNull(loaded);
+        assertEquals("settings", loaded.getSettingsHash());
+        assertEquals("c1", loaded.getControllers().get("com.example.UserController").getHash());
+        assertEquals(Arrays.asList("com.example.A", "com.example.B"),
+                loaded.getControllers().get("com.example.UserController").getRefs());
+        assertEquals("m1", loaded.getModels().get("com.example.A").getHash());
+    }
+
+    @Test
+    void testLoadMissingOrOtherVersion() throws Exception {
+        File file = dir.resolve(GenerationManifest.FILE_NAME).toFile();
+        assertNull(GenerationManifest.load(file));
+
+        Files.write(file.toPath(), "{\"version\": 0}".getBytes(StandardCharsets.UTF_8));
+        assertNull(GenerationManifest.load(file));
+    }
+
+    @Test
+    void testPruneKeepsListedFiles() throws Exception {
+        Files.write(dir.resolve("com.example.A.json"), new byte[0]);
+        Files.write(dir.resolve("com.example.B.json"), new byte[0]);
+        Files.write(dir.resolve("notes.txt"), new byte[0]);
+
+        int deleted = GenerationManifest.prune(dir.toFile(), new HashSet<>(Collections.singletonList("com.example.A")));
+
+        assertEquals(1, deleted);
+        assertTrue(Files.exists(dir.resolve("com.example.A.json")));
+        assertFalse(Files.exists(dir.resolve("com.example.B.json")));
+        assertTrue(Files.exists(dir.resolve("notes.txt")));
+    }
+
+    @Test
+    void testPruneRemovesOtherFormats() throws Exception {
+        Files.write(dir.resolve("com.example.A.json"), new byte[0]);
+        Files.write(dir.resolve("com.example.A.smile"), new byte[0]);
+
+        int deleted = GenerationManifest.prune(dir.toFile(), new HashSet<>(Collections.singletonList("com.example.A")),
+                DocumentFormat.SMILE);
+
+        assertEquals(1, deleted);
+        assertFalse(Files.exists(dir.resolve("com.example.A.json")));
+        assertTrue(Files.exists(dir.resolve("com.example.A.smile")));
+    }
+}
@@ -0,0 +1,66 @@
+package one.axim.gradle.utils;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationMetricsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testPhasesAndCounters() throws Exception {
+        GenerationMetrics metrics = new GenerationMetrics();
+        metrics.begin("errorScan");
+        metrics.increment(GenerationMetrics.SOURCE_FILES_PARSED);
+        metrics.begin("generate");
+        Thread worker = new Thread(() -> metrics.add(GenerationMetrics.MODELS_WRITTEN, 3));
+        worker.start();
+        worker.join();
+        metrics.finish();
+        // 종료 후의 단계는 기록하지 않는다
+        metrics.begin("ignored");
+        metrics.finish();
+
+        List<GenerationMetrics.Phase> phases = metrics.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("errorScan", phases.get(0).getName());
+        assertEquals("generate", phases.get(1).getName());
+        assertTrue(metrics.getTotal().getWallMillis() >= phases.get(0).getWallMillis());
+        assertEquals(1, metrics.get(GenerationMetrics.SOURCE_FILES_PARSED));
+        assertEquals(3, metrics.get(GenerationMetrics.MODELS_WRITTEN));
+        assertEquals(0, metrics.get(GenerationMetrics.HTTP_CALLS));
+        assertTrue(metrics.summary().contains("modelsWritten=3"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWriteReport() throws Exception {
+        GenerationMetrics metrics = new GenerationMetrics();
+        metrics.begin("openApi");
+        metrics.add(GenerationMetrics.CLASSES_SCANNED, 42);
+
+        File file = dir.resolve("reports/metrics.json").toFile();
+        metrics.write(file);
+
+        Map<String, Object> report = new Gson().fromJson(
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), Map.class);
+        assertEquals(1.0, report.get("version"));
+        assertTrue(((Map<String, Object>) report.get("total")).containsKey("allocatedBytes"));
+        List<Map<String, Object>> phases = (List<Map<String, Object>>) report.get("phases");
+        assertEquals("openApi", phases.get(0).get("name"));
+        Map<String, Object> counters = (Map<String, Object>) report.get("counters");
+        assertEquals(42.0, counters.get(GenerationMetrics.CLASSES_SCANNED));
+        assertTrue(counters.containsKey(GenerationMetrics.CLASSES_LOADED));
+    }
+}
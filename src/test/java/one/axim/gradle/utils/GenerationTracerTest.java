@@ -0,0 +1,79 @@
+package one.axim.gradle.utils;
+
+import com.google.gson.Gson;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationTracerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testChromeTrace() throws Exception {
+        GenerationTracer tracer = new GenerationTracer(GenerationTracer.Mode.CHROME);
+        tracer.start();
+        try (GenerationTracer.Span controller = tracer.span(GenerationTracer.CONTROLLER, "com.example.UserController")) {
+            try (GenerationTracer.Span parse = tracer.span(GenerationTracer.PARSE, "UserController.java")) {
+                // 중첩 구간
+            }
+        }
+
+        File file = tracer.finish(dir.toFile());
+        assertEquals("trace.json", file.getName());
+
+        Map<String, Object> trace = new Gson().fromJson(
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), Map.class);
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (Map<String, Object> event : (List<Map<String, Object>>) trace.get("traceEvents")) {
+            if ("X".equals(event.get("ph"))) spans.add(event);
+        }
+        // 안쪽 구간이 먼저 닫힌다
+        assertEquals(2, spans.size());
+        assertEquals("UserController.java", spans.get(0).get("name"));
+        assertEquals(GenerationTracer.CONTROLLER, spans.get(1).get("cat"));
+        assertTrue((Double) spans.get(1).get("dur") >= (Double) spans.get(0).get("dur"));
+    }
+
+    @Test
+    void testJfrEvents() throws Exception {
+        GenerationTracer tracer = new GenerationTracer(GenerationTracer.Mode.JFR);
+        tracer.start();
+        try (GenerationTracer.Span model = tracer.span(GenerationTracer.MODEL, "com.example.UserDto")) {
+            Thread.sleep(1);
+        }
+
+        File file = tracer.finish(dir.toFile());
+        List<String> names = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file.toPath())) {
+            if (event.getEventType().getName().equals("one.axim.restdoc.Model")) {
+                names.add(event.getString("name"));
+            }
+        }
+        assertEquals(List.of("com.example.UserDto"), names);
+    }
+
+    @Test
+    void testOff() throws Exception {
+        assertEquals(GenerationTracer.Mode.OFF, GenerationTracer.Mode.of(""));
+        assertEquals(GenerationTracer.Mode.CHROME, GenerationTracer.Mode.of("Chrome"));
+        assertThrows(IllegalArgumentException.class, () -> GenerationTracer.Mode.of("perfetto"));
+
+        GenerationTracer.OFF.span(GenerationTracer.MODEL, "com.example.UserDto").close();
+        assertNull(GenerationTracer.OFF.finish(dir.toFile()));
+        assertEquals(0, dir.toFile().list().length);
+    }
+}
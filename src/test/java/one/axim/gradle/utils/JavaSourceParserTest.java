@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -14,6 +15,7 @@ public class JavaSourceParserTest {
 
     private static JavaSourceParser classParser;
     private static JavaSourceParser enumParser;
+    private static File overloadFile;
 
     @BeforeAll
     static void setUp() throws Exception {
@@ -22,6 +24,9 @@ public class JavaSourceParserTest {
         File enumFile = new File(Objects.requireNonNull(
                 JavaSourceParserTest.class.getClassLoader().getResource("fixtures/SampleEnum.java")).toURI());
 
+        overloadFile = new File(Objects.requireNonNull(
+                JavaSourceParserTest.class.getClassLoader().getResource("fixtures/SampleOverload.java")).toURI());
+
         classParser = JavaSourceParser.parse(classFile);
         enumParser = JavaSourceParser.parse(enumFile);
     }
@@ -121,6 +126,59 @@ public class JavaSourceParserTest {
         assertNull(mc);
     }
 
+    @Test
+    void testOverloadsMatchedByParameterTypes() throws Exception {
+        Method byName = SampleOverloadHolder.class.getMethod("find", String.class);
+        Method byNames = SampleOverloadHolder.class.getMethod("find", List.class);
+        Method byKey = SampleOverloadHolder.class.getMethod("find", Map.Entry.class, int[].class);
+
+        // AST와 스캐너 모두 소거된 파라미터 타입으로 오버로드를 구분한다
+        for (JavaSourceParser parser : List.of(JavaSourceParser.parse(overloadFile), JavaSourceParser.scanUncached(overloadFile))) {
+            assertEquals("이름으로 조회", parser.getMethodComment(byName).getDescription());
+            assertEquals("이름 목록으로 조회", parser.getMethodComment(byNames).getDescription());
+            assertEquals("키와 페이지로 조회", parser.getMethodComment(byKey).getDescription());
+            assertEquals("names", parser.getMethodParameterName(byNames, 0));
+            assertEquals("pages", parser.getMethodParameterName(byKey, 1));
+        }
+
+        JavaSourceParser parser = JavaSourceParser.parse(overloadFile);
+        assertEquals("List<String>", parser.getMethodDeclaration(byNames).getParameter(0).getTypeAsString());
+    }
+
+    @Test
+    void testParameterNameOfUndeclaredMethodIsNull() throws Exception {
+        // 상위 클래스에서 상속한 매핑 메서드는 하위 클래스 소스에 선언이 없다
+        Method inherited = SampleInheritedHolder.class.getMethod("delete", long.class);
+        Method byName = SampleOverloadHolder.class.getMethod("find", String.class);
+
+        for (JavaSourceParser parser : List.of(JavaSourceParser.parse(overloadFile), JavaSourceParser.scanUncached(overloadFile))) {
+            assertNull(parser.getMethodParameterName(inherited, 0));
+            assertNull(parser.getMethodParameterName(byName, 1), "index beyond the declared parameters");
+            assertNull(parser.getMethodParameterName(byName, -1));
+            assertEquals("name", parser.getMethodParameterName(byName, 0));
+        }
+    }
+
+    @Test
+    void testNestedTypes() throws Exception {
+        JavaSourceParser parser = JavaSourceParser.parse(overloadFile);
+        assertEquals("오버로드와 중첩 타입", parser.getClassComment());
+        assertNull(parser.getFieldComment("quantity"), "nested fields should not leak into the outer type");
+
+        JavaSourceParser item = parser.nested("SampleOverload.Item");
+        assertEquals("주문 항목", item.getClassComment());
+        assertEquals("수량", item.getFieldComment("quantity"));
+
+        JavaSourceParser state = parser.nested("SampleOverload.Item.State");
+        assertEquals("항목 상태", state.getClassComment());
+        assertEquals("준비 중", state.getFieldComment("READY"));
+        assertNull(state.getFieldComment("DONE"));
+
+        assertNull(parser.nested("SampleOverload.Missing"));
+        assertNull(JavaSourceParser.scanUncached(overloadFile).nested("SampleOverload.Item"),
+                "scanner-based parser has no nested types");
+    }
+
     // --- helpers ---
 
     /**
@@ -157,4 +215,25 @@ public class JavaSourceParserTest {
         public Object getUser(String userId, boolean includeDetail) { return null; }
         public void noJavadocMethod() {}
     }
+
+    /**
+     * Mirror of fixtures/SampleOverload.java overloads.
+     */
+    @SuppressWarnings("unused")
+    public static class SampleOverloadHolder {
+        public Object find(String name) { return null; }
+        public Object find(List<String> names) { return null; }
+        public Object find(Map.Entry<String, Long> key, int... pages) { return null; }
+    }
+
+    @SuppressWarnings("unused")
+    public static class SampleBaseHolder {
+        public void delete(long id) {}
+    }
+
+    /**
+     * fixtures/SampleOverload.java에 없는 {@code delete}를 상속한다.
+     */
+    public static class SampleInheritedHolder extends SampleBaseHolder {
+    }
 }
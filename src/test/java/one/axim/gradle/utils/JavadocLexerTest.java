@@ -0,0 +1,114 @@
+package one.axim.gradle.utils;
+
+import one.axim.gradle.processor.ClassDocs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JavadocLexerTest {
+
+    @Test
+    void testSameCommentsAsJavaParser() throws Exception {
+        File classFile = fixture("fixtures/SampleClass.java");
+        File enumFile = fixture("fixtures/SampleEnum.java");
+
+        JavaSourceParser scanned = JavaSourceParser.scanUncached(classFile);
+        JavaSourceParser parsed = JavaSourceParser.parseUncached(classFile);
+        assertNull(scanned.getCompilationUnit(), "lexer should not build an AST");
+        assertFalse(scanned.isSidecar());
+        assertEquals(parsed.getClassComment(), scanned.getClassComment());
+        for (String field : List.of("name", "age", "address", "noComment")) {
+            assertEquals(parsed.getFieldComment(field), scanned.getFieldComment(field), field);
+        }
+
+        Method getUser = SampleUser.class.getMethod("getUser", String.class, boolean.class);
+        MethodComment expected = parsed.getMethodComment(getUser);
+        MethodComment actual = scanned.getMethodComment(getUser);
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getTags().size(), actual.getTags().size());
+        assertEquals("userId", scanned.getMethodParameterName(getUser, 0));
+        assertEquals("includeDetail", scanned.getMethodParameterName(getUser, 1));
+
+        JavaSourceParser scannedEnum = JavaSourceParser.scanUncached(enumFile);
+        assertEquals("사용자 상태", scannedEnum.getClassComment());
+        assertEquals("활성 상태", scannedEnum.getFieldComment("ACTIVE"));
+        assertEquals("비활성 상태", scannedEnum.getFieldComment("INACTIVE"));
+        assertNull(scannedEnum.getFieldComment("UNKNOWN"));
+    }
+
+    @Test
+    void testDeclarations() {
+        ClassDocs docs = JavadocLexer.scan(String.join("\n",
+                "package com.example;",
+                "import java.util.*;",
+                "/** 주문 */",
+                "@Deprecated(since = \"1.0\")",
+                "public class Order<T extends Comparable<T>> implements Iterable<T> {",
+                "    /** 상태 맵 */",
+                "    private final Map<String, List<Integer>> states = new HashMap<String, List<Integer>>(), other = Map.of(\"}\", 1);",
+                "    // 라인 코멘트",
+                "    private String memo = \"/** not a doc */\";",
+                "    /** 타입 */ private char type = '{';",
+                "    static { int x = 1 < 2 ? 3 : 4; }",
+                "    public Order(int id) { }",
+                "    /** 중첩 타입의 필드는 기록하지 않는다 */",
+                "    static class Item { /** 수량 */ int quantity; }",
+                "    /** 목록 조회 */",
+                "    public <R> List<R> find(@RequestParam(value = \"q\") final List<String> query, int... pages) { return null; }",
+                "    /** 단건 조회 */",
+                "    public T find(Map.Entry<String, T> entry, byte raw[]) { return null; }",
+                "    public Iterator<T> iterator() { return null; }",
+                "}"));
+
+        assertNotNull(docs);
+        assertEquals(" 주문 ", docs.getComment());
+        assertEquals(Set.of("states", "other", "type"), docs.getFields().keySet());
+        assertNull(docs.getFields().get("memo"));
+        assertNull(docs.getFields().get("quantity"));
+
+        assertEquals(3, docs.getMethods().size());
+        ClassDocs.MethodDocs list = docs.findMethod("find", List.of("java.util.List", "int[]"));
+        assertEquals(List.of("List", "int[]"), list.getParameterTypes());
+        assertEquals(List.of("query", "pages"), list.getParameterNames());
+        assertEquals(" 목록 조회 ", list.getComment());
+
+        // 선언된 타입 이름은 정규 이름의 끝부분과 비교한다
+        ClassDocs.MethodDocs single = docs.findMethod("find", List.of("java.util.Map.Entry", "byte[]"));
+        assertEquals(List.of("entry", "raw"), single.getParameterNames());
+        assertEquals(" 단건 조회 ", single.getComment());
+        assertNull(docs.findMethod("iterator", List.of()).getComment());
+    }
+
+    @Test
+    void testAmbiguousFallsBackToJavaParser(@TempDir Path dir) throws Exception {
+        assertNull(JavadocLexer.scan("/** 닫히지 않은 클래스 */ public class Broken { void run() {"));
+        assertNull(JavadocLexer.scan("package com.example;"));
+
+        File file = dir.resolve("Broken.java").toFile();
+        Files.write(file.toPath(), "/** 깨진 클래스 */\npublic class Broken { void run() {\n"
+                .getBytes(StandardCharsets.UTF_8));
+        JavaSourceParser parser = JavaSourceParser.scanUncached(file);
+        assertNotNull(parser.getCompilationUnit(), "ambiguous source should be parsed by JavaParser");
+    }
+
+    private static File fixture(String name) throws Exception {
+        return new File(Objects.requireNonNull(JavadocLexerTest.class.getClassLoader().getResource(name)).toURI());
+    }
+
+    /** fixtures/SampleClass.java와 같은 시그니처 */
+    static class SampleUser {
+        public Object getUser(String userId, boolean includeDetail) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonOutputTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testWriteStreamsElements() throws Exception {
+        File file = dir.resolve("out.json").toFile();
+
+        JsonOutput.write(file, gen -> {
+            gen.writeStartObject();
+            JsonOutput.writeField(gen, "name", "사용자");
+            gen.writeArrayFieldStart("items");
+            JsonOutput.writeValue(gen, Collections.singletonMap("id", 1));
+            JsonOutput.writeValue(gen, Collections.singletonMap("id", 2));
+            gen.writeEndArray();
+            gen.writeEndObject();
+        });
+
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertEquals("{\n  \"name\" : \"사용자\",\n  \"items\" : [ {\n    \"id\" : 1\n  }, {\n    \"id\" : 2\n  } ]\n}",
+                json.replace(System.lineSeparator(), "\n"));
+        assertFalse(new File(dir.toFile(), "out.json.tmp").exists());
+    }
+
+    @Test
+    void testFailureKeepsPreviousFile() throws Exception {
+        File file = dir.resolve("out.json").toFile();
+        Files.write(file.toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> JsonOutput.write(file, gen -> {
+            gen.writeStartObject();
+            throw new IOException("boom");
+        }));
+
+        assertEquals("{}", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertFalse(new File(dir.toFile(), "out.json.tmp").exists());
+    }
+}
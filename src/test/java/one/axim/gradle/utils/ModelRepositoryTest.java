@@ -0,0 +1,74 @@
+package one.axim.gradle.utils;
+
+import one.axim.gradle.data.APIModelDefinition;
+import one.axim.gradle.data.DocumentModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModelRepositoryTest {
+
+    @TempDir
+    Path modelDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (String name : new String[]{"A", "B", "C"}) {
+            Files.write(modelDir.resolve("com.example." + name + ".json"),
+                    ("{\"name\": \"" + name + "\", \"type\": \"Object\"}").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testRepeatedLookupReadsOnce() {
+        ModelRepository repository = ModelRepository.forDirectory(modelDir.toFile(), 10);
+
+        assertEquals("A", repository.get("com.example.A").getName());
+        assertEquals("A", repository.get("com.example.A").getName());
+        assertEquals(1, repository.getReadCount());
+    }
+
+    @Test
+    void testUnknownClassDoesNotTouchDisk() {
+        ModelRepository repository = ModelRepository.forDirectory(modelDir.toFile(), 10);
+
+        assertNull(repository.get("java.lang.String"));
+        assertNull(repository.get(null));
+        assertEquals(0, repository.getReadCount());
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        ModelRepository repository = ModelRepository.forDirectory(modelDir.toFile(), 2);
+
+        repository.get("com.example.A");
+        repository.get("com.example.B");
+        repository.get("com.example.A");   // A가 가장 최근 사용
+        repository.get("com.example.C");   // B 제거
+        assertEquals(3, repository.getReadCount());
+
+        repository.get("com.example.A");
+        assertEquals(3, repository.getReadCount());
+        repository.get("com.example.B");
+        assertEquals(4, repository.getReadCount());
+    }
+
+    @Test
+    void testDocumentModelLookup() {
+        DocumentModel document = new DocumentModel();
+        APIModelDefinition model = new APIModelDefinition();
+        model.setName("UserDto");
+        document.putModel("com.example.UserDto", model);
+
+        ModelRepository repository = ModelRepository.of(document);
+        assertSame(model, repository.get("com.example.UserDto"));
+        assertNull(repository.get("com.example.Missing"));
+        assertEquals(0, repository.getReadCount());
+    }
+}
@@ -0,0 +1,89 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutputCompressorTest {
+
+    @TempDir
+    Path docDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        write("openapi.json", "{\"openapi\": \"3.0.3\"}");
+        write("api/com.example.UserController.json", "[]");
+        write(".restdoc-manifest.json", "{}");
+    }
+
+    @Test
+    void testGzipSiblings() throws Exception {
+        OutputCompressor compressor = new OutputCompressor(Collections.singletonList("gzip"), 2);
+
+        assertEquals(2, compressor.compress(docDir.toFile()));
+        assertEquals("{\"openapi\": \"3.0.3\"}", gunzip(docDir.resolve("openapi.json.gz")));
+        assertEquals("[]", gunzip(docDir.resolve("api/com.example.UserController.json.gz")));
+        assertFalse(Files.exists(docDir.resolve(".restdoc-manifest.json.gz")));
+    }
+
+    @Test
+    void testUpToDateSiblingsSkipped() throws Exception {
+        OutputCompressor compressor = new OutputCompressor(Collections.singletonList("gzip"), 1);
+        compressor.compress(docDir.toFile());
+        Path openapi = docDir.resolve("openapi.json");
+        Path gz = docDir.resolve("openapi.json.gz");
+        Files.setLastModifiedTime(openapi, FileTime.fromMillis(1_000_000L));
+        Files.setLastModifiedTime(gz, FileTime.fromMillis(2_000_000L));
+
+        // 원본보다 새로운 압축 파일은 유지하고, 원본이 바뀐 파일만 다시 압축한다
+        write("api/com.example.UserController.json", "[{}]");
+        Files.setLastModifiedTime(docDir.resolve("api/com.example.UserController.json.gz"), FileTime.fromMillis(1_000_000L));
+        assertEquals(1, compressor.compress(docDir.toFile()));
+        assertEquals("[{}]", gunzip(docDir.resolve("api/com.example.UserController.json.gz")));
+    }
+
+    @Test
+    void testStaleSiblingsRemoved() throws Exception {
+        new OutputCompressor(Collections.singletonList("gzip"), 1).compress(docDir.toFile());
+        Files.delete(docDir.resolve("api/com.example.UserController.json"));
+
+        new OutputCompressor(Collections.singletonList("gzip"), 1).compress(docDir.toFile());
+        assertFalse(Files.exists(docDir.resolve("api/com.example.UserController.json.gz")));
+        assertTrue(Files.exists(docDir.resolve("openapi.json.gz")));
+
+        // 설정에서 빠진 인코딩의 압축 파일도 삭제한다
+        new OutputCompressor(Collections.emptyList(), 1).compress(docDir.toFile());
+        assertFalse(Files.exists(docDir.resolve("openapi.json.gz")));
+    }
+
+    @Test
+    void testUnknownOrUnavailableEncodingsIgnored() {
+        assertTrue(new OutputCompressor(Arrays.asList("lz4", "zstd"), 1).isEmpty());
+        assertFalse(new OutputCompressor(Arrays.asList("lz4", "GZIP"), 1).isEmpty());
+    }
+
+    // --- helpers ---
+
+    private void write(String path, String content) throws Exception {
+        Path file = docDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String gunzip(Path file) throws Exception {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
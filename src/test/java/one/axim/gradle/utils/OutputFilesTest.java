@@ -0,0 +1,113 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutputFilesTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testUnchangedFileKeepsTimestamp() throws Exception {
+        File file = dir.resolve("openapi.json").toFile();
+        Files.write(file.toPath(), "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+        FileTime before = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(file.toPath(), before);
+
+        OutputFiles outputs = new OutputFiles();
+        assertFalse(outputs.write(file, "{\"a\":1}"));
+
+        assertEquals(before, Files.getLastModifiedTime(file.toPath()));
+        assertEquals(0, outputs.getChangedCount());
+        assertEquals(1, outputs.getUnchangedCount());
+        assertTrue(outputs.isWritten(file));
+        assertFalse(new File(dir.toFile(), "openapi.json.tmp").exists());
+    }
+
+    @Test
+    void testChangedContentReplaced() throws Exception {
+        // 버퍼보다 큰 내용에서 중간만 다르거나, 앞부분이 같고 길이만 다른 경우
+        byte[] large = new byte[200 * 1024];
+        Arrays.fill(large, (byte) 'x');
+        byte[] middleChanged = large.clone();
+        middleChanged[150 * 1024] = 'y';
+
+        OutputFiles outputs = new OutputFiles();
+        File file = dir.resolve("spec-bundle.json").toFile();
+        assertTrue(outputs.write(file, large));
+        assertTrue(outputs.write(file, middleChanged));
+        assertArrayEquals(middleChanged, Files.readAllBytes(file.toPath()));
+        assertTrue(outputs.write(file, Arrays.copyOf(middleChanged, 100)));
+        assertArrayEquals(Arrays.copyOf(middleChanged, 100), Files.readAllBytes(file.toPath()));
+        assertTrue(outputs.write(file, large));
+        assertArrayEquals(large, Files.readAllBytes(file.toPath()));
+        assertFalse(outputs.write(file, large));
+
+        assertEquals(4, outputs.getChangedCount());
+        assertEquals(1, outputs.getUnchangedCount());
+        assertFalse(new File(dir.toFile(), "spec-bundle.json.tmp").exists());
+    }
+
+    @Test
+    void testFailureKeepsPreviousFile() throws Exception {
+        File file = dir.resolve("errors.json").toFile();
+        Files.write(file.toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+
+        OutputFiles outputs = new OutputFiles();
+        assertThrows(IOException.class, () -> outputs.write(file, out -> {
+            out.write("[1".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("boom");
+        }));
+
+        assertEquals("[]", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertFalse(new File(dir.toFile(), "errors.json.tmp").exists());
+        assertFalse(outputs.isWritten(file));
+    }
+
+    @Test
+    void testDeleteUnwritten() throws Exception {
+        Path stale = dir.resolve("api/com.example.Removed.json");
+        Path kept = dir.resolve("openapi.json.gz");
+        Files.createDirectories(stale.getParent());
+        Files.write(stale, "{}".getBytes(StandardCharsets.UTF_8));
+        Files.write(kept, new byte[]{1});
+
+        OutputFiles outputs = new OutputFiles();
+        outputs.write(dir.resolve("openapi.json").toFile(), "{}");
+
+        assertEquals(1, outputs.deleteUnwritten(dir.toFile(), file -> file.getFileName().toString().endsWith(".gz")));
+        assertFalse(Files.exists(stale));
+        assertFalse(Files.exists(stale.getParent()));
+        assertTrue(Files.exists(kept));
+        assertTrue(Files.exists(dir.resolve("openapi.json")));
+    }
+
+    @Test
+    void testKeptFileNotDeleted() throws Exception {
+        Path reused = dir.resolve("model/com.example.User.json");
+        Path stale = dir.resolve("error/error-response.json");
+        Files.createDirectories(reused.getParent());
+        Files.createDirectories(stale.getParent());
+        Files.write(reused, "{}".getBytes(StandardCharsets.UTF_8));
+        Files.write(stale, "{}".getBytes(StandardCharsets.UTF_8));
+
+        OutputFiles outputs = new OutputFiles();
+        outputs.markKept(reused.toFile());
+
+        assertEquals(1, outputs.deleteUnwritten(dir.toFile(), file -> false));
+        assertTrue(Files.exists(reused));
+        assertFalse(Files.exists(stale));
+        assertEquals(0, outputs.getChangedCount() + outputs.getUnchangedCount());
+    }
+}
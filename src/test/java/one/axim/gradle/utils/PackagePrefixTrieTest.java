@@ -0,0 +1,77 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackagePrefixTrieTest {
+
+    @Test
+    void testMatchesSegmentBoundaries() {
+        PackagePrefixTrie trie = PackagePrefixTrie.parse("com.example, org.sample.api");
+
+        assertTrue(trie.matches("com.example"));
+        assertTrue(trie.matches("com.example.controller"));
+        assertTrue(trie.matches("org.sample.api.v1"));
+
+        // 문자열 접두사가 같아도 세그먼트가 다르면 불일치
+        assertFalse(trie.matches("com.examples"));
+        assertFalse(trie.matches("com"));
+        assertFalse(trie.matches("org.sample"));
+        assertFalse(trie.matches(""));
+    }
+
+    @Test
+    void testMayContainAncestors() {
+        PackagePrefixTrie trie = PackagePrefixTrie.of(Collections.singletonList("com.example.api"));
+
+        assertTrue(trie.mayContain("com"));
+        assertTrue(trie.mayContain("com.example"));
+        assertTrue(trie.mayContain("com.example.api.user"));
+        assertFalse(trie.mayContain("org"));
+        assertFalse(trie.mayContain("com.other"));
+    }
+
+    @Test
+    void testEmptyTrie() {
+        PackagePrefixTrie trie = PackagePrefixTrie.parse(null);
+
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.matches("com.example"));
+        assertFalse(trie.mayContain(""));
+    }
+
+    @Test
+    void testScanRootsPrunesDirectories(@TempDir Path root) throws Exception {
+        touch(root.resolve("com/example/api/UserController.class"));
+        touch(root.resolve("com/example/api/UserController$Inner.class"));
+        touch(root.resolve("com/example/api/package-info.class"));
+        touch(root.resolve("com/examples/Other.class"));
+        touch(root.resolve("org/lib/Lib.class"));
+
+        List<String> names = ClasspathScanner.forRoots(Collections.singletonList(root.toFile()))
+                .scan(PackagePrefixTrie.parse("com.example"))
+                .stream()
+                .map(ClasspathScanner.ClassEntry::getName)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(
+                "com.example.api.UserController",
+                "com.example.api.UserController$Inner"), names);
+    }
+
+    // --- helpers ---
+
+    private static void touch(Path path) throws Exception {
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[0]);
+    }
+}
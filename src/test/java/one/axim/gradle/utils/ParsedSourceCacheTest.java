@@ -0,0 +1,84 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParsedSourceCacheTest {
+
+    @TempDir
+    Path dir;
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    @Test
+    void testHitUntilFileChanges() throws Exception {
+        File file = write("UserDto.java", "/** 사용자 */\npublic class UserDto {}\n");
+        ParsedSourceCache cache = new ParsedSourceCache(16);
+
+        JavaSourceParser first = cache.get(file, this::parse);
+        assertSame(first, cache.get(file, this::parse));
+        assertEquals("사용자", first.getClassComment());
+
+        // 내용과 수정 시각이 바뀌면 다시 파싱한다
+        write("UserDto.java", "/** 회원 */\npublic class UserDto {}\n");
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(file.lastModified() + 2000));
+        assertEquals("회원", cache.get(file, this::parse).getClassComment());
+
+        assertEquals(2, parsed.get());
+        ParsedSourceCache.Stats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() throws Exception {
+        File a = write("A.java", "public class A {}\n");
+        File b = write("B.java", "public class B {}\n");
+        File c = write("C.java", "public class C {}\n");
+        ParsedSourceCache cache = new ParsedSourceCache(2);
+        ParsedSourceCache.Stats before = cache.stats();
+
+        cache.get(a, this::parse);
+        cache.get(b, this::parse);
+        cache.get(a, this::parse);
+        cache.get(c, this::parse);   // B 제거
+        cache.get(a, this::parse);
+        cache.get(b, this::parse);
+
+        ParsedSourceCache.Stats stats = cache.stats().minus(before);
+        assertEquals(2, stats.getHits());
+        assertEquals(4, stats.getMisses());
+        assertEquals(2, stats.getEvictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testFailureNotCached() throws Exception {
+        File missing = dir.resolve("Missing.java").toFile();
+        ParsedSourceCache cache = new ParsedSourceCache(16);
+
+        assertThrows(Exception.class, () -> cache.get(missing, this::parse));
+        assertThrows(Exception.class, () -> cache.get(missing, this::parse));
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.stats().getMisses());
+    }
+
+    private JavaSourceParser parse(File file) throws Exception {
+        parsed.incrementAndGet();
+        return JavaSourceParser.parseUncached(file);
+    }
+
+    private File write(String name, String content) throws Exception {
+        File file = dir.resolve(name).toFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
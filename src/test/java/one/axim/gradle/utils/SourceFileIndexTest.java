@@ -0,0 +1,67 @@
+package one.axim.gradle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SourceFileIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testFindByClassName() throws Exception {
+        File app = dir.resolve("app/src/main/java").toFile();
+        File generated = dir.resolve("app/build/generated/sources/annotationProcessor/java/main").toFile();
+        File user = write(app, "com/example/dto/UserDto.java");
+        File mapper = write(generated, "com/example/dto/UserDtoMapper.java");
+        write(app, "com/example/dto/package-info.java");
+        write(app, "com/example/dto/messages.properties");
+
+        SourceFileIndex index = new SourceFileIndex(List.of(app, generated));
+        assertEquals(user, index.find("com.example.dto.UserDto"));
+        assertEquals(mapper, index.find("com.example.dto.UserDtoMapper"));
+        assertNull(index.find("com.example.dto.OrderDto"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testFirstRootWins() throws Exception {
+        File root = dir.resolve("src/main/java").toFile();
+        File module = dir.resolve("module/src/main/java").toFile();
+        File first = write(root, "com/example/Shared.java");
+        write(module, "com/example/Shared.java");
+
+        SourceFileIndex index = new SourceFileIndex(List.of(root, module));
+        assertEquals(first, index.find("com.example.Shared"));
+    }
+
+    @Test
+    void testFindClass() throws Exception {
+        File root = dir.resolve("src").toFile();
+        File source = write(root, SourceFileIndexTest.class.getName().replace('.', '/') + ".java");
+
+        SourceFileIndex index = new SourceFileIndex(List.of(root));
+        assertEquals(source, index.find(SourceFileIndexTest.class));
+        // 중첩 클래스는 파일 이름과 일치하지 않는다
+        assertNull(index.find(UserDtoStub.class));
+    }
+
+    static class UserDtoStub {
+    }
+
+    private static File write(File root, String relativePath) throws IOException {
+        File file = new File(root, relativePath);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "// source".getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
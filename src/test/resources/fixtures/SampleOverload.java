@@ -0,0 +1,53 @@
+package com.example.fixture;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오버로드와 중첩 타입
+ */
+public class SampleOverload {
+
+    /**
+     * 이름으로 조회
+     */
+    public Object find(String name) {
+        return null;
+    }
+
+    /**
+     * 이름 목록으로 조회
+     */
+    public Object find(List<String> names) {
+        return null;
+    }
+
+    /**
+     * 키와 페이지로 조회
+     */
+    public Object find(Map.Entry<String, Long> key, int... pages) {
+        return null;
+    }
+
+    /**
+     * 주문 항목
+     */
+    public static class Item {
+
+        /**
+         * 수량
+         */
+        private int quantity;
+
+        /**
+         * 항목 상태
+         */
+        public enum State {
+            /**
+             * 준비 중
+             */
+            READY,
+            DONE
+        }
+    }
+}